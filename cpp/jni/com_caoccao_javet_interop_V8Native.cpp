@@ -74,12 +74,26 @@ namespace Javet {
 		static std::unique_ptr<V8Platform> GlobalV8Platform;
 #endif
 
+		static jclass jclassV8CompileOptions;
+		static jmethodID jmethodIDV8CompileOptionsGetCachedData;
+		static jmethodID jmethodIDV8CompileOptionsIsProduceCachedData;
+		static jmethodID jmethodIDV8CompileOptionsSetCachedDataRejected;
+		static jmethodID jmethodIDV8CompileOptionsSetProducedCachedData;
+
+		static jclass jclassDoubleArray;
+		static jclass jclassIntArray;
+		static jclass jclassString;
+		static jclass jclassV8Value;
+
 		static jclass jclassV8ValueInteger;
 		static jmethodID jmethodIDV8ValueIntegerToPrimitive;
 
 		static jclass jclassV8ValueString;
 		static jmethodID jmethodIDV8ValueStringToPrimitive;
 
+		static jclass jclassV8ValueReference;
+		static jmethodID jmethodIDV8ValueReferenceGetHandle;
+
 		void Dispose() {
 			v8::V8::Dispose();
 			v8::V8::ShutdownPlatform();
@@ -93,12 +107,26 @@ namespace Javet {
 		void Initialize(JNIEnv* jniEnv, JavaVM* javaVM) {
 			GlobalJavaVM = javaVM;
 
+			jclassV8CompileOptions = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("com/caoccao/javet/interop/V8CompileOptions"));
+			jmethodIDV8CompileOptionsGetCachedData = jniEnv->GetMethodID(jclassV8CompileOptions, "getCachedData", "()[B");
+			jmethodIDV8CompileOptionsIsProduceCachedData = jniEnv->GetMethodID(jclassV8CompileOptions, "isProduceCachedData", "()Z");
+			jmethodIDV8CompileOptionsSetCachedDataRejected = jniEnv->GetMethodID(jclassV8CompileOptions, "setCachedDataRejected", "(Z)Lcom/caoccao/javet/interop/V8CompileOptions;");
+			jmethodIDV8CompileOptionsSetProducedCachedData = jniEnv->GetMethodID(jclassV8CompileOptions, "setProducedCachedData", "([B)Lcom/caoccao/javet/interop/V8CompileOptions;");
+
+			jclassDoubleArray = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("[D"));
+			jclassIntArray = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("[I"));
+			jclassString = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("java/lang/String"));
+			jclassV8Value = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("com/caoccao/javet/values/V8Value"));
+
 			jclassV8ValueInteger = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("com/caoccao/javet/values/primitive/V8ValueInteger"));
 			jmethodIDV8ValueIntegerToPrimitive = jniEnv->GetMethodID(jclassV8ValueInteger, JAVA_METHOD_TO_PRIMITIVE, "()I");
 
 			jclassV8ValueString = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("com/caoccao/javet/values/primitive/V8ValueString"));
 			jmethodIDV8ValueStringToPrimitive = jniEnv->GetMethodID(jclassV8ValueString, JAVA_METHOD_TO_PRIMITIVE, "()Ljava/lang/String;");
 
+			jclassV8ValueReference = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("com/caoccao/javet/values/reference/V8ValueReference"));
+			jmethodIDV8ValueReferenceGetHandle = jniEnv->GetMethodID(jclassV8ValueReference, JAVA_METHOD_AND_SIGNATURE_GET_HANDLE);
+
 			LOG_INFO("V8::Initialize() begins.");
 			//v8::V8::InitializeICU();
 #ifdef ENABLE_NODE
@@ -137,6 +165,212 @@ namespace Javet {
 			v8ValueReference->Close(jniEnv);
 			delete v8ValueReference;
 		}
+
+		/*
+		The references filled into a value array are not registered on the Java side yet,
+		so they have to be released natively when the array is abandoned by an exception.
+		*/
+		void ReleaseReferences(JNIEnv* jniEnv, jobjectArray mValues, jsize length) {
+			jthrowable pendingException = jniEnv->ExceptionOccurred();
+			jniEnv->ExceptionClear();
+			for (jsize i = 0; i < length; ++i) {
+				jobject mValue = jniEnv->GetObjectArrayElement(mValues, i);
+				if (mValue != nullptr && jniEnv->IsInstanceOf(mValue, jclassV8ValueReference)) {
+					auto v8PersistentDataPointer = TO_V8_PERSISTENT_DATA_POINTER(
+						jniEnv->CallLongMethod(mValue, jmethodIDV8ValueReferenceGetHandle));
+					v8PersistentDataPointer->Reset();
+					delete v8PersistentDataPointer;
+					jniEnv->SetObjectArrayElement(mValues, i, nullptr);
+				}
+				jniEnv->DeleteLocalRef(mValue);
+			}
+			if (pendingException != nullptr) {
+				jniEnv->Throw(pendingException);
+				jniEnv->DeleteLocalRef(pendingException);
+			}
+		}
+
+		/*
+		The code cache goes in and out via V8CompileOptions.
+		The cached data passed to the script source is owned by the script source.
+		*/
+		v8::ScriptCompiler::CachedData* ToCachedData(JNIEnv* jniEnv, jobject& mCompileOptions) {
+			if (mCompileOptions == nullptr) {
+				return nullptr;
+			}
+			jbyteArray mCachedData = (jbyteArray)jniEnv->CallObjectMethod(mCompileOptions, jmethodIDV8CompileOptionsGetCachedData);
+			if (mCachedData == nullptr) {
+				return nullptr;
+			}
+			jsize length = jniEnv->GetArrayLength(mCachedData);
+			auto data = new uint8_t[length];
+			jniEnv->GetByteArrayRegion(mCachedData, 0, length, reinterpret_cast<jbyte*>(data));
+			jniEnv->DeleteLocalRef(mCachedData);
+			return new v8::ScriptCompiler::CachedData(data, length, v8::ScriptCompiler::CachedData::BufferOwned);
+		}
+
+		/*
+		It returns true if the code cache is supposed to be produced,
+		either because it is requested or because the consumed one is rejected.
+		*/
+		bool UpdateCompileOptions(JNIEnv* jniEnv, jobject& mCompileOptions, v8::ScriptCompiler::Source& scriptSource) {
+			if (mCompileOptions == nullptr) {
+				return false;
+			}
+			auto cachedData = scriptSource.GetCachedData();
+			bool rejected = cachedData != nullptr && cachedData->rejected;
+			if (rejected) {
+				jobject mUnused = jniEnv->CallObjectMethod(mCompileOptions, jmethodIDV8CompileOptionsSetCachedDataRejected, true);
+				jniEnv->DeleteLocalRef(mUnused);
+			}
+			return rejected || jniEnv->CallBooleanMethod(mCompileOptions, jmethodIDV8CompileOptionsIsProduceCachedData);
+		}
+
+		void SetProducedCachedData(JNIEnv* jniEnv, jobject& mCompileOptions, v8::ScriptCompiler::CachedData* cachedData) {
+			if (cachedData == nullptr) {
+				return;
+			}
+			jbyteArray mCachedData = jniEnv->NewByteArray(cachedData->length);
+			jniEnv->SetByteArrayRegion(mCachedData, 0, cachedData->length, reinterpret_cast<const jbyte*>(cachedData->data));
+			jobject mUnused = jniEnv->CallObjectMethod(mCompileOptions, jmethodIDV8CompileOptionsSetProducedCachedData, mCachedData);
+			jniEnv->DeleteLocalRef(mUnused);
+			jniEnv->DeleteLocalRef(mCachedData);
+			delete cachedData;
+		}
+
+		/*
+		The primitive getters and setters address the property by a Java string
+		so that no V8 value has to be created on the Java side.
+		*/
+		V8LocalValue GetByStringKey(
+			JNIEnv* jniEnv, const V8LocalContext& v8Context, const V8LocalObject& v8LocalObject,
+			const jint v8ValueType, jstring& key) {
+			auto v8ValueKey = Javet::Converter::ToV8String(jniEnv, v8Context, key);
+			if (v8ValueKey.IsEmpty()) {
+				return V8LocalValue();
+			}
+			if (IS_V8_MAP(v8ValueType)) {
+				return v8LocalObject.As<v8::Map>()->Get(v8Context, v8ValueKey).FromMaybe(V8LocalValue());
+			}
+			return v8LocalObject->Get(v8Context, v8ValueKey).FromMaybe(V8LocalValue());
+		}
+
+		jboolean SetByStringKey(
+			JNIEnv* jniEnv, const V8LocalContext& v8Context, const V8LocalObject& v8LocalObject,
+			const jint v8ValueType, jstring& key, const V8LocalValue v8ValueValue) {
+			auto v8ValueKey = Javet::Converter::ToV8String(jniEnv, v8Context, key);
+			if (v8ValueKey.IsEmpty()) {
+				return false;
+			}
+			if (IS_V8_MAP(v8ValueType)) {
+				auto unusedSet = v8LocalObject.As<v8::Map>()->Set(v8Context, v8ValueKey, v8ValueValue);
+				return true;
+			}
+			return v8LocalObject->Set(v8Context, v8ValueKey, v8ValueValue).FromMaybe(false);
+		}
+
+		/*
+		The batch getters and setters accept a Java string, a V8 integer as an index or any other V8 value as the key.
+		*/
+		V8LocalValue GetByKey(
+			JNIEnv* jniEnv, const V8LocalContext& v8Context, const V8LocalObject& v8LocalObject,
+			const jint v8ValueType, jobject& key) {
+			if (key != nullptr && jniEnv->IsInstanceOf(key, jclassString)) {
+				jstring stringKey = (jstring)key;
+				return GetByStringKey(jniEnv, v8Context, v8LocalObject, v8ValueType, stringKey);
+			}
+			if (IS_V8_MAP(v8ValueType)) {
+				auto v8ValueKey = Javet::Converter::ToV8Value(jniEnv, v8Context, key);
+				return v8LocalObject.As<v8::Map>()->Get(v8Context, v8ValueKey).FromMaybe(V8LocalValue());
+			}
+			if (IS_JAVA_INTEGER(jniEnv, key)) {
+				jint integerKey = TO_JAVA_INTEGER(jniEnv, key);
+				if (integerKey < 0) {
+					return V8LocalValue();
+				}
+				return v8LocalObject->Get(v8Context, (uint32_t)integerKey).FromMaybe(V8LocalValue());
+			}
+			auto v8ValueKey = Javet::Converter::ToV8Value(jniEnv, v8Context, key);
+			return v8LocalObject->Get(v8Context, v8ValueKey).FromMaybe(V8LocalValue());
+		}
+
+		jboolean SetByKey(
+			JNIEnv* jniEnv, const V8LocalContext& v8Context, const V8LocalObject& v8LocalObject,
+			const jint v8ValueType, jobject& key, const V8LocalValue v8ValueValue) {
+			if (key != nullptr && jniEnv->IsInstanceOf(key, jclassString)) {
+				jstring stringKey = (jstring)key;
+				return SetByStringKey(jniEnv, v8Context, v8LocalObject, v8ValueType, stringKey, v8ValueValue);
+			}
+			if (IS_V8_MAP(v8ValueType)) {
+				auto v8ValueKey = Javet::Converter::ToV8Value(jniEnv, v8Context, key);
+				auto unusedSet = v8LocalObject.As<v8::Map>()->Set(v8Context, v8ValueKey, v8ValueValue);
+				return true;
+			}
+			if (IS_JAVA_INTEGER(jniEnv, key)) {
+				jint integerKey = TO_JAVA_INTEGER(jniEnv, key);
+				if (integerKey < 0) {
+					return false;
+				}
+				return v8LocalObject->Set(v8Context, (uint32_t)integerKey, v8ValueValue).FromMaybe(false);
+			}
+			auto v8ValueKey = Javet::Converter::ToV8Value(jniEnv, v8Context, key);
+			return v8LocalObject->Set(v8Context, v8ValueKey, v8ValueValue).FromMaybe(false);
+		}
+
+		uint32_t GetArrayLength(const V8LocalObject& v8LocalObject) {
+			if (v8LocalObject->IsArray()) {
+				return v8LocalObject.As<v8::Array>()->Length();
+			}
+			if (v8LocalObject->IsTypedArray()) {
+				return (uint32_t)v8LocalObject.As<v8::TypedArray>()->Length();
+			}
+			return 0;
+		}
+
+		/*
+		The array is built from int[], double[] or Object[] in one go.
+		Elements of Object[] can be Java strings or V8 values.
+		*/
+		V8LocalArray ToV8Array(JNIEnv* jniEnv, const V8LocalContext& v8Context, jobject& mValues) {
+			auto v8Isolate = v8Context->GetIsolate();
+			if (jniEnv->IsInstanceOf(mValues, jclassIntArray)) {
+				jintArray mIntArray = (jintArray)mValues;
+				jsize length = jniEnv->GetArrayLength(mIntArray);
+				std::vector<jint> intValues(length);
+				jniEnv->GetIntArrayRegion(mIntArray, 0, length, intValues.data());
+				std::vector<V8LocalValue> v8Values(length);
+				for (jsize i = 0; i < length; ++i) {
+					v8Values[i] = v8::Integer::New(v8Isolate, intValues[i]);
+				}
+				return v8::Array::New(v8Isolate, v8Values.data(), length);
+			}
+			if (jniEnv->IsInstanceOf(mValues, jclassDoubleArray)) {
+				jdoubleArray mDoubleArray = (jdoubleArray)mValues;
+				jsize length = jniEnv->GetArrayLength(mDoubleArray);
+				std::vector<jdouble> doubleValues(length);
+				jniEnv->GetDoubleArrayRegion(mDoubleArray, 0, length, doubleValues.data());
+				std::vector<V8LocalValue> v8Values(length);
+				for (jsize i = 0; i < length; ++i) {
+					v8Values[i] = v8::Number::New(v8Isolate, doubleValues[i]);
+				}
+				return v8::Array::New(v8Isolate, v8Values.data(), length);
+			}
+			jobjectArray mObjectArray = (jobjectArray)mValues;
+			jsize length = jniEnv->GetArrayLength(mObjectArray);
+			std::vector<V8LocalValue> v8Values(length);
+			for (jsize i = 0; i < length; ++i) {
+				jobject mValue = jniEnv->GetObjectArrayElement(mObjectArray, i);
+				if (mValue != nullptr && jniEnv->IsInstanceOf(mValue, jclassString)) {
+					jstring mStringValue = (jstring)mValue;
+					v8Values[i] = Javet::Converter::ToV8String(jniEnv, v8Context, mStringValue);
+				}
+				else {
+					v8Values[i] = Javet::Converter::ToV8Value(jniEnv, v8Context, mValue);
+				}
+				jniEnv->DeleteLocalRef(mValue);
+			}
+			return v8::Array::New(v8Isolate, v8Values.data(), length);
+		}
 	}
 }
 
@@ -238,46 +472,167 @@ JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_closeV8Runtime
 
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_compile
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jstring mScript, jboolean mResultRequired,
-	jstring mResourceName, jint mResourceLineOffset, jint mResourceColumnOffset, jint mScriptId, jboolean mIsWASM, jboolean mIsModule) {
+	jstring mResourceName, jint mResourceLineOffset, jint mResourceColumnOffset, jint mScriptId, jboolean mIsWASM, jboolean mIsModule,
+	jobject mCompileOptions) {
 	RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
 	V8TryCatch v8TryCatch(v8Runtime->v8Isolate);
 	auto umScript = Javet::Converter::ToV8String(jniEnv, v8Context, mScript);
 	auto scriptOriginPointer = Javet::Converter::ToV8ScriptOringinPointer(
 		jniEnv, v8Context, mResourceName, mResourceLineOffset, mResourceColumnOffset, mScriptId, mIsWASM, mIsModule);
+	auto cachedDataPointer = Javet::V8Native::ToCachedData(jniEnv, mCompileOptions);
+	auto compileOptions = cachedDataPointer == nullptr ? v8::ScriptCompiler::kNoCompileOptions : v8::ScriptCompiler::kConsumeCodeCache;
+	v8::ScriptCompiler::Source scriptSource(umScript, *scriptOriginPointer.get(), cachedDataPointer);
 	if (mIsModule) {
-		v8::ScriptCompiler::Source scriptSource(umScript, *scriptOriginPointer.get());
-		auto maybeLocalCompiledModule = v8::ScriptCompiler::CompileModule(v8Runtime->v8Isolate, &scriptSource);
+		auto maybeLocalCompiledModule = v8::ScriptCompiler::CompileModule(v8Runtime->v8Isolate, &scriptSource, compileOptions);
 		if (v8TryCatch.HasCaught()) {
 			Javet::Exceptions::ThrowJavetCompilationException(jniEnv, v8Context, v8TryCatch);
 		}
-		else if (mResultRequired) {
-			try {
-				return Javet::Converter::ToExternalV8Module(jniEnv, v8Runtime->externalV8Runtime, v8Context, maybeLocalCompiledModule.ToLocalChecked());
+		else if (!maybeLocalCompiledModule.IsEmpty()) {
+			auto compiledModule = maybeLocalCompiledModule.ToLocalChecked();
+			if (Javet::V8Native::UpdateCompileOptions(jniEnv, mCompileOptions, scriptSource)) {
+				Javet::V8Native::SetProducedCachedData(jniEnv, mCompileOptions,
+					v8::ScriptCompiler::CreateCodeCache(compiledModule->GetUnboundModuleScript()));
 			}
-			catch (const std::exception& e) {
-				LOG_ERROR(e.what());
-				Javet::Exceptions::ThrowJavetConverterException(jniEnv, e.what());
+			if (mResultRequired) {
+				try {
+					return Javet::Converter::ToExternalV8Module(jniEnv, v8Runtime->externalV8Runtime, v8Context, compiledModule);
+				}
+				catch (const std::exception& e) {
+					LOG_ERROR(e.what());
+					Javet::Exceptions::ThrowJavetConverterException(jniEnv, e.what());
+				}
 			}
 		}
 	}
 	else {
-		auto maybeLocalCompiledScript = v8::Script::Compile(v8Context, umScript, scriptOriginPointer.get());
+		auto maybeLocalCompiledScript = v8::ScriptCompiler::Compile(v8Context, &scriptSource, compileOptions);
 		if (v8TryCatch.HasCaught()) {
 			Javet::Exceptions::ThrowJavetCompilationException(jniEnv, v8Context, v8TryCatch);
 		}
-		else if (mResultRequired) {
-			try {
-				return Javet::Converter::ToExternalV8Script(jniEnv, v8Runtime->externalV8Runtime, v8Context, maybeLocalCompiledScript.ToLocalChecked());
+		else if (!maybeLocalCompiledScript.IsEmpty()) {
+			auto compiledScript = maybeLocalCompiledScript.ToLocalChecked();
+			if (Javet::V8Native::UpdateCompileOptions(jniEnv, mCompileOptions, scriptSource)) {
+				Javet::V8Native::SetProducedCachedData(jniEnv, mCompileOptions,
+					v8::ScriptCompiler::CreateCodeCache(compiledScript->GetUnboundScript()));
 			}
-			catch (const std::exception& e) {
-				LOG_ERROR(e.what());
-				Javet::Exceptions::ThrowJavetConverterException(jniEnv, e.what());
+			if (mResultRequired) {
+				try {
+					return Javet::Converter::ToExternalV8Script(jniEnv, v8Runtime->externalV8Runtime, v8Context, compiledScript);
+				}
+				catch (const std::exception& e) {
+					LOG_ERROR(e.what());
+					Javet::Exceptions::ThrowJavetConverterException(jniEnv, e.what());
+				}
 			}
 		}
 	}
 	return nullptr;
 }
 
+/*
+The unbound script is not bound to any context,
+so it survives the context reset and is bound to the current context on every execution.
+*/
+JNIEXPORT jlong JNICALL Java_com_caoccao_javet_interop_V8Native_compileUnboundScript
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jstring mScript,
+	jstring mResourceName, jint mResourceLineOffset, jint mResourceColumnOffset, jint mScriptId,
+	jobject mCompileOptions) {
+	RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
+	V8TryCatch v8TryCatch(v8Runtime->v8Isolate);
+	auto umScript = Javet::Converter::ToV8String(jniEnv, v8Context, mScript);
+	auto scriptOriginPointer = Javet::Converter::ToV8ScriptOringinPointer(
+		jniEnv, v8Context, mResourceName, mResourceLineOffset, mResourceColumnOffset, mScriptId, false, false);
+	auto cachedDataPointer = Javet::V8Native::ToCachedData(jniEnv, mCompileOptions);
+	auto compileOptions = cachedDataPointer == nullptr ? v8::ScriptCompiler::kNoCompileOptions : v8::ScriptCompiler::kConsumeCodeCache;
+	v8::ScriptCompiler::Source scriptSource(umScript, *scriptOriginPointer.get(), cachedDataPointer);
+	auto maybeLocalUnboundScript = v8::ScriptCompiler::CompileUnboundScript(v8Runtime->v8Isolate, &scriptSource, compileOptions);
+	if (v8TryCatch.HasCaught()) {
+		Javet::Exceptions::ThrowJavetCompilationException(jniEnv, v8Context, v8TryCatch);
+	}
+	else if (!maybeLocalUnboundScript.IsEmpty()) {
+		auto unboundScript = maybeLocalUnboundScript.ToLocalChecked();
+		if (Javet::V8Native::UpdateCompileOptions(jniEnv, mCompileOptions, scriptSource)) {
+			Javet::V8Native::SetProducedCachedData(jniEnv, mCompileOptions,
+				v8::ScriptCompiler::CreateCodeCache(unboundScript));
+		}
+		return TO_JAVA_LONG(new V8PersistentUnboundScript(v8Runtime->v8Isolate, unboundScript));
+	}
+	return 0;
+}
+
+JNIEXPORT jlong JNICALL Java_com_caoccao_javet_interop_V8Native_createPropertyKeyHandle
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jstring mKey) {
+	RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
+	const uint16_t* unmanagedString = jniEnv->GetStringChars(mKey, nullptr);
+	int length = jniEnv->GetStringLength(mKey);
+	auto maybeLocalString = v8::String::NewFromTwoByte(
+		v8Context->GetIsolate(), unmanagedString, v8::NewStringType::kInternalized, length);
+	jniEnv->ReleaseStringChars(mKey, unmanagedString);
+	if (maybeLocalString.IsEmpty()) {
+		return 0;
+	}
+	return TO_JAVA_LONG(new V8PersistentString(v8Context->GetIsolate(), maybeLocalString.ToLocalChecked()));
+}
+
+/*
+The snapshot blob is created in a dedicated isolate owned by the snapshot creator.
+The bootstrap scripts must not depend on any native callbacks,
+because they cannot be serialized without external references.
+*/
+JNIEXPORT jbyteArray JNICALL Java_com_caoccao_javet_interop_V8Native_createSnapshotBlob
+(JNIEnv* jniEnv, jobject caller, jobjectArray mScripts, jobjectArray mResourceNames) {
+	jbyteArray mSnapshotBlob = nullptr;
+#ifdef ENABLE_NODE
+	Javet::Exceptions::ThrowJavetNotSupportedException(jniEnv, "Snapshot in Node");
+#else
+	bool hasError = false;
+	v8::SnapshotCreator snapshotCreator;
+	auto v8Isolate = snapshotCreator.GetIsolate();
+	{
+		V8HandleScope v8HandleScope(v8Isolate);
+		auto v8LocalContext = v8::Context::New(v8Isolate);
+		{
+			auto v8ContextScope = std::make_unique<V8ContextScope>(v8LocalContext);
+			V8TryCatch v8TryCatch(v8Isolate);
+			jsize length = jniEnv->GetArrayLength(mScripts);
+			for (jsize i = 0; i < length && !hasError; ++i) {
+				jstring mScript = (jstring)jniEnv->GetObjectArrayElement(mScripts, i);
+				jstring mResourceName = (jstring)jniEnv->GetObjectArrayElement(mResourceNames, i);
+				auto umScript = Javet::Converter::ToV8String(jniEnv, v8LocalContext, mScript);
+				auto scriptOriginPointer = Javet::Converter::ToV8ScriptOringinPointer(
+					jniEnv, v8LocalContext, mResourceName, 0, 0, -1, false, false);
+				v8::ScriptCompiler::Source scriptSource(umScript, *scriptOriginPointer.get());
+				auto maybeLocalCompiledScript = v8::ScriptCompiler::Compile(v8LocalContext, &scriptSource);
+				if (v8TryCatch.HasCaught()) {
+					Javet::Exceptions::ThrowJavetCompilationException(jniEnv, v8LocalContext, v8TryCatch);
+					hasError = true;
+				}
+				else if (!maybeLocalCompiledScript.IsEmpty()) {
+					maybeLocalCompiledScript.ToLocalChecked()->Run(v8LocalContext);
+					if (v8TryCatch.HasCaught()) {
+						Javet::Exceptions::ThrowJavetExecutionException(jniEnv, v8LocalContext, v8TryCatch);
+						hasError = true;
+					}
+				}
+				jniEnv->DeleteLocalRef(mScript);
+				if (mResourceName != nullptr) {
+					jniEnv->DeleteLocalRef(mResourceName);
+				}
+			}
+		}
+		snapshotCreator.SetDefaultContext(v8LocalContext);
+	}
+	// The blob has to be created anyway so that the snapshot creator can be disposed.
+	auto v8StartupData = snapshotCreator.CreateBlob(v8::SnapshotCreator::FunctionCodeHandling::kKeep);
+	if (!hasError && v8StartupData.data != nullptr) {
+		mSnapshotBlob = jniEnv->NewByteArray(v8StartupData.raw_size);
+		jniEnv->SetByteArrayRegion(mSnapshotBlob, 0, v8StartupData.raw_size, reinterpret_cast<const jbyte*>(v8StartupData.data));
+	}
+	delete[] v8StartupData.data;
+#endif
+	return mSnapshotBlob;
+}
+
 JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_createV8Inspector
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jobject mV8Inspector) {
 	RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
@@ -287,13 +642,29 @@ JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_createV8Inspector
 
 /*
 Creating multiple isolates allows running JavaScript code in multiple threads, truly parallel.
+The snapshot blob is validated before the runtime is created
+because a runtime without an isolate cannot be deleted safely.
 */
 JNIEXPORT jlong JNICALL Java_com_caoccao_javet_interop_V8Native_createV8Runtime
-(JNIEnv* jniEnv, jobject caller, jstring mGlobalName) {
+(JNIEnv* jniEnv, jobject caller, jstring mGlobalName, jbyteArray mSnapshotBlob) {
 #ifdef ENABLE_NODE
 	auto v8Runtime = new Javet::V8Runtime(Javet::V8Native::GlobalV8Platform.get(), Javet::NodeNative::GlobalNodeArrayBufferAllocator);
 #else
+	std::vector<char> snapshotBlob;
+	if (mSnapshotBlob != nullptr) {
+		jsize length = jniEnv->GetArrayLength(mSnapshotBlob);
+		snapshotBlob.resize(length);
+		jniEnv->GetByteArrayRegion(mSnapshotBlob, 0, length, reinterpret_cast<jbyte*>(snapshotBlob.data()));
+		v8::StartupData v8StartupData;
+		v8StartupData.data = snapshotBlob.data();
+		v8StartupData.raw_size = static_cast<int>(snapshotBlob.size());
+		if (snapshotBlob.empty() || !v8StartupData.IsValid()) {
+			Javet::Exceptions::ThrowJavetNotSupportedException(jniEnv, "Invalid snapshot blob");
+			return 0;
+		}
+	}
 	auto v8Runtime = new Javet::V8Runtime(Javet::V8Native::GlobalV8Platform.get());
+	v8Runtime->SetSnapshotBlob(std::move(snapshotBlob));
 #endif
 	v8Runtime->CreateV8Isolate();
 	auto v8Locker = v8Runtime->GetUniqueV8Locker();
@@ -313,7 +684,12 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_createV8Value
 		v8ValueValue = v8::Object::New(v8Context->GetIsolate());
 	}
 	else if (IS_V8_ARRAY(v8ValueType)) {
-		v8ValueValue = v8::Array::New(v8Context->GetIsolate());
+		if (mContext == nullptr) {
+			v8ValueValue = v8::Array::New(v8Context->GetIsolate());
+		}
+		else {
+			v8ValueValue = Javet::V8Native::ToV8Array(jniEnv, v8Context, mContext);
+		}
 	}
 	else if (IS_V8_ARRAY_BUFFER(v8ValueType)) {
 		if (IS_JAVA_INTEGER(jniEnv, mContext)) {
@@ -378,20 +754,28 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_equals
 
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_execute
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jstring mScript, jboolean mResultRequired,
-	jstring mResourceName, jint mResourceLineOffset, jint mResourceColumnOffset, jint mScriptId, jboolean mIsWASM, jboolean mIsModule) {
+	jstring mResourceName, jint mResourceLineOffset, jint mResourceColumnOffset, jint mScriptId, jboolean mIsWASM, jboolean mIsModule,
+	jobject mCompileOptions) {
 	RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
 	V8TryCatch v8TryCatch(v8Runtime->v8Isolate);
 	auto umScript = Javet::Converter::ToV8String(jniEnv, v8Context, mScript);
 	auto scriptOriginPointer = Javet::Converter::ToV8ScriptOringinPointer(
 		jniEnv, v8Context, mResourceName, mResourceLineOffset, mResourceColumnOffset, mScriptId, mIsWASM, mIsModule);
+	auto cachedDataPointer = Javet::V8Native::ToCachedData(jniEnv, mCompileOptions);
+	auto compileOptions = cachedDataPointer == nullptr ? v8::ScriptCompiler::kNoCompileOptions : v8::ScriptCompiler::kConsumeCodeCache;
+	v8::ScriptCompiler::Source scriptSource(umScript, *scriptOriginPointer.get(), cachedDataPointer);
 	if (mIsModule) {
-		v8::ScriptCompiler::Source scriptSource(umScript, *scriptOriginPointer.get());
-		auto maybeLocalCompiledModule = v8::ScriptCompiler::CompileModule(v8Runtime->v8Isolate, &scriptSource);
+		auto maybeLocalCompiledModule = v8::ScriptCompiler::CompileModule(v8Runtime->v8Isolate, &scriptSource, compileOptions);
 		if (v8TryCatch.HasCaught()) {
 			Javet::Exceptions::ThrowJavetCompilationException(jniEnv, v8Context, v8TryCatch);
 		}
 		else if (!maybeLocalCompiledModule.IsEmpty()) {
 			auto compliedModule = maybeLocalCompiledModule.ToLocalChecked();
+			// The module code cache must be created before the module is instantiated.
+			if (Javet::V8Native::UpdateCompileOptions(jniEnv, mCompileOptions, scriptSource)) {
+				Javet::V8Native::SetProducedCachedData(jniEnv, mCompileOptions,
+					v8::ScriptCompiler::CreateCodeCache(compliedModule->GetUnboundModuleScript()));
+			}
 			auto maybeResult = compliedModule->InstantiateModule(v8Context, Javet::Callback::ModuleResolveCallback);
 			if (maybeResult.FromMaybe(false)) {
 				auto maybeLocalValueResult = compliedModule->Evaluate(v8Context);
@@ -405,24 +789,48 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_execute
 		}
 	}
 	else {
-		auto maybeLocalCompiledScript = v8::Script::Compile(v8Context, umScript, scriptOriginPointer.get());
+		auto maybeLocalCompiledScript = v8::ScriptCompiler::Compile(v8Context, &scriptSource, compileOptions);
 		if (v8TryCatch.HasCaught()) {
 			Javet::Exceptions::ThrowJavetCompilationException(jniEnv, v8Context, v8TryCatch);
 		}
 		else if (!maybeLocalCompiledScript.IsEmpty()) {
 			auto compliedScript = maybeLocalCompiledScript.ToLocalChecked();
+			bool codeCacheRequired = Javet::V8Native::UpdateCompileOptions(jniEnv, mCompileOptions, scriptSource);
 			auto maybeLocalValueResult = compliedScript->Run(v8Context);
 			if (v8TryCatch.HasCaught()) {
 				Javet::Exceptions::ThrowJavetExecutionException(jniEnv, v8Context, v8TryCatch);
 			}
-			else if (mResultRequired) {
-				return v8Runtime->SafeToExternalV8Value(jniEnv, v8Context, maybeLocalValueResult.ToLocalChecked());
+			else {
+				// The script code cache is created after the run so that it covers the lazily compiled functions.
+				if (codeCacheRequired) {
+					Javet::V8Native::SetProducedCachedData(jniEnv, mCompileOptions,
+						v8::ScriptCompiler::CreateCodeCache(compliedScript->GetUnboundScript()));
+				}
+				if (mResultRequired) {
+					return v8Runtime->SafeToExternalV8Value(jniEnv, v8Context, maybeLocalValueResult.ToLocalChecked());
+				}
 			}
 		}
 	}
 	return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime->externalV8Runtime);
 }
 
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_executeUnboundScript
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong unboundScriptHandle, jboolean mResultRequired) {
+	RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
+	V8TryCatch v8TryCatch(v8Runtime->v8Isolate);
+	auto v8PersistentUnboundScriptPointer = TO_V8_PERSISTENT_UNBOUND_SCRIPT_POINTER(unboundScriptHandle);
+	auto boundScript = v8PersistentUnboundScriptPointer->Get(v8Runtime->v8Isolate)->BindToCurrentContext();
+	auto maybeLocalValueResult = boundScript->Run(v8Context);
+	if (v8TryCatch.HasCaught()) {
+		Javet::Exceptions::ThrowJavetExecutionException(jniEnv, v8Context, v8TryCatch);
+	}
+	else if (mResultRequired) {
+		return v8Runtime->SafeToExternalV8Value(jniEnv, v8Context, maybeLocalValueResult.ToLocalChecked());
+	}
+	return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime->externalV8Runtime);
+}
+
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_get
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jobject key) {
 	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
@@ -459,6 +867,118 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_get
 	return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime->externalV8Runtime);
 }
 
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_getBatch
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jobjectArray keys, jobjectArray values) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	jsize length = jniEnv->GetArrayLength(keys);
+	if (length > jniEnv->GetArrayLength(values)) {
+		length = jniEnv->GetArrayLength(values);
+	}
+	for (jsize i = 0; i < length; ++i) {
+		V8HandleScope v8InnerHandleScope(v8Runtime->v8Isolate);
+		jobject key = jniEnv->GetObjectArrayElement(keys, i);
+		auto v8ValueValue = Javet::V8Native::GetByKey(jniEnv, v8Context, v8LocalObject, v8ValueType, key);
+		jniEnv->DeleteLocalRef(key);
+		jobject value = v8ValueValue.IsEmpty()
+			? Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime->externalV8Runtime)
+			: v8Runtime->SafeToExternalV8Value(jniEnv, v8Context, v8ValueValue);
+		if (jniEnv->ExceptionCheck()) {
+			Javet::V8Native::ReleaseReferences(jniEnv, values, i);
+			return;
+		}
+		jniEnv->SetObjectArrayElement(values, i, value);
+		jniEnv->DeleteLocalRef(value);
+	}
+}
+
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_getBatchByIndex
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jintArray indices, jobjectArray values) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	jsize length = jniEnv->GetArrayLength(indices);
+	if (length > jniEnv->GetArrayLength(values)) {
+		length = jniEnv->GetArrayLength(values);
+	}
+	std::vector<jint> intIndices(length, 0);
+	jniEnv->GetIntArrayRegion(indices, 0, length, intIndices.data());
+	for (jsize i = 0; i < length; ++i) {
+		V8HandleScope v8InnerHandleScope(v8Runtime->v8Isolate);
+		V8LocalValue v8ValueValue;
+		if (IS_V8_MAP(v8ValueType)) {
+			auto v8ValueKey = v8::Integer::New(v8Runtime->v8Isolate, intIndices[i]);
+			v8ValueValue = v8LocalObject.As<v8::Map>()->Get(v8Context, v8ValueKey).FromMaybe(V8LocalValue());
+		}
+		else if (intIndices[i] >= 0) {
+			v8ValueValue = v8LocalObject->Get(v8Context, (uint32_t)intIndices[i]).FromMaybe(V8LocalValue());
+		}
+		jobject value = v8ValueValue.IsEmpty()
+			? Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime->externalV8Runtime)
+			: v8Runtime->SafeToExternalV8Value(jniEnv, v8Context, v8ValueValue);
+		if (jniEnv->ExceptionCheck()) {
+			Javet::V8Native::ReleaseReferences(jniEnv, values, i);
+			return;
+		}
+		jniEnv->SetObjectArrayElement(values, i, value);
+		jniEnv->DeleteLocalRef(value);
+	}
+}
+
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_getBatchDouble
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jobjectArray keys, jdoubleArray values) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	jsize length = jniEnv->GetArrayLength(keys);
+	if (length > jniEnv->GetArrayLength(values)) {
+		length = jniEnv->GetArrayLength(values);
+	}
+	std::vector<jdouble> doubleValues(length, 0);
+	for (jsize i = 0; i < length; ++i) {
+		V8HandleScope v8InnerHandleScope(v8Runtime->v8Isolate);
+		jobject key = jniEnv->GetObjectArrayElement(keys, i);
+		auto v8ValueValue = Javet::V8Native::GetByKey(jniEnv, v8Context, v8LocalObject, v8ValueType, key);
+		jniEnv->DeleteLocalRef(key);
+		if (!v8ValueValue.IsEmpty() && v8ValueValue->IsNumber()) {
+			doubleValues[i] = v8ValueValue->NumberValue(v8Context).FromMaybe(0);
+		}
+	}
+	jniEnv->SetDoubleArrayRegion(values, 0, length, doubleValues.data());
+}
+
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_getBatchInt
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jobjectArray keys, jintArray values) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	jsize length = jniEnv->GetArrayLength(keys);
+	if (length > jniEnv->GetArrayLength(values)) {
+		length = jniEnv->GetArrayLength(values);
+	}
+	std::vector<jint> intValues(length, 0);
+	for (jsize i = 0; i < length; ++i) {
+		V8HandleScope v8InnerHandleScope(v8Runtime->v8Isolate);
+		jobject key = jniEnv->GetObjectArrayElement(keys, i);
+		auto v8ValueValue = Javet::V8Native::GetByKey(jniEnv, v8Context, v8LocalObject, v8ValueType, key);
+		jniEnv->DeleteLocalRef(key);
+		if (!v8ValueValue.IsEmpty() && v8ValueValue->IsNumber()) {
+			intValues[i] = v8ValueValue->Int32Value(v8Context).FromMaybe(0);
+		}
+	}
+	jniEnv->SetIntArrayRegion(values, 0, length, intValues.data());
+}
+
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_getBoolean
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jstring key) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	auto v8ValueValue = Javet::V8Native::GetByStringKey(jniEnv, v8Context, v8LocalObject, v8ValueType, key);
+	return !v8ValueValue.IsEmpty() && v8ValueValue->IsTrue();
+}
+
+JNIEXPORT jdouble JNICALL Java_com_caoccao_javet_interop_V8Native_getDouble
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jstring key) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	auto v8ValueValue = Javet::V8Native::GetByStringKey(jniEnv, v8Context, v8LocalObject, v8ValueType, key);
+	if (!v8ValueValue.IsEmpty() && v8ValueValue->IsNumber()) {
+		return v8ValueValue->NumberValue(v8Context).FromMaybe(0);
+	}
+	return 0;
+}
+
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_getGlobalObject
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle) {
 	RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
@@ -471,6 +991,16 @@ JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_getIdentityHash
 	return v8LocalObject->GetIdentityHash();
 }
 
+JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_getInt
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jstring key) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	auto v8ValueValue = Javet::V8Native::GetByStringKey(jniEnv, v8Context, v8LocalObject, v8ValueType, key);
+	if (!v8ValueValue.IsEmpty() && v8ValueValue->IsNumber()) {
+		return v8ValueValue->Int32Value(v8Context).FromMaybe(0);
+	}
+	return 0;
+}
+
 JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_getLength
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType) {
 	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
@@ -529,6 +1059,16 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_getProperty
 	return Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime->externalV8Runtime);
 }
 
+JNIEXPORT jstring JNICALL Java_com_caoccao_javet_interop_V8Native_getString
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jstring key) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	auto v8ValueValue = Javet::V8Native::GetByStringKey(jniEnv, v8Context, v8LocalObject, v8ValueType, key);
+	if (!v8ValueValue.IsEmpty() && v8ValueValue->IsString()) {
+		return Javet::Converter::ToJavaString(jniEnv, v8Context, v8ValueValue.As<v8::String>());
+	}
+	return nullptr;
+}
+
 JNIEXPORT jstring JNICALL Java_com_caoccao_javet_interop_V8Native_getVersion
 (JNIEnv* jniEnv, jobject caller) {
 	return Javet::Converter::ToJavaString(jniEnv, v8::V8::GetVersion());
@@ -571,15 +1111,29 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_hasOwnPropert
 			auto v8ValueKey = Javet::Converter::ToV8String(jniEnv, v8Context, stringKey);
 			return v8LocalObject->HasOwnProperty(v8Context, v8ValueKey).FromMaybe(false);
 		}
+		else {
+			auto v8ValueKey = Javet::Converter::ToV8Value(jniEnv, v8Context, key);
+			if (v8ValueKey->IsName()) {
+				return v8LocalObject->HasOwnProperty(v8Context, v8ValueKey.As<v8::Name>()).FromMaybe(false);
+			}
+		}
 	}
 	return false;
 }
 
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_invoke
-(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jstring mFunctionName, jboolean mResultRequired, jobjectArray mValues) {
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jobject mFunctionName, jboolean mResultRequired, jobjectArray mValues) {
 	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
 	if (v8LocalObject->IsObject()) {
-		auto v8Function = v8LocalObject->Get(v8Context, Javet::Converter::ToV8String(jniEnv, v8Context, mFunctionName)).ToLocalChecked();
+		V8LocalValue v8ValueFunctionName;
+		if (jniEnv->IsInstanceOf(mFunctionName, Javet::V8Native::jclassString)) {
+			jstring mStringFunctionName = (jstring)mFunctionName;
+			v8ValueFunctionName = Javet::Converter::ToV8String(jniEnv, v8Context, mStringFunctionName);
+		}
+		else {
+			v8ValueFunctionName = Javet::Converter::ToV8Value(jniEnv, v8Context, mFunctionName);
+		}
+		auto v8Function = v8LocalObject->Get(v8Context, v8ValueFunctionName).ToLocalChecked();
 		if (v8Function->IsFunction()) {
 			V8TryCatch v8TryCatch(v8Runtime->v8Isolate);
 			V8MaybeLocalValue maybeLocalValueResult;
@@ -788,6 +1342,34 @@ JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_removeReferenceHa
 	delete v8PersistentDataPointer;
 }
 
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_removeReferenceHandles
+(JNIEnv* jniEnv, jobject caller, jlongArray mReferenceHandles) {
+	jsize length = jniEnv->GetArrayLength(mReferenceHandles);
+	if (length > 0) {
+		jlong* referenceHandles = jniEnv->GetLongArrayElements(mReferenceHandles, nullptr);
+		for (jsize i = 0; i < length; ++i) {
+			auto v8PersistentDataPointer = TO_V8_PERSISTENT_DATA_POINTER(referenceHandles[i]);
+			v8PersistentDataPointer->Reset();
+			delete v8PersistentDataPointer;
+		}
+		jniEnv->ReleaseLongArrayElements(mReferenceHandles, referenceHandles, JNI_ABORT);
+	}
+}
+
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_removeUnboundScriptHandles
+(JNIEnv* jniEnv, jobject caller, jlongArray mUnboundScriptHandles) {
+	jsize length = jniEnv->GetArrayLength(mUnboundScriptHandles);
+	if (length > 0) {
+		jlong* unboundScriptHandles = jniEnv->GetLongArrayElements(mUnboundScriptHandles, nullptr);
+		for (jsize i = 0; i < length; ++i) {
+			auto v8PersistentUnboundScriptPointer = TO_V8_PERSISTENT_UNBOUND_SCRIPT_POINTER(unboundScriptHandles[i]);
+			v8PersistentUnboundScriptPointer->Reset();
+			delete v8PersistentUnboundScriptPointer;
+		}
+		jniEnv->ReleaseLongArrayElements(mUnboundScriptHandles, unboundScriptHandles, JNI_ABORT);
+	}
+}
+
 JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_requestGarbageCollectionForTesting
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jboolean fullGC) {
 	RUNTIME_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle);
@@ -860,6 +1442,42 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_set
 	return false;
 }
 
+JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_setBatch
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jobjectArray keys, jobjectArray values) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	jsize length = jniEnv->GetArrayLength(keys);
+	if (length > jniEnv->GetArrayLength(values)) {
+		length = jniEnv->GetArrayLength(values);
+	}
+	jint successCount = 0;
+	for (jsize i = 0; i < length; ++i) {
+		V8HandleScope v8InnerHandleScope(v8Runtime->v8Isolate);
+		jobject key = jniEnv->GetObjectArrayElement(keys, i);
+		jobject value = jniEnv->GetObjectArrayElement(values, i);
+		auto v8ValueValue = Javet::Converter::ToV8Value(jniEnv, v8Context, value);
+		if (Javet::V8Native::SetByKey(jniEnv, v8Context, v8LocalObject, v8ValueType, key, v8ValueValue)) {
+			++successCount;
+		}
+		jniEnv->DeleteLocalRef(key);
+		jniEnv->DeleteLocalRef(value);
+	}
+	return successCount;
+}
+
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_setBoolean
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jstring key, jboolean value) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	return Javet::V8Native::SetByStringKey(
+		jniEnv, v8Context, v8LocalObject, v8ValueType, key, Javet::Converter::ToV8Boolean(v8Context, value));
+}
+
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_setDouble
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jstring key, jdouble value) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	return Javet::V8Native::SetByStringKey(
+		jniEnv, v8Context, v8LocalObject, v8ValueType, key, Javet::Converter::ToV8Double(v8Context, value));
+}
+
 JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_setFlags
 (JNIEnv* jniEnv, jobject caller, jstring flags) {
 	if (flags) {
@@ -870,6 +1488,13 @@ JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_setFlags
 	}
 }
 
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_setInt
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jstring key, jint value) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	return Javet::V8Native::SetByStringKey(
+		jniEnv, v8Context, v8LocalObject, v8ValueType, key, Javet::Converter::ToV8Integer(v8Context, value));
+}
+
 JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_setProperty
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jobject key, jobject value) {
 	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
@@ -889,6 +1514,16 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_setProperty
 	return false;
 }
 
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_setString
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jstring key, jstring value) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	V8LocalValue v8ValueValue = Javet::Converter::ToV8String(jniEnv, v8Context, value);
+	if (v8ValueValue.IsEmpty()) {
+		v8ValueValue = Javet::Converter::ToV8Null(v8Context);
+	}
+	return Javet::V8Native::SetByStringKey(jniEnv, v8Context, v8LocalObject, v8ValueType, key, v8ValueValue);
+}
+
 JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_setWeak
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType, jobject objectReference) {
 	RUNTIME_AND_DATA_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
@@ -919,6 +1554,61 @@ JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_terminateExecutio
 	v8Runtime->v8Isolate->TerminateExecution();
 }
 
+JNIEXPORT jobjectArray JNICALL Java_com_caoccao_javet_interop_V8Native_toArray
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	uint32_t length = Javet::V8Native::GetArrayLength(v8LocalObject);
+	jobjectArray mValues = jniEnv->NewObjectArray((jsize)length, Javet::V8Native::jclassV8Value, nullptr);
+	for (uint32_t i = 0; i < length; ++i) {
+		V8HandleScope v8InnerHandleScope(v8Runtime->v8Isolate);
+		auto v8ValueValue = v8LocalObject->Get(v8Context, i).FromMaybe(V8LocalValue());
+		jobject mValue = v8ValueValue.IsEmpty()
+			? Javet::Converter::ToExternalV8ValueUndefined(jniEnv, v8Runtime->externalV8Runtime)
+			: v8Runtime->SafeToExternalV8Value(jniEnv, v8Context, v8ValueValue);
+		if (jniEnv->ExceptionCheck()) {
+			Javet::V8Native::ReleaseReferences(jniEnv, mValues, (jsize)i);
+			break;
+		}
+		jniEnv->SetObjectArrayElement(mValues, (jsize)i, mValue);
+		jniEnv->DeleteLocalRef(mValue);
+	}
+	return mValues;
+}
+
+JNIEXPORT jdoubleArray JNICALL Java_com_caoccao_javet_interop_V8Native_toDoubleArray
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	uint32_t length = Javet::V8Native::GetArrayLength(v8LocalObject);
+	std::vector<jdouble> doubleValues(length, 0);
+	for (uint32_t i = 0; i < length; ++i) {
+		V8HandleScope v8InnerHandleScope(v8Runtime->v8Isolate);
+		auto v8ValueValue = v8LocalObject->Get(v8Context, i).FromMaybe(V8LocalValue());
+		if (!v8ValueValue.IsEmpty() && v8ValueValue->IsNumber()) {
+			doubleValues[i] = v8ValueValue->NumberValue(v8Context).FromMaybe(0);
+		}
+	}
+	jdoubleArray mValues = jniEnv->NewDoubleArray((jsize)length);
+	jniEnv->SetDoubleArrayRegion(mValues, 0, (jsize)length, doubleValues.data());
+	return mValues;
+}
+
+JNIEXPORT jintArray JNICALL Java_com_caoccao_javet_interop_V8Native_toIntArray
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	uint32_t length = Javet::V8Native::GetArrayLength(v8LocalObject);
+	std::vector<jint> intValues(length, 0);
+	for (uint32_t i = 0; i < length; ++i) {
+		V8HandleScope v8InnerHandleScope(v8Runtime->v8Isolate);
+		auto v8ValueValue = v8LocalObject->Get(v8Context, i).FromMaybe(V8LocalValue());
+		if (!v8ValueValue.IsEmpty() && v8ValueValue->IsNumber()) {
+			intValues[i] = v8ValueValue->Int32Value(v8Context).FromMaybe(0);
+		}
+	}
+	jintArray mValues = jniEnv->NewIntArray((jsize)length);
+	jniEnv->SetIntArrayRegion(mValues, 0, (jsize)length, intValues.data());
+	return mValues;
+}
+
 JNIEXPORT jstring JNICALL Java_com_caoccao_javet_interop_V8Native_toProtoString
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType) {
 	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
@@ -953,6 +1643,23 @@ JNIEXPORT jstring JNICALL Java_com_caoccao_javet_interop_V8Native_toString
 	}
 }
 
+JNIEXPORT jobjectArray JNICALL Java_com_caoccao_javet_interop_V8Native_toStringArray
+(JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle, jlong v8ValueHandle, jint v8ValueType) {
+	RUNTIME_AND_VALUE_HANDLES_TO_OBJECTS_WITH_SCOPE(v8RuntimeHandle, v8ValueHandle);
+	uint32_t length = Javet::V8Native::GetArrayLength(v8LocalObject);
+	jobjectArray mValues = jniEnv->NewObjectArray((jsize)length, Javet::V8Native::jclassString, nullptr);
+	for (uint32_t i = 0; i < length; ++i) {
+		V8HandleScope v8InnerHandleScope(v8Runtime->v8Isolate);
+		auto v8ValueValue = v8LocalObject->Get(v8Context, i).FromMaybe(V8LocalValue());
+		if (!v8ValueValue.IsEmpty() && v8ValueValue->IsString()) {
+			jstring mValue = Javet::Converter::ToJavaString(jniEnv, v8Context, v8ValueValue.As<v8::String>());
+			jniEnv->SetObjectArrayElement(mValues, (jsize)i, mValue);
+			jniEnv->DeleteLocalRef(mValue);
+		}
+	}
+	return mValues;
+}
+
 JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_unlockV8Runtime
 (JNIEnv* jniEnv, jobject caller, jlong v8RuntimeHandle) {
 	auto v8Runtime = Javet::V8Runtime::FromHandle(v8RuntimeHandle);
@@ -74,10 +74,34 @@ JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_closeV8Runtime
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    compile
- * Signature: (JLjava/lang/String;ZLjava/lang/String;IIIZZ)Ljava/lang/Object;
+ * Signature: (JLjava/lang/String;ZLjava/lang/String;IIIZZLcom/caoccao/javet/interop/V8CompileOptions;)Ljava/lang/Object;
  */
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_compile
-  (JNIEnv *, jobject, jlong, jstring, jboolean, jstring, jint, jint, jint, jboolean, jboolean);
+  (JNIEnv *, jobject, jlong, jstring, jboolean, jstring, jint, jint, jint, jboolean, jboolean, jobject);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    compileUnboundScript
+ * Signature: (JLjava/lang/String;Ljava/lang/String;IIILcom/caoccao/javet/interop/V8CompileOptions;)J
+ */
+JNIEXPORT jlong JNICALL Java_com_caoccao_javet_interop_V8Native_compileUnboundScript
+  (JNIEnv *, jobject, jlong, jstring, jstring, jint, jint, jint, jobject);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    createPropertyKeyHandle
+ * Signature: (JLjava/lang/String;)J
+ */
+JNIEXPORT jlong JNICALL Java_com_caoccao_javet_interop_V8Native_createPropertyKeyHandle
+  (JNIEnv *, jobject, jlong, jstring);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    createSnapshotBlob
+ * Signature: ([Ljava/lang/String;[Ljava/lang/String;)[B
+ */
+JNIEXPORT jbyteArray JNICALL Java_com_caoccao_javet_interop_V8Native_createSnapshotBlob
+  (JNIEnv *, jobject, jobjectArray, jobjectArray);
 
 /*
  * Class:     com_caoccao_javet_interop_V8Native
@@ -90,10 +114,10 @@ JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_createV8Inspector
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    createV8Runtime
- * Signature: (Ljava/lang/String;)J
+ * Signature: (Ljava/lang/String;[B)J
  */
 JNIEXPORT jlong JNICALL Java_com_caoccao_javet_interop_V8Native_createV8Runtime
-  (JNIEnv *, jobject, jstring);
+  (JNIEnv *, jobject, jstring, jbyteArray);
 
 /*
  * Class:     com_caoccao_javet_interop_V8Native
@@ -122,10 +146,18 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_equals
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    execute
- * Signature: (JLjava/lang/String;ZLjava/lang/String;IIIZZ)Ljava/lang/Object;
+ * Signature: (JLjava/lang/String;ZLjava/lang/String;IIIZZLcom/caoccao/javet/interop/V8CompileOptions;)Ljava/lang/Object;
  */
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_execute
-  (JNIEnv *, jobject, jlong, jstring, jboolean, jstring, jint, jint, jint, jboolean, jboolean);
+  (JNIEnv *, jobject, jlong, jstring, jboolean, jstring, jint, jint, jint, jboolean, jboolean, jobject);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    executeUnboundScript
+ * Signature: (JJZ)Ljava/lang/Object;
+ */
+JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_executeUnboundScript
+  (JNIEnv *, jobject, jlong, jlong, jboolean);
 
 /*
  * Class:     com_caoccao_javet_interop_V8Native
@@ -135,6 +167,54 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_execute
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_get
   (JNIEnv *, jobject, jlong, jlong, jint, jobject);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    getBatch
+ * Signature: (JJI[Ljava/lang/Object;[Ljava/lang/Object;)V
+ */
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_getBatch
+  (JNIEnv *, jobject, jlong, jlong, jint, jobjectArray, jobjectArray);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    getBatchByIndex
+ * Signature: (JJI[I[Ljava/lang/Object;)V
+ */
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_getBatchByIndex
+  (JNIEnv *, jobject, jlong, jlong, jint, jintArray, jobjectArray);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    getBatchDouble
+ * Signature: (JJI[Ljava/lang/Object;[D)V
+ */
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_getBatchDouble
+  (JNIEnv *, jobject, jlong, jlong, jint, jobjectArray, jdoubleArray);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    getBatchInt
+ * Signature: (JJI[Ljava/lang/Object;[I)V
+ */
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_getBatchInt
+  (JNIEnv *, jobject, jlong, jlong, jint, jobjectArray, jintArray);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    getBoolean
+ * Signature: (JJILjava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_getBoolean
+  (JNIEnv *, jobject, jlong, jlong, jint, jstring);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    getDouble
+ * Signature: (JJILjava/lang/String;)D
+ */
+JNIEXPORT jdouble JNICALL Java_com_caoccao_javet_interop_V8Native_getDouble
+  (JNIEnv *, jobject, jlong, jlong, jint, jstring);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    getGlobalObject
@@ -151,6 +231,14 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_getGlobalObjec
 JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_getIdentityHash
   (JNIEnv *, jobject, jlong, jlong, jint);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    getInt
+ * Signature: (JJILjava/lang/String;)I
+ */
+JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_getInt
+  (JNIEnv *, jobject, jlong, jlong, jint, jstring);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    getLength
@@ -191,6 +279,14 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_getPropertyNam
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_getProperty
   (JNIEnv *, jobject, jlong, jlong, jint, jobject);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    getString
+ * Signature: (JJILjava/lang/String;)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_com_caoccao_javet_interop_V8Native_getString
+  (JNIEnv *, jobject, jlong, jlong, jint, jstring);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    getVersion
@@ -218,10 +314,10 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_hasOwnPropert
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    invoke
- * Signature: (JJILjava/lang/String;Z[Ljava/lang/Object;)Ljava/lang/Object;
+ * Signature: (JJILjava/lang/Object;Z[Ljava/lang/Object;)Ljava/lang/Object;
  */
 JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_invoke
-  (JNIEnv *, jobject, jlong, jlong, jint, jstring, jboolean, jobjectArray);
+  (JNIEnv *, jobject, jlong, jlong, jint, jobject, jboolean, jobjectArray);
 
 /*
  * Class:     com_caoccao_javet_interop_V8Native
@@ -375,6 +471,22 @@ JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_removeJNIGlobalRe
 JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_removeReferenceHandle
   (JNIEnv *, jobject, jlong, jint);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    removeReferenceHandles
+ * Signature: ([J)V
+ */
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_removeReferenceHandles
+  (JNIEnv *, jobject, jlongArray);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    removeUnboundScriptHandles
+ * Signature: ([J)V
+ */
+JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_removeUnboundScriptHandles
+  (JNIEnv *, jobject, jlongArray);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    requestGarbageCollectionForTesting
@@ -415,6 +527,30 @@ JNIEXPORT jobject JNICALL Java_com_caoccao_javet_interop_V8Native_scriptRun
 JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_set
   (JNIEnv *, jobject, jlong, jlong, jint, jobject, jobject);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    setBatch
+ * Signature: (JJI[Ljava/lang/Object;[Ljava/lang/Object;)I
+ */
+JNIEXPORT jint JNICALL Java_com_caoccao_javet_interop_V8Native_setBatch
+  (JNIEnv *, jobject, jlong, jlong, jint, jobjectArray, jobjectArray);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    setBoolean
+ * Signature: (JJILjava/lang/String;Z)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_setBoolean
+  (JNIEnv *, jobject, jlong, jlong, jint, jstring, jboolean);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    setDouble
+ * Signature: (JJILjava/lang/String;D)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_setDouble
+  (JNIEnv *, jobject, jlong, jlong, jint, jstring, jdouble);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    setFlags
@@ -423,6 +559,14 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_set
 JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_setFlags
   (JNIEnv *, jobject, jstring);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    setInt
+ * Signature: (JJILjava/lang/String;I)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_setInt
+  (JNIEnv *, jobject, jlong, jlong, jint, jstring, jint);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    setProperty
@@ -431,6 +575,14 @@ JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_setFlags
 JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_setProperty
   (JNIEnv *, jobject, jlong, jlong, jint, jobject, jobject);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    setString
+ * Signature: (JJILjava/lang/String;Ljava/lang/String;)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_setString
+  (JNIEnv *, jobject, jlong, jlong, jint, jstring, jstring);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    setWeak
@@ -463,6 +615,30 @@ JNIEXPORT jboolean JNICALL Java_com_caoccao_javet_interop_V8Native_strictEquals
 JNIEXPORT void JNICALL Java_com_caoccao_javet_interop_V8Native_terminateExecution
   (JNIEnv *, jobject, jlong);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    toArray
+ * Signature: (JJI)[Ljava/lang/Object;
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_caoccao_javet_interop_V8Native_toArray
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    toDoubleArray
+ * Signature: (JJI)[D
+ */
+JNIEXPORT jdoubleArray JNICALL Java_com_caoccao_javet_interop_V8Native_toDoubleArray
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    toIntArray
+ * Signature: (JJI)[I
+ */
+JNIEXPORT jintArray JNICALL Java_com_caoccao_javet_interop_V8Native_toIntArray
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    toProtoString
@@ -479,6 +655,14 @@ JNIEXPORT jstring JNICALL Java_com_caoccao_javet_interop_V8Native_toProtoString
 JNIEXPORT jstring JNICALL Java_com_caoccao_javet_interop_V8Native_toString
   (JNIEnv *, jobject, jlong, jlong, jint);
 
+/*
+ * Class:     com_caoccao_javet_interop_V8Native
+ * Method:    toStringArray
+ * Signature: (JJI)[Ljava/lang/String;
+ */
+JNIEXPORT jobjectArray JNICALL Java_com_caoccao_javet_interop_V8Native_toStringArray
+  (JNIEnv *, jobject, jlong, jlong, jint);
+
 /*
  * Class:     com_caoccao_javet_interop_V8Native
  * Method:    unlockV8Runtime
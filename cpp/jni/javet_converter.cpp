@@ -19,7 +19,11 @@
 #include "javet_enums.h"
 #include "javet_logging.h"
 
- // Primitive
+ // Runtime
+#define IS_WRAPPER_RECYCLING_ENABLED(jniEnv, externalV8Runtime) jniEnv->GetBooleanField(externalV8Runtime, jfieldIDV8RuntimeWrapperRecyclingEnabled)
+
+// Primitive
+#define IS_JAVA_PROPERTY_KEY(jniEnv, obj) jniEnv->IsInstanceOf(obj, jclassV8PropertyKey)
 #define IS_JAVA_BOOLEAN(jniEnv, obj) jniEnv->IsInstanceOf(obj, jclassV8ValueBoolean)
 #define IS_JAVA_DOUBLE(jniEnv, obj) jniEnv->IsInstanceOf(obj, jclassV8ValueDouble)
 #define IS_JAVA_INTEGER(jniEnv, obj) jniEnv->IsInstanceOf(obj, jclassV8ValueInteger)
@@ -66,9 +70,15 @@ namespace Javet {
 			jmethodIDV8RuntimeCreateV8ValueLong = jniEnv->GetMethodID(jclassV8Runtime, "createV8ValueLong", "(J)Lcom/caoccao/javet/values/primitive/V8ValueLong;");
 			jmethodIDV8RuntimeCreateV8ValueNull = jniEnv->GetMethodID(jclassV8Runtime, "createV8ValueNull", "()Lcom/caoccao/javet/values/primitive/V8ValueNull;");
 			jmethodIDV8RuntimeCreateV8ValueUndefined = jniEnv->GetMethodID(jclassV8Runtime, "createV8ValueUndefined", "()Lcom/caoccao/javet/values/primitive/V8ValueUndefined;");
+			jmethodIDV8RuntimeObtainV8ValueObject = jniEnv->GetMethodID(jclassV8Runtime, "obtainV8ValueObject", "(J)Lcom/caoccao/javet/values/reference/V8ValueObject;");
+			jfieldIDV8RuntimeWrapperRecyclingEnabled = jniEnv->GetFieldID(jclassV8Runtime, "wrapperRecyclingEnabled", "Z");
 
 			// Primitive
 
+			jclassV8PropertyKey = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("com/caoccao/javet/interop/V8PropertyKey"));
+			jmethodIDV8PropertyKeyGetHandle = jniEnv->GetMethodID(jclassV8PropertyKey, JAVA_METHOD_AND_SIGNATURE_GET_HANDLE);
+			jmethodIDV8PropertyKeyToPrimitive = jniEnv->GetMethodID(jclassV8PropertyKey, JAVA_METHOD_TO_PRIMITIVE, "()Ljava/lang/String;");
+
 			jclassV8ValueBoolean = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("com/caoccao/javet/values/primitive/V8ValueBoolean"));
 			jmethodIDV8ValueBooleanConstructor = jniEnv->GetMethodID(jclassV8ValueBoolean, "<init>", "(Z)V");
 			jmethodIDV8ValueBooleanToPrimitive = jniEnv->GetMethodID(jclassV8ValueBoolean, JAVA_METHOD_TO_PRIMITIVE, "()Z");
@@ -350,7 +360,15 @@ namespace Javet {
 #endif
 			// Object needs to be the last one.
 			if (v8Value->IsObject()) {
-				return jniEnv->NewObject(jclassV8ValueObject, jmethodIDV8ValueObjectConstructor, ToV8PersistentObjectReference(v8Context, v8Value));
+				auto v8PersistentObjectReference = ToV8PersistentObjectReference(v8Context, v8Value);
+				if (IS_WRAPPER_RECYCLING_ENABLED(jniEnv, externalV8Runtime)) {
+					// The recycled wrapper is returned if there is one. Otherwise, a new wrapper is created.
+					jobject mV8ValueObject = jniEnv->CallObjectMethod(externalV8Runtime, jmethodIDV8RuntimeObtainV8ValueObject, v8PersistentObjectReference);
+					if (mV8ValueObject != nullptr) {
+						return mV8ValueObject;
+					}
+				}
+				return jniEnv->NewObject(jclassV8ValueObject, jmethodIDV8ValueObjectConstructor, v8PersistentObjectReference);
 			}
 			// Something is wrong. It defaults to toString().
 			return ToExternalV8ValuePrimitive(jniEnv, jclassV8ValueUnknown, jmethodIDV8ValueUnknownConstructor, v8Context, v8Value);
@@ -407,6 +425,15 @@ namespace Javet {
 				jstring stringObject = (jstring)jniEnv->CallObjectMethod(obj, jmethodIDV8ValueStringToPrimitive);
 				return ToV8String(jniEnv, v8Context, stringObject);
 			}
+			else if (IS_JAVA_PROPERTY_KEY(jniEnv, obj)) {
+				// The internalized string is reused unless the key has been released.
+				jlong handle = jniEnv->CallLongMethod(obj, jmethodIDV8PropertyKeyGetHandle);
+				if (handle != 0) {
+					return V8LocalString::New(v8Context->GetIsolate(), TO_V8_PERSISTENT_STRING(handle));
+				}
+				jstring stringObject = (jstring)jniEnv->CallObjectMethod(obj, jmethodIDV8PropertyKeyToPrimitive);
+				return ToV8String(jniEnv, v8Context, stringObject);
+			}
 			else if (IS_JAVA_BOOLEAN(jniEnv, obj)) {
 				jboolean booleanObject = jniEnv->CallBooleanMethod(obj, jmethodIDV8ValueBooleanToPrimitive);
 				return ToV8Boolean(v8Context, booleanObject);
@@ -33,9 +33,15 @@ namespace Javet {
 		static jmethodID jmethodIDV8RuntimeCreateV8ValueLong;
 		static jmethodID jmethodIDV8RuntimeCreateV8ValueNull;
 		static jmethodID jmethodIDV8RuntimeCreateV8ValueUndefined;
+		static jmethodID jmethodIDV8RuntimeObtainV8ValueObject;
+		static jfieldID jfieldIDV8RuntimeWrapperRecyclingEnabled;
 
 		// Primitive
 
+		static jclass jclassV8PropertyKey;
+		static jmethodID jmethodIDV8PropertyKeyGetHandle;
+		static jmethodID jmethodIDV8PropertyKeyToPrimitive;
+
 		static jclass jclassV8ValueBoolean;
 		static jmethodID jmethodIDV8ValueBooleanConstructor;
 		static jmethodID jmethodIDV8ValueBooleanToPrimitive;
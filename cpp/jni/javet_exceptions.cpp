@@ -32,6 +32,7 @@ namespace Javet {
 			jclassJavetConverterException = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("com/caoccao/javet/exceptions/JavetConverterException"));
 			jclassJavetExecutionException = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("com/caoccao/javet/exceptions/JavetExecutionException"));
 			jmethodIDJavetExecutionExceptionConstructor = jniEnv->GetMethodID(jclassJavetExecutionException, "<init>", "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;IIIII)V");
+			jclassJavetNotSupportedException = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("com/caoccao/javet/exceptions/JavetNotSupportedException"));
 			jclassJavetTerminatedException = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("com/caoccao/javet/exceptions/JavetTerminatedException"));
 			jmethodIDJavetTerminatedExceptionConstructor = jniEnv->GetMethodID(jclassJavetTerminatedException, "<init>", "(Z)V");
 			jclassJavetUnknownCompilationException = (jclass)jniEnv->NewGlobalRef(jniEnv->FindClass("com/caoccao/javet/exceptions/JavetUnknownCompilationException"));
@@ -122,6 +123,11 @@ namespace Javet {
 			}
 		}
 
+		void ThrowJavetNotSupportedException(JNIEnv* jniEnv, const char* feature) {
+			LOG_ERROR(feature << " is not supported.");
+			jniEnv->ThrowNew(jclassJavetNotSupportedException, feature);
+		}
+
 		void ThrowJavetV8LockConflictException(JNIEnv* jniEnv, const char* message) {
 			jniEnv->ThrowNew(jclassJavetV8LockConflictException, message);
 		}
@@ -28,6 +28,7 @@ namespace Javet {
 		static jclass jclassJavetConverterException;
 		static jclass jclassJavetExecutionException;
 		static jmethodID jmethodIDJavetExecutionExceptionConstructor;
+		static jclass jclassJavetNotSupportedException;
 		static jclass jclassJavetTerminatedException;
 		static jmethodID jmethodIDJavetTerminatedExceptionConstructor;
 		static jclass jclassJavetUnknownCompilationException;
@@ -41,6 +42,7 @@ namespace Javet {
 		void ThrowJavetCompilationException(JNIEnv* jniEnv, const V8LocalContext& v8Context, const V8TryCatch& v8TryCatch);
 		void ThrowJavetConverterException(JNIEnv* jniEnv, const char* message);
 		void ThrowJavetExecutionException(JNIEnv* jniEnv, const V8LocalContext& v8Context, const V8TryCatch& v8TryCatch);
+		void ThrowJavetNotSupportedException(JNIEnv* jniEnv, const char* feature);
 		void ThrowJavetV8LockConflictException(JNIEnv* jniEnv, const char* message);
 	}
 }
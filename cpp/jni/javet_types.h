@@ -49,6 +49,7 @@ using V8LocalScript = v8::Local<v8::Script>;
 using V8LocalSet = v8::Local<v8::Set>;
 using V8LocalString = v8::Local<v8::String>;
 using V8LocalSymbol = v8::Local<v8::Symbol>;
+using V8LocalUnboundScript = v8::Local<v8::UnboundScript>;
 using V8LocalValue = v8::Local<v8::Value>;
 
 // Maybe Local
@@ -71,7 +72,9 @@ using V8PersistentProxy = v8::Persistent<v8::Proxy>;
 using V8PersistentRegExp = v8::Persistent<v8::RegExp>;
 using V8PersistentScript = v8::Persistent<v8::Script>;
 using V8PersistentSet = v8::Persistent<v8::Set>;
+using V8PersistentString = v8::Persistent<v8::String>;
 using V8PersistentSymbol = v8::Persistent<v8::Symbol>;
+using V8PersistentUnboundScript = v8::Persistent<v8::UnboundScript>;
 
 using V8Platform = v8::Platform;
 using V8StringUtf8Value = v8::String::Utf8Value;
@@ -101,5 +104,7 @@ using V8TryCatch = v8::TryCatch;
 #define TO_V8_PERSISTENT_REG_EXP(handle) *reinterpret_cast<V8PersistentRegExp*>(handle)
 #define TO_V8_PERSISTENT_SCRIPT_POINTER(handle) reinterpret_cast<V8PersistentScript*>(handle)
 #define TO_V8_PERSISTENT_SET(handle) *reinterpret_cast<V8PersistentSet*>(handle)
+#define TO_V8_PERSISTENT_STRING(handle) *reinterpret_cast<V8PersistentString*>(handle)
 #define TO_V8_PERSISTENT_SYMBOL(handle) *reinterpret_cast<V8PersistentSymbol*>(handle)
+#define TO_V8_PERSISTENT_UNBOUND_SCRIPT_POINTER(handle) reinterpret_cast<V8PersistentUnboundScript*>(handle)
 
@@ -192,10 +192,24 @@ namespace Javet {
 #else
 		v8::Isolate::CreateParams createParams;
 		createParams.array_buffer_allocator = v8::ArrayBuffer::Allocator::NewDefaultAllocator();
+		if (!snapshotBlob.empty()) {
+			v8StartupData.data = snapshotBlob.data();
+			v8StartupData.raw_size = static_cast<int>(snapshotBlob.size());
+			if (v8StartupData.IsValid()) {
+				createParams.snapshot_blob = &v8StartupData;
+			}
+			else {
+				LOG_ERROR("Snapshot blob is invalid and is ignored.");
+			}
+		}
 		v8Isolate = v8::Isolate::New(createParams);
 #endif
 		}
 
+	void V8Runtime::SetSnapshotBlob(std::vector<char>&& snapshotBlob) {
+		this->snapshotBlob = std::move(snapshotBlob);
+	}
+
 	V8Runtime::~V8Runtime() {
 		CloseV8Context();
 		CloseV8Isolate();
@@ -19,6 +19,7 @@
 
 #include <jni.h>
 #include <mutex>
+#include <vector>
 #include "javet_converter.h"
 #include "javet_exceptions.h"
 #include "javet_logging.h"
@@ -120,6 +121,12 @@ namespace Javet {
 			return nullptr;
 		}
 
+		/*
+		* The snapshot blob is kept by the runtime
+		* because the isolate is created from it again on isolate reset.
+		*/
+		void SetSnapshotBlob(std::vector<char>&& snapshotBlob);
+
 		inline void Unlock() {
 			v8Locker.reset();
 		}
@@ -133,6 +140,8 @@ namespace Javet {
 	private:
 		std::shared_ptr<v8::Locker> v8Locker;
 		V8PersistentContext v8PersistentContext;
+		std::vector<char> snapshotBlob;
+		v8::StartupData v8StartupData;
 #ifdef ENABLE_NODE
 		// The following Node objects must be live as long as V8 context lives.
 		std::shared_ptr<node::ArrayBufferAllocator> nodeArrayBufferAllocator;
@@ -0,0 +1,48 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.exceptions;
+
+import java.text.MessageFormat;
+
+public class JavetEnginePoolException extends JavetException {
+    private JavetEnginePoolException(String message) {
+        super(message);
+    }
+
+    private JavetEnginePoolException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public static JavetEnginePoolException asyncQueueFull(int capacity) {
+        return new JavetEnginePoolException(MessageFormat.format(
+                "Javet engine pool async queue is full with capacity {0}", Integer.toString(capacity)));
+    }
+
+    public static JavetEnginePoolException engineNotAvailable(long timeoutMillis) {
+        return new JavetEnginePoolException(MessageFormat.format(
+                "No Javet engine is available after {0}ms", Long.toString(timeoutMillis)));
+    }
+
+    public static JavetEnginePoolException interrupted(Throwable cause) {
+        return new JavetEnginePoolException("Interrupted while waiting for a Javet engine", cause);
+    }
+
+    public static JavetEnginePoolException poolIsQuitting() {
+        return new JavetEnginePoolException("Javet engine pool is quitting");
+    }
+}
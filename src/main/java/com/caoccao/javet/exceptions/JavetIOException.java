@@ -33,4 +33,8 @@ public class JavetIOException extends JavetException {
         return new JavetIOException(
                 MessageFormat.format("Failed to read {0}", path.toFile().getAbsolutePath()), cause);
     }
+
+    public static JavetIOException failedToWatch(Throwable cause) {
+        return new JavetIOException("Failed to create watch service", cause);
+    }
 }
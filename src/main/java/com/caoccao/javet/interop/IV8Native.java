@@ -42,11 +42,20 @@ public interface IV8Native {
     Object compile(
             long v8RuntimeHandle, String script, boolean returnResult,
             String resourceName, int resourceLineOffset, int resourceColumnOffset,
-            int scriptId, boolean isWASM, boolean isModule);
+            int scriptId, boolean isWASM, boolean isModule, V8CompileOptions compileOptions);
+
+    long compileUnboundScript(
+            long v8RuntimeHandle, String script,
+            String resourceName, int resourceLineOffset, int resourceColumnOffset,
+            int scriptId, V8CompileOptions compileOptions);
+
+    long createPropertyKeyHandle(long v8RuntimeHandle, String key);
+
+    byte[] createSnapshotBlob(String[] scripts, String[] resourceNames);
 
     void createV8Inspector(long v8RuntimeHandle, Object v8Inspector);
 
-    long createV8Runtime(String globalName);
+    long createV8Runtime(String globalName, byte[] snapshotBlob);
 
     Object createV8Value(long v8RuntimeHandle, int v8ValueType, Object context);
 
@@ -57,14 +66,30 @@ public interface IV8Native {
     Object execute(
             long v8RuntimeHandle, String script, boolean returnResult,
             String resourceName, int resourceLineOffset, int resourceColumnOffset,
-            int scriptId, boolean isWASM, boolean isModule);
+            int scriptId, boolean isWASM, boolean isModule, V8CompileOptions compileOptions);
+
+    Object executeUnboundScript(long v8RuntimeHandle, long unboundScriptHandle, boolean returnResult);
 
     Object get(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object key);
 
+    void getBatch(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object[] keys, Object[] values);
+
+    void getBatchByIndex(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, int[] indices, Object[] values);
+
+    void getBatchDouble(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object[] keys, double[] values);
+
+    void getBatchInt(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object[] keys, int[] values);
+
+    boolean getBoolean(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key);
+
+    double getDouble(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key);
+
     Object getGlobalObject(long v8RuntimeHandle);
 
     int getIdentityHash(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
 
+    int getInt(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key);
+
     int getLength(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
 
     int getSize(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
@@ -75,6 +100,8 @@ public interface IV8Native {
 
     Object getProperty(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object key);
 
+    String getString(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key);
+
     String getVersion();
 
     boolean has(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object value);
@@ -83,7 +110,7 @@ public interface IV8Native {
 
     Object invoke(
             long v8RuntimeHandle, long v8ValueHandle, int v8ValueType,
-            String functionName, boolean returnResult, Object[] values);
+            Object functionName, boolean returnResult, Object[] values);
 
     boolean isDead(long v8RuntimeHandle);
 
@@ -125,6 +152,10 @@ public interface IV8Native {
 
     void removeReferenceHandle(long referenceHandle, int referenceType);
 
+    void removeReferenceHandles(long[] referenceHandles);
+
+    void removeUnboundScriptHandles(long[] unboundScriptHandles);
+
     void requestGarbageCollectionForTesting(long v8RuntimeHandle, boolean fullGC);
 
     void resetV8Context(long v8RuntimeHandle, String globalName);
@@ -135,6 +166,12 @@ public interface IV8Native {
 
     boolean set(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object key, Object value);
 
+    int setBatch(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object[] keys, Object[] values);
+
+    boolean setBoolean(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key, boolean value);
+
+    boolean setDouble(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key, double value);
+
     /**
      * Sets flags.
      * <p>
@@ -145,8 +182,12 @@ public interface IV8Native {
      */
     void setFlags(String flags);
 
+    boolean setInt(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key, int value);
+
     boolean setProperty(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object key, Object value);
 
+    boolean setString(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key, String value);
+
     void setWeak(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object objectReference);
 
     boolean sameValue(long v8RuntimeHandle, long v8ValueHandle1, long v8ValueHandle2);
@@ -155,10 +196,18 @@ public interface IV8Native {
 
     void terminateExecution(long v8RuntimeHandle);
 
+    Object[] toArray(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
+
+    double[] toDoubleArray(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
+
+    int[] toIntArray(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
+
     String toProtoString(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
 
     String toString(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
 
+    String[] toStringArray(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
+
     void unlockV8Runtime(long v8RuntimeHandle);
 
     void v8InspectorSend(long v8RuntimeHandle, String message);
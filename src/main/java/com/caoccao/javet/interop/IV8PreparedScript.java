@@ -0,0 +1,77 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.caoccao.javet.interop;
+
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.values.V8Value;
+import com.caoccao.javet.values.primitive.V8ValuePrimitive;
+
+/**
+ * The interface V8 prepared script.
+ * <p>
+ * The source is compiled once as the body of a function taking the parameter names,
+ * so that the same script can be invoked many times with different arguments.
+ * The arguments are converted by the primitive converter.
+ */
+@SuppressWarnings("unchecked")
+public interface IV8PreparedScript {
+    String[] getParameterNames();
+
+    String getSourceString();
+
+    V8Runtime getV8Runtime();
+
+    <T extends V8Value> T invoke(Object... args) throws JavetException;
+
+    default Boolean invokeBoolean(Object... args) throws JavetException {
+        return invokeObject(args);
+    }
+
+    default Double invokeDouble(Object... args) throws JavetException {
+        return invokeObject(args);
+    }
+
+    default Float invokeFloat(Object... args) throws JavetException {
+        Double result = invokeDouble(args);
+        return result == null ? null : result.floatValue();
+    }
+
+    default Integer invokeInteger(Object... args) throws JavetException {
+        return invokeObject(args);
+    }
+
+    default Long invokeLong(Object... args) throws JavetException {
+        return invokeObject(args);
+    }
+
+    default <R extends Object, T extends V8ValuePrimitive<R>> R invokeObject(Object... args) throws JavetException {
+        try (V8Value v8Value = invoke(args)) {
+            // The result that is not a primitive, e.g. undefined or an object, is mapped to null.
+            if (v8Value instanceof V8ValuePrimitive) {
+                return ((T) v8Value).getValue();
+            }
+        }
+        return null;
+    }
+
+    default String invokeString(Object... args) throws JavetException {
+        return invokeObject(args);
+    }
+
+    void invokeVoid(Object... args) throws JavetException;
+}
@@ -0,0 +1,75 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+package com.caoccao.javet.interop;
+
+/**
+ * The type V8 compile options carries the code cache in and out of compilation.
+ * <p>
+ * If cached data is set, V8 consumes it instead of parsing the source from scratch,
+ * and reports whether it has been rejected, e.g. because the source or the V8 version has changed.
+ * If produce cached data is set, or the cached data is rejected, V8 produces new cached data
+ * after compilation, so that the caller can store it for the next time.
+ */
+public final class V8CompileOptions {
+    private byte[] cachedData;
+    private boolean cachedDataRejected;
+    private boolean produceCachedData;
+    private byte[] producedCachedData;
+
+    public V8CompileOptions() {
+        cachedData = null;
+        cachedDataRejected = false;
+        produceCachedData = false;
+        producedCachedData = null;
+    }
+
+    public byte[] getCachedData() {
+        return cachedData;
+    }
+
+    public byte[] getProducedCachedData() {
+        return producedCachedData;
+    }
+
+    public boolean isCachedDataRejected() {
+        return cachedDataRejected;
+    }
+
+    public boolean isProduceCachedData() {
+        return produceCachedData;
+    }
+
+    public V8CompileOptions setCachedData(byte[] cachedData) {
+        this.cachedData = cachedData;
+        return this;
+    }
+
+    V8CompileOptions setCachedDataRejected(boolean cachedDataRejected) {
+        this.cachedDataRejected = cachedDataRejected;
+        return this;
+    }
+
+    public V8CompileOptions setProduceCachedData(boolean produceCachedData) {
+        this.produceCachedData = produceCachedData;
+        return this;
+    }
+
+    V8CompileOptions setProducedCachedData(byte[] producedCachedData) {
+        this.producedCachedData = producedCachedData;
+        return this;
+    }
+}
@@ -18,6 +18,7 @@
 package com.caoccao.javet.interop;
 
 import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.exceptions.JavetNotSupportedException;
 import com.caoccao.javet.exceptions.JavetV8RuntimeLeakException;
 import com.caoccao.javet.interfaces.IJavetLogger;
 import com.caoccao.javet.utils.JavetDefaultLogger;
@@ -131,7 +132,34 @@ public final class V8Host implements AutoCloseable {
         if (!isLibLoaded()) {
             return null;
         }
-        final long handle = v8Native.createV8Runtime(globalName);
+        return registerV8Runtime(v8Native.createV8Runtime(globalName, null), pooled, globalName);
+    }
+
+    /**
+     * Creates V8 runtime from a snapshot blob built by {@link V8SnapshotBuilder}.
+     * The same blob is used again when the isolate is reset.
+     * Node doesn't support snapshots, so the blob is ignored in Node mode.
+     *
+     * @param <R>          the type parameter
+     * @param pooled       the pooled
+     * @param globalName   the global name
+     * @param snapshotBlob the snapshot blob, null means the default V8 snapshot
+     * @return the V8 runtime
+     * @throws JavetException the javet exception raised if the snapshot blob is invalid
+     */
+    public <R extends V8Runtime> R createV8Runtime(boolean pooled, String globalName, byte[] snapshotBlob)
+            throws JavetException {
+        if (!isLibLoaded()) {
+            return null;
+        }
+        if (snapshotBlob != null && jsRuntimeType.isNode()) {
+            logger.logWarn("Snapshot is not supported by Node and is ignored.");
+            snapshotBlob = null;
+        }
+        return registerV8Runtime(v8Native.createV8Runtime(globalName, snapshotBlob), pooled, globalName);
+    }
+
+    private <R extends V8Runtime> R registerV8Runtime(long handle, boolean pooled, String globalName) {
         isolateCreated = true;
         flags.seal();
         V8Runtime v8Runtime = null;
@@ -145,6 +173,23 @@ public final class V8Host implements AutoCloseable {
         return (R)v8Runtime;
     }
 
+    public V8SnapshotBuilder createV8SnapshotBuilder() {
+        return new V8SnapshotBuilder(this);
+    }
+
+    byte[] createSnapshotBlob(String[] scriptStrings, String[] resourceNames) throws JavetException {
+        if (!isLibLoaded()) {
+            return null;
+        }
+        if (jsRuntimeType.isNode()) {
+            throw new JavetNotSupportedException("Snapshot in Node");
+        }
+        byte[] snapshotBlob = v8Native.createSnapshotBlob(scriptStrings, resourceNames);
+        isolateCreated = true;
+        flags.seal();
+        return snapshotBlob;
+    }
+
     public void closeV8Runtime(V8Runtime v8Runtime) {
         if (!isLibLoaded()) {
             return;
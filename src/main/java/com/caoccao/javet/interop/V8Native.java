@@ -63,13 +63,25 @@ class V8Native implements IV8Native {
     public native Object compile(
             long v8RuntimeHandle, String script, boolean returnResult,
             String resourceName, int resourceLineOffset, int resourceColumnOffset,
-            int scriptId, boolean isWASM, boolean isModule);
+            int scriptId, boolean isWASM, boolean isModule, V8CompileOptions compileOptions);
+
+    @Override
+    public native long compileUnboundScript(
+            long v8RuntimeHandle, String script,
+            String resourceName, int resourceLineOffset, int resourceColumnOffset,
+            int scriptId, V8CompileOptions compileOptions);
+
+    @Override
+    public native long createPropertyKeyHandle(long v8RuntimeHandle, String key);
+
+    @Override
+    public native byte[] createSnapshotBlob(String[] scripts, String[] resourceNames);
 
     @Override
     public native void createV8Inspector(long v8RuntimeHandle, Object v8Inspector);
 
     @Override
-    public native long createV8Runtime(String globalName);
+    public native long createV8Runtime(String globalName, byte[] snapshotBlob);
 
     @Override
     public native Object createV8Value(long v8RuntimeHandle, int v8ValueType, Object context);
@@ -84,17 +96,41 @@ class V8Native implements IV8Native {
     public native Object execute(
             long v8RuntimeHandle, String script, boolean returnResult,
             String resourceName, int resourceLineOffset, int resourceColumnOffset,
-            int scriptId, boolean isWASM, boolean isModule);
+            int scriptId, boolean isWASM, boolean isModule, V8CompileOptions compileOptions);
+
+    @Override
+    public native Object executeUnboundScript(long v8RuntimeHandle, long unboundScriptHandle, boolean returnResult);
 
     @Override
     public native Object get(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object key);
 
+    @Override
+    public native void getBatch(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object[] keys, Object[] values);
+
+    @Override
+    public native void getBatchByIndex(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, int[] indices, Object[] values);
+
+    @Override
+    public native void getBatchDouble(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object[] keys, double[] values);
+
+    @Override
+    public native void getBatchInt(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object[] keys, int[] values);
+
+    @Override
+    public native boolean getBoolean(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key);
+
+    @Override
+    public native double getDouble(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key);
+
     @Override
     public native Object getGlobalObject(long v8RuntimeHandle);
 
     @Override
     public native int getIdentityHash(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
 
+    @Override
+    public native int getInt(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key);
+
     @Override
     public native int getLength(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
 
@@ -110,6 +146,9 @@ class V8Native implements IV8Native {
     @Override
     public native Object getProperty(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object key);
 
+    @Override
+    public native String getString(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key);
+
     @Override
     public native String getVersion();
 
@@ -122,7 +161,7 @@ class V8Native implements IV8Native {
     @Override
     public native Object invoke(
             long v8RuntimeHandle, long v8ValueHandle, int v8ValueType,
-            String functionName, boolean returnResult, Object[] values);
+            Object functionName, boolean returnResult, Object[] values);
 
     @Override
     public native boolean isDead(long v8RuntimeHandle);
@@ -183,6 +222,12 @@ class V8Native implements IV8Native {
     @Override
     public native void removeReferenceHandle(long referenceHandle, int referenceType);
 
+    @Override
+    public native void removeReferenceHandles(long[] referenceHandles);
+
+    @Override
+    public native void removeUnboundScriptHandles(long[] unboundScriptHandles);
+
     @Override
     public native void requestGarbageCollectionForTesting(long v8RuntimeHandle, boolean fullGC);
 
@@ -198,6 +243,15 @@ class V8Native implements IV8Native {
     @Override
     public native boolean set(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object key, Object value);
 
+    @Override
+    public native int setBatch(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object[] keys, Object[] values);
+
+    @Override
+    public native boolean setBoolean(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key, boolean value);
+
+    @Override
+    public native boolean setDouble(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key, double value);
+
     /**
      * Sets flags.
      * <p>
@@ -209,9 +263,15 @@ class V8Native implements IV8Native {
     @Override
     public native void setFlags(String flags);
 
+    @Override
+    public native boolean setInt(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key, int value);
+
     @Override
     public native boolean setProperty(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object key, Object value);
 
+    @Override
+    public native boolean setString(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, String key, String value);
+
     @Override
     public native void setWeak(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType, Object objectReference);
 
@@ -224,12 +284,24 @@ class V8Native implements IV8Native {
     @Override
     public native void terminateExecution(long v8RuntimeHandle);
 
+    @Override
+    public native Object[] toArray(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
+
+    @Override
+    public native double[] toDoubleArray(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
+
+    @Override
+    public native int[] toIntArray(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
+
     @Override
     public native String toProtoString(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
 
     @Override
     public native String toString(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
 
+    @Override
+    public native String[] toStringArray(long v8RuntimeHandle, long v8ValueHandle, int v8ValueType);
+
     @Override
     public native void unlockV8Runtime(long v8RuntimeHandle);
 
@@ -0,0 +1,142 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.caoccao.javet.interop;
+
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.utils.JavetResourceUtils;
+import com.caoccao.javet.utils.converters.IJavetConverter;
+import com.caoccao.javet.utils.converters.JavetPrimitiveConverter;
+import com.caoccao.javet.values.V8Value;
+import com.caoccao.javet.values.reference.V8ValueFunction;
+
+import java.util.Objects;
+
+/**
+ * The type V8 prepared script.
+ * <p>
+ * The compiled function is owned by the V8 runtime. It is released on context reset
+ * or eviction and compiled again transparently on the next invocation.
+ */
+public final class V8PreparedScript implements IV8PreparedScript {
+    private final IJavetConverter converter;
+    private final String key;
+    private final String[] parameterNames;
+    private final String sourceString;
+    private final V8Runtime v8Runtime;
+    private V8ValueFunction v8ValueFunction;
+
+    V8PreparedScript(V8Runtime v8Runtime, String key, String sourceString, String[] parameterNames) {
+        converter = new JavetPrimitiveConverter();
+        this.key = key;
+        this.parameterNames = parameterNames;
+        this.sourceString = sourceString;
+        this.v8Runtime = Objects.requireNonNull(v8Runtime);
+        v8ValueFunction = null;
+    }
+
+    /**
+     * Closes the values created by the converter. The V8 values passed in by the caller are kept open.
+     *
+     * @param args     the args
+     * @param v8Values the V8 values
+     */
+    private static void closeV8Values(Object[] args, V8Value[] v8Values) {
+        for (int i = 0; i < v8Values.length; ++i) {
+            if (v8Values[i] != args[i]) {
+                JavetResourceUtils.safeClose(v8Values[i]);
+            }
+        }
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    @Override
+    public String[] getParameterNames() {
+        return parameterNames.clone();
+    }
+
+    @Override
+    public String getSourceString() {
+        return sourceString;
+    }
+
+    @Override
+    public V8Runtime getV8Runtime() {
+        return v8Runtime;
+    }
+
+    V8ValueFunction getV8ValueFunction() {
+        return v8ValueFunction;
+    }
+
+    void setV8ValueFunction(V8ValueFunction v8ValueFunction) {
+        this.v8ValueFunction = v8ValueFunction;
+    }
+
+    /**
+     * Gets the script string that evaluates to the function.
+     * The parentheses hint V8 to compile the function eagerly.
+     *
+     * @return the script string
+     */
+    String getScriptString() {
+        return "(function(" + String.join(", ", parameterNames) + ") {\n" + sourceString + "\n})";
+    }
+
+    @Override
+    public <T extends V8Value> T invoke(Object... args) throws JavetException {
+        V8Value[] v8Values = toV8Values(args);
+        try {
+            return v8Runtime.invokePreparedScript(this, true, v8Values);
+        } finally {
+            closeV8Values(args, v8Values);
+        }
+    }
+
+    @Override
+    public void invokeVoid(Object... args) throws JavetException {
+        V8Value[] v8Values = toV8Values(args);
+        try {
+            v8Runtime.invokePreparedScript(this, false, v8Values);
+        } finally {
+            closeV8Values(args, v8Values);
+        }
+    }
+
+    public boolean isCompiled() {
+        return v8ValueFunction != null;
+    }
+
+    private V8Value[] toV8Values(Object[] args) throws JavetException {
+        if (args == null || args.length == 0) {
+            return new V8Value[0];
+        }
+        V8Value[] v8Values = new V8Value[args.length];
+        try {
+            for (int i = 0; i < args.length; ++i) {
+                v8Values[i] = converter.toV8Value(v8Runtime, args[i]);
+            }
+        } catch (Throwable t) {
+            closeV8Values(args, v8Values);
+            throw t;
+        }
+        return v8Values;
+    }
+}
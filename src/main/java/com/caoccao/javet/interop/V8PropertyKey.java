@@ -0,0 +1,62 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.interop;
+
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.values.primitive.V8ValuePrimitive;
+
+import java.util.Objects;
+
+/**
+ * The type V8 property key.
+ * <p>
+ * It holds an internalized V8 string created once per isolate so that string keyed
+ * property access doesn't create the V8 string on every call.
+ * The handle is owned by the V8 runtime. Once the key is evicted from the key cache
+ * or the isolate is reset, the key keeps working as a plain string key.
+ */
+@SuppressWarnings("unchecked")
+public final class V8PropertyKey extends V8ValuePrimitive<String> {
+    private long handle;
+
+    V8PropertyKey(String value, long handle) {
+        super(Objects.requireNonNull(value));
+        this.handle = handle;
+    }
+
+    public long getHandle() {
+        return handle;
+    }
+
+    void setHandle(long handle) {
+        this.handle = handle;
+    }
+
+    public boolean isInternalized() {
+        return handle != 0L;
+    }
+
+    @Override
+    public V8PropertyKey toClone() throws JavetException {
+        return this;
+    }
+
+    public String toPrimitive() {
+        return value;
+    }
+}
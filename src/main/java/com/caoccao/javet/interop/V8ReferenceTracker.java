@@ -0,0 +1,80 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.interop;
+
+import com.caoccao.javet.values.reference.IV8ValueReference;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * The type V8 reference tracker.
+ * <p>
+ * It refers to a V8 value reference weakly, so that the handle can be released
+ * once the reference becomes unreachable without being closed.
+ */
+final class V8ReferenceTracker extends WeakReference<IV8ValueReference> {
+    private static final String[] INTERNAL_PACKAGE_PREFIXES = new String[]{
+            "com.caoccao.javet.interop.V8",
+            "com.caoccao.javet.interop.executors.",
+            "com.caoccao.javet.utils.",
+            "com.caoccao.javet.values.",
+            "java.",
+    };
+    private final String callSite;
+    private final long handle;
+
+    V8ReferenceTracker(
+            IV8ValueReference iV8ValueReference,
+            ReferenceQueue<IV8ValueReference> referenceQueue,
+            boolean callSiteRequired) {
+        super(iV8ValueReference, referenceQueue);
+        handle = iV8ValueReference.getHandle();
+        callSite = callSiteRequired ? findCallSite() : null;
+    }
+
+    /**
+     * Gets the first stack frame outside Javet.
+     *
+     * @return the call site
+     */
+    private static String findCallSite() {
+        for (StackTraceElement stackTraceElement : new Throwable().getStackTrace()) {
+            final String className = stackTraceElement.getClassName();
+            boolean internal = false;
+            for (String internalPackagePrefix : INTERNAL_PACKAGE_PREFIXES) {
+                if (className.startsWith(internalPackagePrefix)) {
+                    internal = true;
+                    break;
+                }
+            }
+            if (!internal) {
+                return stackTraceElement.toString();
+            }
+        }
+        return null;
+    }
+
+    String getCallSite() {
+        return callSite;
+    }
+
+    long getHandle() {
+        return handle;
+    }
+}
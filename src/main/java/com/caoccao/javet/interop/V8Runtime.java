@@ -20,27 +20,51 @@ package com.caoccao.javet.interop;
 import com.caoccao.javet.exceptions.*;
 import com.caoccao.javet.interfaces.IJavetClosable;
 import com.caoccao.javet.interfaces.IJavetLogger;
+import com.caoccao.javet.interop.cache.IV8CodeCacheStore;
 import com.caoccao.javet.interop.executors.IV8Executor;
 import com.caoccao.javet.interop.executors.V8PathExecutor;
 import com.caoccao.javet.interop.executors.V8StringExecutor;
 import com.caoccao.javet.utils.JavetCallbackContext;
+import com.caoccao.javet.utils.JavetCodeCacheUtils;
 import com.caoccao.javet.utils.JavetDefaultLogger;
+import com.caoccao.javet.utils.JavetLongObjectHashMap;
 import com.caoccao.javet.values.V8Value;
 import com.caoccao.javet.values.V8ValueReferenceType;
 import com.caoccao.javet.values.primitive.*;
 import com.caoccao.javet.values.reference.*;
+import com.caoccao.javet.values.reference.builtin.V8ValueBuiltInJson;
+import com.caoccao.javet.values.reference.builtin.V8ValueBuiltInPromise;
 
 import java.io.File;
+import java.lang.ref.ReferenceQueue;
 import java.nio.file.Path;
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.Objects;
 import java.util.stream.IntStream;
 
 @SuppressWarnings("unchecked")
 public class V8Runtime implements IJavetClosable, IV8Creatable {
+    public static final int DEFAULT_CODE_CACHE_MIN_SCRIPT_LENGTH = 1024;
+    public static final int DEFAULT_PREPARED_SCRIPT_CACHE_SIZE = 256;
+    /**
+     * The property key cache is disabled by default.
+     */
+    public static final int DEFAULT_PROPERTY_KEY_CACHE_SIZE = 0;
+    /**
+     * The unbound script cache is disabled by default.
+     */
+    public static final long DEFAULT_UNBOUND_SCRIPT_CACHE_SIZE = 0L;
+    public static final int DEFAULT_WRAPPER_POOL_SIZE = 256;
     protected static final long INVALID_HANDLE = 0L;
     protected static final String PROPERTY_DATA_VIEW = "DataView";
     protected static final String DEFAULT_MESSAGE_FORMAT_JAVET_INSPECTOR = "Javet Inspector {0}";
@@ -49,7 +73,12 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
     protected static final int V8_VALUE_NUMBER_LOWER_BOUND = -128; // Inclusive
     protected static final int V8_VALUE_NUMBER_UPPER_BOUND = 128; // Exclusive
 
+    protected Map<String, IV8ValueReference> builtInMap;
     protected V8ValueBoolean[] cachedV8ValueBooleans;
+    protected long codeCacheAcceptedCount;
+    protected int codeCacheMinScriptLength;
+    protected long codeCacheRejectedCount;
+    protected IV8CodeCacheStore codeCacheStore;
     protected V8ValueInteger[] cachedV8ValueIntegers;
     protected V8ValueLong[] cachedV8ValueLongs;
     protected V8ValueNull cachedV8ValueNull;
@@ -57,25 +86,95 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
 
     protected String globalName;
     protected long handle;
+    /**
+     * The number of JNI global refs held by the callback contexts of the functions created by the runtime.
+     */
+    protected int jniGlobalRefCount;
     protected IJavetLogger logger;
+    protected long leakedReferenceCount;
+    protected Map<String, Long> leakedReferenceCallSiteMap;
     protected Map<String, IV8Module> moduleMap;
     protected boolean pooled;
-    protected Map<Long, IV8ValueReference> referenceMap;
+    protected int preparedScriptCacheSize;
+    /**
+     * The prepared scripts holding a compiled function.
+     */
+    protected LinkedHashMap<String, V8PreparedScript> preparedScriptMap;
+    protected int propertyKeyCacheSize;
+    protected LinkedHashMap<String, V8PropertyKey> propertyKeyMap;
+    protected ArrayDeque<V8ValueObject> recycledV8ValueObjects;
+    protected boolean referenceAutoReleaseEnabled;
+    protected boolean referenceLeakTraceEnabled;
+    protected JavetLongObjectHashMap<IV8ValueReference> referenceMap;
+    protected ReferenceQueue<IV8ValueReference> referenceQueue;
+    protected JavetLongObjectHashMap<V8ReferenceTracker> referenceTrackerMap;
+    protected V8Scope scope;
+    /**
+     * The byte budget of the unbound script cache.
+     */
+    protected long unboundScriptCacheSize;
+    protected long unboundScriptCacheUsage;
+    protected long unboundScriptHitCount;
+    protected LinkedHashMap<V8UnboundScriptKey, V8UnboundScript> unboundScriptMap;
     protected V8Host v8Host;
     protected IV8Native v8Native;
     protected V8Inspector v8Inspector;
+    protected V8ValueGlobalObject v8ValueGlobalObject;
+    protected long wrapperAllocatedCount;
+    protected int wrapperPoolSize;
+    /**
+     * The flag is read by the native converter directly.
+     */
+    protected boolean wrapperRecyclingEnabled;
+    protected long wrapperReusedCount;
 
     V8Runtime(V8Host v8Host, long handle, boolean pooled, IV8Native v8Native, String globalName) {
         assert handle != 0;
+        builtInMap = new HashMap<>();
+        codeCacheAcceptedCount = 0;
+        codeCacheMinScriptLength = DEFAULT_CODE_CACHE_MIN_SCRIPT_LENGTH;
+        codeCacheRejectedCount = 0;
+        codeCacheStore = null;
         this.globalName = globalName;
         this.handle = handle;
         logger = new JavetDefaultLogger(getClass().getName());
         moduleMap = new HashMap<>();
         this.pooled = pooled;
-        referenceMap = new TreeMap<>();
+        preparedScriptCacheSize = DEFAULT_PREPARED_SCRIPT_CACHE_SIZE;
+        preparedScriptMap = new LinkedHashMap<>(16, 0.75F, true);
+        propertyKeyCacheSize = DEFAULT_PROPERTY_KEY_CACHE_SIZE;
+        propertyKeyMap = new LinkedHashMap<String, V8PropertyKey>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V8PropertyKey> eldest) {
+                if (size() > propertyKeyCacheSize) {
+                    releasePropertyKey(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+        jniGlobalRefCount = 0;
+        leakedReferenceCount = 0;
+        leakedReferenceCallSiteMap = new HashMap<>();
+        referenceAutoReleaseEnabled = false;
+        referenceLeakTraceEnabled = false;
+        referenceMap = new JavetLongObjectHashMap<>();
+        referenceQueue = new ReferenceQueue<>();
+        recycledV8ValueObjects = new ArrayDeque<>();
+        referenceTrackerMap = new JavetLongObjectHashMap<>();
+        scope = null;
+        unboundScriptCacheSize = DEFAULT_UNBOUND_SCRIPT_CACHE_SIZE;
+        unboundScriptCacheUsage = 0;
+        unboundScriptHitCount = 0;
+        unboundScriptMap = new LinkedHashMap<>(16, 0.75F, true);
         this.v8Host = v8Host;
         this.v8Native = v8Native;
         v8Inspector = null;
+        v8ValueGlobalObject = null;
+        wrapperAllocatedCount = 0;
+        wrapperPoolSize = DEFAULT_WRAPPER_POOL_SIZE;
+        wrapperRecyclingEnabled = false;
+        wrapperReusedCount = 0;
         initializeV8ValueCache();
     }
 
@@ -89,7 +188,16 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
     }
 
     public void addReference(IV8ValueReference iV8ValueReference) {
-        referenceMap.put(iV8ValueReference.getHandle(), iV8ValueReference);
+        if (referenceAutoReleaseEnabled && iV8ValueReference.getType() != V8ValueReferenceType.Module) {
+            releaseLeakedReferences();
+            referenceTrackerMap.put(iV8ValueReference.getHandle(), new V8ReferenceTracker(
+                    iV8ValueReference, referenceQueue, referenceLeakTraceEnabled));
+        } else {
+            referenceMap.put(iV8ValueReference.getHandle(), iV8ValueReference);
+        }
+        if (scope != null) {
+            scope.add(iV8ValueReference);
+        }
     }
 
     public void allowEval(boolean allow) {
@@ -135,34 +243,161 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
 
     public void close(boolean forceClose) throws JavetException {
         if (handle != INVALID_HANDLE && forceClose) {
+            scope = null;
             removeReferences();
             removeModules();
+            removePreparedScripts();
+            removeBuiltIns();
+            removePropertyKeys();
+            removeRecycledWrappers();
+            removeUnboundScripts();
             v8Host.closeV8Runtime(this);
             v8Inspector = null;
             handle = INVALID_HANDLE;
         }
     }
 
+    /**
+     * Closes the scope and the scopes opened within it.
+     *
+     * @param v8Scope the V8 scope
+     * @throws JavetException the javet exception
+     */
+    void closeScope(V8Scope v8Scope) throws JavetException {
+        V8Scope currentScope = scope;
+        while (currentScope != null && currentScope != v8Scope) {
+            currentScope = currentScope.getOuterScope();
+        }
+        if (currentScope == null) {
+            // The scope has been detached by a reset.
+            return;
+        }
+        while (scope != v8Scope) {
+            scope.close();
+        }
+        scope = v8Scope.getOuterScope();
+    }
+
+    /**
+     * Creates a property key holding an internalized V8 string.
+     * <p>
+     * Keys are cached per runtime in LRU order, so the same key is returned
+     * for the same string until it is evicted. An evicted key remains usable as a plain string key.
+     *
+     * @param key the key
+     * @return the V8 property key
+     * @throws JavetException the javet exception
+     */
+    public V8PropertyKey createPropertyKey(String key) throws JavetException {
+        Objects.requireNonNull(key);
+        V8PropertyKey v8PropertyKey = propertyKeyMap.get(key);
+        if (v8PropertyKey == null) {
+            if (propertyKeyCacheSize > 0) {
+                v8PropertyKey = new V8PropertyKey(key, v8Native.createPropertyKeyHandle(handle, key));
+                propertyKeyMap.put(key, v8PropertyKey);
+            } else {
+                v8PropertyKey = new V8PropertyKey(key, INVALID_HANDLE);
+            }
+            decorateV8Value(v8PropertyKey);
+        }
+        return v8PropertyKey;
+    }
+
     public V8Module compileModule(String scriptString, V8ScriptOrigin v8ScriptOrigin, boolean resultRequired) throws JavetException {
+        return compileModule(scriptString, v8ScriptOrigin, null, resultRequired);
+    }
+
+    /**
+     * Compiles module with compile options.
+     * If compile options is null and the code cache store is set, the code cache store is used.
+     *
+     * @param scriptString     the script string
+     * @param v8ScriptOrigin   the V8 script origin
+     * @param v8CompileOptions the V8 compile options
+     * @param resultRequired   the result required
+     * @return the V8 module
+     * @throws JavetException the javet exception
+     */
+    public V8Module compileModule(
+            String scriptString, V8ScriptOrigin v8ScriptOrigin, V8CompileOptions v8CompileOptions,
+            boolean resultRequired) throws JavetException {
         v8ScriptOrigin.setModule(true);
         if (v8ScriptOrigin.getResourceName() == null) {
             throw new JavetV8DataModuleNameEmptyException();
         }
+        String codeCacheKey = null;
+        if (v8CompileOptions == null) {
+            codeCacheKey = getCodeCacheKey(scriptString, v8ScriptOrigin);
+            v8CompileOptions = getCompileOptions(codeCacheKey);
+        }
         V8Module v8Module = decorateV8Value((V8Module) v8Native.compile(
                 handle, scriptString, resultRequired, v8ScriptOrigin.getResourceName(),
                 v8ScriptOrigin.getResourceLineOffset(), v8ScriptOrigin.getResourceColumnOffset(),
-                v8ScriptOrigin.getScriptId(), v8ScriptOrigin.isWasm(), v8ScriptOrigin.isModule()));
+                v8ScriptOrigin.getScriptId(), v8ScriptOrigin.isWasm(), v8ScriptOrigin.isModule(),
+                v8CompileOptions));
+        updateCodeCache(codeCacheKey, v8CompileOptions);
         v8Module.setResourceName(v8ScriptOrigin.getResourceName());
         moduleMap.put(v8Module.getResourceName(), v8Module);
         return v8Module;
     }
 
     public V8Script compileScript(String scriptString, V8ScriptOrigin v8ScriptOrigin, boolean resultRequired) throws JavetException {
+        return compileScript(scriptString, v8ScriptOrigin, null, resultRequired);
+    }
+
+    /**
+     * Compiles script with compile options.
+     * If compile options is null and the code cache store is set, the code cache store is used.
+     *
+     * @param scriptString     the script string
+     * @param v8ScriptOrigin   the V8 script origin
+     * @param v8CompileOptions the V8 compile options
+     * @param resultRequired   the result required
+     * @return the V8 script
+     * @throws JavetException the javet exception
+     */
+    public V8Script compileScript(
+            String scriptString, V8ScriptOrigin v8ScriptOrigin, V8CompileOptions v8CompileOptions,
+            boolean resultRequired) throws JavetException {
         v8ScriptOrigin.setModule(false);
-        return decorateV8Value((V8Script) v8Native.compile(
+        String codeCacheKey = null;
+        if (v8CompileOptions == null) {
+            codeCacheKey = getCodeCacheKey(scriptString, v8ScriptOrigin);
+            v8CompileOptions = getCompileOptions(codeCacheKey);
+        }
+        V8Script v8Script = decorateV8Value((V8Script) v8Native.compile(
                 handle, scriptString, resultRequired, v8ScriptOrigin.getResourceName(),
                 v8ScriptOrigin.getResourceLineOffset(), v8ScriptOrigin.getResourceColumnOffset(),
-                v8ScriptOrigin.getScriptId(), v8ScriptOrigin.isWasm(), v8ScriptOrigin.isModule()));
+                v8ScriptOrigin.getScriptId(), v8ScriptOrigin.isWasm(), v8ScriptOrigin.isModule(),
+                v8CompileOptions));
+        updateCodeCache(codeCacheKey, v8CompileOptions);
+        return v8Script;
+    }
+
+    /**
+     * Compiles the prepared script as a function.
+     * The script goes through {@link #execute(String, V8ScriptOrigin, boolean)},
+     * so the code cache store and the unbound script cache apply on recompilation.
+     *
+     * The cache is trimmed by the caller, so that the function survives its first invocation
+     * even if the cache size is 0.
+     *
+     * @param v8PreparedScript the V8 prepared script
+     * @throws JavetException the javet exception
+     */
+    protected void compilePreparedScript(V8PreparedScript v8PreparedScript) throws JavetException {
+        // The line offset makes the line numbers in errors match the source.
+        V8Value v8Value = execute(v8PreparedScript.getScriptString(), new V8ScriptOrigin(null, -1, 0), true);
+        if (!(v8Value instanceof V8ValueFunction)) {
+            v8Value.close();
+            throw new JavetConverterException("Prepared script must be evaluated to a function");
+        }
+        unregisterReference((IV8ValueReference) v8Value);
+        v8PreparedScript.setV8ValueFunction((V8ValueFunction) v8Value);
+        V8PreparedScript previousV8PreparedScript = preparedScriptMap.put(v8PreparedScript.getKey(), v8PreparedScript);
+        if (previousV8PreparedScript != null && previousV8PreparedScript != v8PreparedScript) {
+            removePreparedScripts(Collections.singletonList(previousV8PreparedScript));
+        }
     }
 
     public boolean containsModule(String resourceName) {
@@ -175,6 +410,38 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
                 handle, V8ValueReferenceType.Array, null));
     }
 
+    public V8ValueArray createV8ValueArray(double[] values) throws JavetException {
+        Objects.requireNonNull(values);
+        return decorateV8Value((V8ValueArray) v8Native.createV8Value(handle, V8ValueReferenceType.Array, values));
+    }
+
+    public V8ValueArray createV8ValueArray(int[] values) throws JavetException {
+        Objects.requireNonNull(values);
+        return decorateV8Value((V8ValueArray) v8Native.createV8Value(handle, V8ValueReferenceType.Array, values));
+    }
+
+    /**
+     * Creates a V8 value array from Java strings and V8 values in one native call.
+     *
+     * @param values the values
+     * @return the V8 value array
+     * @throws JavetException the javet exception
+     */
+    public V8ValueArray createV8ValueArray(Object[] values) throws JavetException {
+        Objects.requireNonNull(values);
+        for (Object value : values) {
+            if (value instanceof V8Value) {
+                decorateV8Value((V8Value) value);
+            }
+        }
+        return decorateV8Value((V8ValueArray) v8Native.createV8Value(handle, V8ValueReferenceType.Array, values));
+    }
+
+    public V8ValueArray createV8ValueArray(String[] values) throws JavetException {
+        Objects.requireNonNull(values);
+        return decorateV8Value((V8ValueArray) v8Native.createV8Value(handle, V8ValueReferenceType.Array, values));
+    }
+
     @Override
     public V8ValueArrayBuffer createV8ValueArrayBuffer(int length) throws JavetException {
         return decorateV8Value((V8ValueArrayBuffer) v8Native.createV8Value(
@@ -190,16 +457,17 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
 
     @Override
     public V8ValueDataView createV8ValueDataView(V8ValueArrayBuffer v8ValueArrayBuffer) throws JavetException {
-        try (V8ValueFunction v8ValueFunction = getGlobalObject().get(PROPERTY_DATA_VIEW)) {
-            return v8ValueFunction.callAsConstructor(v8ValueArrayBuffer);
-        }
+        return getBuiltInConstructor(PROPERTY_DATA_VIEW).callAsConstructor(v8ValueArrayBuffer);
     }
 
     @Override
     public V8ValueFunction createV8ValueFunction(JavetCallbackContext javetCallbackContext) throws JavetException {
         V8ValueFunction v8ValueFunction = decorateV8Value((V8ValueFunction) v8Native.createV8Value(
                 handle, V8ValueReferenceType.Function, javetCallbackContext));
+        ++jniGlobalRefCount;
         v8ValueFunction.setV8CallbackContext(javetCallbackContext);
+        // The JNI global ref of the callback context is only released by closing the function.
+        holdReference(v8ValueFunction);
         return v8ValueFunction;
     }
 
@@ -211,6 +479,22 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
         return decorateV8Value(new V8ValueInteger(integerValue));
     }
 
+    /**
+     * Creates a key for string keyed property access.
+     * The cached property key is returned if the property key cache is enabled,
+     * otherwise a plain V8 value string is returned.
+     *
+     * @param key the key
+     * @return the V8 value key
+     * @throws JavetException the javet exception
+     */
+    public V8Value createV8ValueKey(String key) throws JavetException {
+        if (propertyKeyCacheSize > 0) {
+            return createPropertyKey(key);
+        }
+        return decorateV8Value(new V8ValueString(Objects.requireNonNull(key)));
+    }
+
     @Override
     public V8ValueLong createV8ValueLong(long longValue) throws JavetException {
         if (longValue >= V8_VALUE_NUMBER_LOWER_BOUND && longValue < V8_VALUE_NUMBER_UPPER_BOUND) {
@@ -241,9 +525,8 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
 
     @Override
     public V8ValueTypedArray createV8ValueTypedArray(int type, int length) throws JavetException {
-        try (V8ValueFunction v8ValueFunction = getGlobalObject().get(V8ValueTypedArray.getName(type))) {
-            return v8ValueFunction.callAsConstructor(createV8ValueInteger(length));
-        }
+        return getBuiltInConstructor(V8ValueTypedArray.getName(type)).callAsConstructor(
+                createV8ValueInteger(length));
     }
 
     @Override
@@ -255,6 +538,7 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
         if (v8Value != null) {
             if (v8Value.getV8Runtime() == null) {
                 v8Value.setV8Runtime(this);
+                ++wrapperAllocatedCount;
             } else if (v8Value.getV8Runtime() != this) {
                 throw new JavetV8RuntimeAlreadyRegisteredException();
             }
@@ -272,6 +556,14 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
         return 0;
     }
 
+    protected void decorateV8ValueKeys(Object[] keys) throws JavetException {
+        for (Object key : keys) {
+            if (key instanceof V8Value) {
+                decorateV8Value((V8Value) key);
+            }
+        }
+    }
+
     public boolean delete(IV8ValueObject iV8ValueObject, V8Value key) throws JavetException {
         decorateV8Value(key);
         return v8Native.delete(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), key);
@@ -284,22 +576,140 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
 
     public <T extends V8Value> T execute(
             String scriptString, V8ScriptOrigin v8ScriptOrigin, boolean resultRequired) throws JavetException {
-        return decorateV8Value((T) v8Native.execute(
+        return execute(scriptString, v8ScriptOrigin, null, resultRequired);
+    }
+
+    /**
+     * Executes script with compile options.
+     * If compile options is null and the code cache store is set, the code cache store is used.
+     *
+     * @param <T>              the type parameter
+     * @param scriptString     the script string
+     * @param v8ScriptOrigin   the V8 script origin
+     * @param v8CompileOptions the V8 compile options
+     * @param resultRequired   the result required
+     * @return the result
+     * @throws JavetException the javet exception
+     */
+    public <T extends V8Value> T execute(
+            String scriptString, V8ScriptOrigin v8ScriptOrigin, V8CompileOptions v8CompileOptions,
+            boolean resultRequired) throws JavetException {
+        if (v8CompileOptions == null && isUnboundScriptCacheable(scriptString, v8ScriptOrigin)) {
+            return executeUnboundScript(scriptString, v8ScriptOrigin, resultRequired);
+        }
+        String codeCacheKey = null;
+        if (v8CompileOptions == null) {
+            codeCacheKey = getCodeCacheKey(scriptString, v8ScriptOrigin);
+            v8CompileOptions = getCompileOptions(codeCacheKey);
+        }
+        T result = decorateV8Value((T) v8Native.execute(
                 handle, scriptString, resultRequired, v8ScriptOrigin.getResourceName(),
                 v8ScriptOrigin.getResourceLineOffset(), v8ScriptOrigin.getResourceColumnOffset(),
-                v8ScriptOrigin.getScriptId(), v8ScriptOrigin.isWasm(), v8ScriptOrigin.isModule()));
+                v8ScriptOrigin.getScriptId(), v8ScriptOrigin.isWasm(), v8ScriptOrigin.isModule(),
+                v8CompileOptions));
+        updateCodeCache(codeCacheKey, v8CompileOptions);
+        return result;
+    }
+
+    /**
+     * Executes script via the unbound script cache.
+     * The cached unbound script is bound to the current context instead of being recompiled,
+     * so it survives {@link #resetContext()}.
+     *
+     * @param <T>            the type parameter
+     * @param scriptString   the script string
+     * @param v8ScriptOrigin the V8 script origin
+     * @param resultRequired the result required
+     * @return the result
+     * @throws JavetException the javet exception
+     */
+    protected <T extends V8Value> T executeUnboundScript(
+            String scriptString, V8ScriptOrigin v8ScriptOrigin, boolean resultRequired) throws JavetException {
+        final V8UnboundScriptKey unboundScriptKey = new V8UnboundScriptKey(scriptString, v8ScriptOrigin);
+        V8UnboundScript v8UnboundScript = unboundScriptMap.get(unboundScriptKey);
+        if (v8UnboundScript == null) {
+            String codeCacheKey = getCodeCacheKey(scriptString, v8ScriptOrigin);
+            V8CompileOptions v8CompileOptions = getCompileOptions(codeCacheKey);
+            long unboundScriptHandle = v8Native.compileUnboundScript(
+                    handle, scriptString, v8ScriptOrigin.getResourceName(),
+                    v8ScriptOrigin.getResourceLineOffset(), v8ScriptOrigin.getResourceColumnOffset(),
+                    v8ScriptOrigin.getScriptId(), v8CompileOptions);
+            updateCodeCache(codeCacheKey, v8CompileOptions);
+            v8UnboundScript = new V8UnboundScript(unboundScriptHandle, getUnboundScriptSize(scriptString));
+            unboundScriptMap.put(unboundScriptKey, v8UnboundScript);
+            unboundScriptCacheUsage += v8UnboundScript.getSize();
+            trimUnboundScripts();
+        } else {
+            ++unboundScriptHitCount;
+        }
+        return decorateV8Value((T) v8Native.executeUnboundScript(
+                handle, v8UnboundScript.getHandle(), resultRequired));
     }
 
     public <T extends V8Value> T get(
             IV8ValueObject iV8ValueObject, V8Value key) throws JavetException {
+        decorateV8Value(key);
         return decorateV8Value((T) v8Native.get(
                 handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), key));
     }
 
+    public void getBatch(IV8ValueObject iV8ValueObject, int[] indices, V8Value[] values) throws JavetException {
+        v8Native.getBatchByIndex(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), indices, values);
+        decorateV8Values(values);
+    }
+
+    public void getBatch(IV8ValueObject iV8ValueObject, Object[] keys, V8Value[] values) throws JavetException {
+        decorateV8ValueKeys(keys);
+        v8Native.getBatch(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), keys, values);
+        decorateV8Values(values);
+    }
+
+    public void getBatchDouble(IV8ValueObject iV8ValueObject, Object[] keys, double[] values) throws JavetException {
+        decorateV8ValueKeys(keys);
+        v8Native.getBatchDouble(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), keys, values);
+    }
+
+    public void getBatchInt(IV8ValueObject iV8ValueObject, Object[] keys, int[] values) throws JavetException {
+        decorateV8ValueKeys(keys);
+        v8Native.getBatchInt(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), keys, values);
+    }
+
+    public boolean getBoolean(IV8ValueObject iV8ValueObject, String key) throws JavetException {
+        return v8Native.getBoolean(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), key);
+    }
+
+    public double getDouble(IV8ValueObject iV8ValueObject, String key) throws JavetException {
+        return v8Native.getDouble(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), key);
+    }
+
+    public int getInt(IV8ValueObject iV8ValueObject, String key) throws JavetException {
+        return v8Native.getInt(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), key);
+    }
+
+    public String getString(IV8ValueObject iV8ValueObject, String key) throws JavetException {
+        return v8Native.getString(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), key);
+    }
+
     public IV8Module getModule(String resourceName) {
         return moduleMap.get(resourceName);
     }
 
+    public int getPreparedScriptCacheSize() {
+        return preparedScriptCacheSize;
+    }
+
+    public int getPreparedScriptCount() {
+        return preparedScriptMap.size();
+    }
+
+    public int getPropertyKeyCacheSize() {
+        return propertyKeyCacheSize;
+    }
+
+    public int getPropertyKeyCount() {
+        return propertyKeyMap.size();
+    }
+
     public int getModuleCount() {
         return moduleMap.size();
     }
@@ -320,6 +730,44 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
         return new V8StringExecutor(this, scriptString);
     }
 
+    /**
+     * Sets property key cache size. 0 disables the cache.
+     *
+     * @param propertyKeyCacheSize the property key cache size
+     */
+    public void setPropertyKeyCacheSize(int propertyKeyCacheSize) {
+        assert propertyKeyCacheSize >= 0;
+        this.propertyKeyCacheSize = propertyKeyCacheSize;
+        Iterator<V8PropertyKey> iterator = propertyKeyMap.values().iterator();
+        while (propertyKeyMap.size() > propertyKeyCacheSize && iterator.hasNext()) {
+            releasePropertyKey(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Sets code cache min script length.
+     * Scripts shorter than it are compiled without the code cache store
+     * because looking up the cache costs more than parsing them.
+     *
+     * @param codeCacheMinScriptLength the code cache min script length
+     */
+    public void setCodeCacheMinScriptLength(int codeCacheMinScriptLength) {
+        assert codeCacheMinScriptLength >= 0;
+        this.codeCacheMinScriptLength = codeCacheMinScriptLength;
+    }
+
+    /**
+     * Sets code cache store. Null disables the code cache store.
+     * <p>
+     * The store may be shared by multiple V8 runtimes.
+     *
+     * @param codeCacheStore the code cache store
+     */
+    public void setCodeCacheStore(IV8CodeCacheStore codeCacheStore) {
+        this.codeCacheStore = codeCacheStore;
+    }
+
     public void setGlobalName(String globalName) {
         this.globalName = globalName;
     }
@@ -328,6 +776,45 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
         return v8Native.getIdentityHash(handle, iV8ValueReference.getHandle(), iV8ValueReference.getType());
     }
 
+    public long getCodeCacheAcceptedCount() {
+        return codeCacheAcceptedCount;
+    }
+
+    /**
+     * Gets code cache key which is derived from the script content.
+     *
+     * @param scriptString   the script string
+     * @param v8ScriptOrigin the V8 script origin
+     * @return the code cache key or null if the code cache is not applicable
+     */
+    protected String getCodeCacheKey(String scriptString, V8ScriptOrigin v8ScriptOrigin) {
+        if (codeCacheStore == null || scriptString == null || v8ScriptOrigin.isWasm()
+                || scriptString.length() < codeCacheMinScriptLength) {
+            return null;
+        }
+        return JavetCodeCacheUtils.getKey(scriptString, v8ScriptOrigin.isModule());
+    }
+
+    public int getCodeCacheMinScriptLength() {
+        return codeCacheMinScriptLength;
+    }
+
+    public long getCodeCacheRejectedCount() {
+        return codeCacheRejectedCount;
+    }
+
+    public IV8CodeCacheStore getCodeCacheStore() {
+        return codeCacheStore;
+    }
+
+    protected V8CompileOptions getCompileOptions(String codeCacheKey) {
+        if (codeCacheKey == null) {
+            return null;
+        }
+        byte[] cachedData = codeCacheStore.get(codeCacheKey);
+        return new V8CompileOptions().setCachedData(cachedData).setProduceCachedData(cachedData == null);
+    }
+
     public IJavetLogger getLogger() {
         return logger;
     }
@@ -336,8 +823,75 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
         this.logger = logger;
     }
 
+    /**
+     * Gets the built-in constructor by name, e.g. DataView, Int8Array.
+     * <p>
+     * The constructor is cached per V8 context and is not registered as a reference,
+     * so it must not be closed by the caller.
+     *
+     * @param name the name
+     * @return the built-in constructor
+     * @throws JavetException the javet exception
+     */
+    protected V8ValueFunction getBuiltInConstructor(String name) throws JavetException {
+        V8ValueFunction v8ValueFunction = (V8ValueFunction) builtInMap.get(name);
+        if (v8ValueFunction == null) {
+            v8ValueFunction = getGlobalObject().get(name);
+            unregisterReference(v8ValueFunction);
+            builtInMap.put(name, v8ValueFunction);
+        }
+        return v8ValueFunction;
+    }
+
+    public int getBuiltInCount() {
+        return builtInMap.size();
+    }
+
+    protected long getBuiltInHandle(String name) throws JavetException {
+        V8ValueObject v8ValueObject = getGlobalObject().get(name);
+        unregisterReference(v8ValueObject);
+        return v8ValueObject.getHandle();
+    }
+
+    /**
+     * Gets built-in JSON which is cached per V8 context.
+     *
+     * @return the built-in JSON
+     * @throws JavetException the javet exception
+     */
+    public V8ValueBuiltInJson getBuiltInJson() throws JavetException {
+        V8ValueBuiltInJson v8ValueBuiltInJson = (V8ValueBuiltInJson) builtInMap.get(
+                V8ValueGlobalObject.PROPERTY_JSON);
+        if (v8ValueBuiltInJson == null) {
+            v8ValueBuiltInJson = decorateV8Value(
+                    new V8ValueBuiltInJson(getBuiltInHandle(V8ValueGlobalObject.PROPERTY_JSON)));
+            builtInMap.put(V8ValueGlobalObject.PROPERTY_JSON, v8ValueBuiltInJson);
+        }
+        return v8ValueBuiltInJson;
+    }
+
+    /**
+     * Gets built-in Promise which is cached per V8 context.
+     *
+     * @return the built-in Promise
+     * @throws JavetException the javet exception
+     */
+    public V8ValueBuiltInPromise getBuiltInPromise() throws JavetException {
+        V8ValueBuiltInPromise v8ValueBuiltInPromise = (V8ValueBuiltInPromise) builtInMap.get(
+                V8ValueGlobalObject.PROPERTY_PROMISE);
+        if (v8ValueBuiltInPromise == null) {
+            v8ValueBuiltInPromise = decorateV8Value(
+                    new V8ValueBuiltInPromise(getBuiltInHandle(V8ValueGlobalObject.PROPERTY_PROMISE)));
+            builtInMap.put(V8ValueGlobalObject.PROPERTY_PROMISE, v8ValueBuiltInPromise);
+        }
+        return v8ValueBuiltInPromise;
+    }
+
     public V8ValueGlobalObject getGlobalObject() throws JavetException {
-        return decorateV8Value((V8ValueGlobalObject) v8Native.getGlobalObject(handle));
+        if (v8ValueGlobalObject == null) {
+            v8ValueGlobalObject = decorateV8Value((V8ValueGlobalObject) v8Native.getGlobalObject(handle));
+        }
+        return v8ValueGlobalObject;
     }
 
     public long getHandle() {
@@ -371,8 +925,67 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
                 handle, iV8ValueObject.getHandle(), iV8ValueObject.getType()));
     }
 
+    public int getJNIGlobalRefCount() {
+        return jniGlobalRefCount;
+    }
+
+    /**
+     * Gets the number of references released automatically because they were not closed.
+     *
+     * @return the leaked reference count
+     */
+    public long getLeakedReferenceCount() {
+        return leakedReferenceCount;
+    }
+
+    /**
+     * Gets the leaked reference count per call site.
+     * Call sites are only recorded when reference leak trace is enabled.
+     *
+     * @return the leaked reference count per call site
+     */
+    public Map<String, Long> getLeakedReferenceCallSites() {
+        return new HashMap<>(leakedReferenceCallSiteMap);
+    }
+
+    public V8RuntimeStatistics getStatistics() {
+        return new V8RuntimeStatistics(
+                getReferenceCount(), leakedReferenceCount, propertyKeyMap.size(), builtInMap.size(),
+                wrapperAllocatedCount, wrapperReusedCount,
+                recycledV8ValueObjects.size(),
+                codeCacheAcceptedCount, codeCacheRejectedCount,
+                unboundScriptMap.size(), unboundScriptHitCount);
+    }
+
     public int getReferenceCount() {
-        return referenceMap.size();
+        return referenceMap.size() + referenceTrackerMap.size();
+    }
+
+    public long getUnboundScriptCacheSize() {
+        return unboundScriptCacheSize;
+    }
+
+    public long getUnboundScriptCacheUsage() {
+        return unboundScriptCacheUsage;
+    }
+
+    public int getUnboundScriptCount() {
+        return unboundScriptMap.size();
+    }
+
+    public long getUnboundScriptHitCount() {
+        return unboundScriptHitCount;
+    }
+
+    /**
+     * Gets unbound script size.
+     * The size is estimated by the UTF-16 size of the script string.
+     *
+     * @param scriptString the script string
+     * @return the unbound script size
+     */
+    protected long getUnboundScriptSize(String scriptString) {
+        return scriptString.length() * 2L;
     }
 
     public JSRuntimeType getJSRuntimeType() {
@@ -403,6 +1016,23 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
         return v8Native.has(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), value);
     }
 
+    /**
+     * Holds the reference strongly instead of tracking it for auto release,
+     * because its native resources are not all released with its handle.
+     *
+     * @param iV8ValueReference the V8 value reference
+     */
+    protected void holdReference(IV8ValueReference iV8ValueReference) {
+        final long referenceHandle = iV8ValueReference.getHandle();
+        V8ReferenceTracker v8ReferenceTracker = referenceTrackerMap.get(referenceHandle);
+        if (v8ReferenceTracker != null && v8ReferenceTracker.get() == iV8ValueReference) {
+            referenceTrackerMap.remove(referenceHandle);
+            // A cleared tracker is never enqueued.
+            v8ReferenceTracker.clear();
+            referenceMap.put(referenceHandle, iV8ValueReference);
+        }
+    }
+
     public boolean hasOwnProperty(IV8ValueObject iV8ValueObject, V8Value key) throws JavetException {
         decorateV8Value(key);
         return v8Native.hasOwnProperty(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), key);
@@ -435,7 +1065,24 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
             throws JavetException {
         decorateV8Values(v8Values);
         return decorateV8Value((T) v8Native.invoke(
-                handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), functionName, returnResult, v8Values));
+                handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(),
+                propertyKeyCacheSize > 0 ? createPropertyKey(functionName) : functionName,
+                returnResult, v8Values));
+    }
+
+    <T extends V8Value> T invokePreparedScript(
+            V8PreparedScript v8PreparedScript, boolean resultRequired, V8Value... v8Values) throws JavetException {
+        if (v8PreparedScript.isCompiled()) {
+            // Touch the entry so that it stays in the LRU order.
+            preparedScriptMap.get(v8PreparedScript.getKey());
+        } else {
+            compilePreparedScript(v8PreparedScript);
+        }
+        try {
+            return call(v8PreparedScript.getV8ValueFunction(), null, resultRequired, v8Values);
+        } finally {
+            trimPreparedScripts();
+        }
     }
 
     public boolean isDead() {
@@ -450,10 +1097,28 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
         return pooled;
     }
 
+    public boolean isReferenceAutoReleaseEnabled() {
+        return referenceAutoReleaseEnabled;
+    }
+
+    public boolean isReferenceLeakTraceEnabled() {
+        return referenceLeakTraceEnabled;
+    }
+
     public boolean isWeak(IV8ValueReference iV8ValueReference) {
         return v8Native.isWeak(handle, iV8ValueReference.getHandle(), iV8ValueReference.getType());
     }
 
+    protected boolean isUnboundScriptCacheable(String scriptString, V8ScriptOrigin v8ScriptOrigin) {
+        return unboundScriptCacheSize > 0 && scriptString != null
+                && !v8ScriptOrigin.isModule() && !v8ScriptOrigin.isWasm()
+                && getUnboundScriptSize(scriptString) <= unboundScriptCacheSize;
+    }
+
+    public boolean isWrapperRecyclingEnabled() {
+        return wrapperRecyclingEnabled;
+    }
+
     public <T extends V8Value> T moduleEvaluate(
             IV8Module iV8Module, boolean resultRequired) throws JavetException {
         return decorateV8Value((T) v8Native.moduleEvaluate(
@@ -481,6 +1146,23 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
         return v8Native.moduleInstantiate(handle, iV8Module.getHandle(), iV8Module.getType());
     }
 
+    /**
+     * Obtains a recycled V8 value object. It is called by the native converter.
+     *
+     * @param referenceHandle the reference handle
+     * @return the recycled V8 value object or null if the free list is empty
+     * @throws JavetException the javet exception
+     */
+    protected V8ValueObject obtainV8ValueObject(long referenceHandle) throws JavetException {
+        V8ValueObject v8ValueObject = recycledV8ValueObjects.pollLast();
+        if (v8ValueObject != null) {
+            v8ValueObject.reuse(referenceHandle);
+            v8ValueObject.setV8Runtime(this);
+            ++wrapperReusedCount;
+        }
+        return v8ValueObject;
+    }
+
     public <T extends V8ValuePromise> T promiseCatch(
             IV8ValuePromise iV8ValuePromise, IV8ValueFunction functionHandle) throws JavetException {
         return decorateV8Value((T) v8Native.promiseCatch(
@@ -531,37 +1213,279 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
         moduleMap.remove(iV8Module.getResourceName());
     }
 
+    /**
+     * Prepares the source as the body of a function taking the parameter names.
+     * <p>
+     * The function is compiled once and cached per runtime. After a context reset
+     * or an eviction it is compiled again transparently on the next invocation.
+     *
+     * @param sourceString   the source string as function body
+     * @param parameterNames the parameter names
+     * @return the prepared script
+     * @throws JavetException the javet exception
+     */
+    public IV8PreparedScript prepare(String sourceString, String... parameterNames) throws JavetException {
+        Objects.requireNonNull(sourceString);
+        Objects.requireNonNull(parameterNames);
+        final String key = String.join(",", parameterNames) + "\n" + sourceString;
+        V8PreparedScript v8PreparedScript = preparedScriptMap.get(key);
+        if (v8PreparedScript == null) {
+            v8PreparedScript = new V8PreparedScript(this, key, sourceString, parameterNames.clone());
+            compilePreparedScript(v8PreparedScript);
+            trimPreparedScripts();
+        }
+        return v8PreparedScript;
+    }
+
+    /**
+     * Opens a scope that tracks the references created afterwards.
+     * Closing the scope releases the references still open in one native call.
+     *
+     * @return the V8 scope
+     */
+    public V8Scope openScope() {
+        scope = new V8Scope(this, scope);
+        return scope;
+    }
+
+    /**
+     * Releases the handles of the references that became unreachable without being closed
+     * in one native call. It is called on every new reference when reference auto release
+     * is enabled, so that the handles are always released on the thread owning the runtime.
+     *
+     * @return the number of released references
+     */
+    public int releaseLeakedReferences() {
+        V8ReferenceTracker v8ReferenceTracker = (V8ReferenceTracker) referenceQueue.poll();
+        if (v8ReferenceTracker == null) {
+            return 0;
+        }
+        long[] referenceHandles = new long[16];
+        int releasedCount = 0;
+        do {
+            final long referenceHandle = v8ReferenceTracker.getHandle();
+            // The handle might have been released by a reset.
+            if (referenceTrackerMap.get(referenceHandle) == v8ReferenceTracker) {
+                referenceTrackerMap.remove(referenceHandle);
+                if (releasedCount == referenceHandles.length) {
+                    referenceHandles = Arrays.copyOf(referenceHandles, releasedCount << 1);
+                }
+                referenceHandles[releasedCount++] = referenceHandle;
+                final String callSite = v8ReferenceTracker.getCallSite();
+                if (callSite != null) {
+                    leakedReferenceCallSiteMap.merge(callSite, 1L, Long::sum);
+                }
+            }
+        } while ((v8ReferenceTracker = (V8ReferenceTracker) referenceQueue.poll()) != null);
+        if (releasedCount > 0) {
+            v8Native.removeReferenceHandles(releasedCount == referenceHandles.length
+                    ? referenceHandles : Arrays.copyOf(referenceHandles, releasedCount));
+            leakedReferenceCount += releasedCount;
+        }
+        return releasedCount;
+    }
+
+    /**
+     * Puts a closed V8 value object to the free list if wrapper recycling is enabled.
+     *
+     * @param v8ValueObject the V8 value object
+     * @return true if it is recycled
+     */
+    public boolean recycle(V8ValueObject v8ValueObject) {
+        if (wrapperRecyclingEnabled && recycledV8ValueObjects.size() < wrapperPoolSize) {
+            recycledV8ValueObjects.addLast(v8ValueObject);
+            return true;
+        }
+        return false;
+    }
+
     public void removeJNIGlobalRef(long handle) {
         if (handle != INVALID_HANDLE) {
             v8Native.removeJNIGlobalRef(handle);
+            --jniGlobalRefCount;
         }
     }
 
     public void removeReference(IV8ValueReference iV8ValueReference) {
         final long referenceHandle = iV8ValueReference.getHandle();
-        if (referenceMap.containsKey(referenceHandle)) {
+        if (unregisterReference(iV8ValueReference)) {
             final int referenceType = iV8ValueReference.getType();
             if (referenceType == V8ValueReferenceType.Module) {
                 removeModule((IV8Module) iV8ValueReference);
             }
             v8Native.removeReferenceHandle(referenceHandle, referenceType);
-            referenceMap.remove(referenceHandle);
         }
     }
 
+    /**
+     * Removes the references in one native call.
+     * The references already closed or belonging to other runtimes are skipped.
+     *
+     * @param iV8ValueReferences the V8 value references
+     * @throws JavetException the javet exception
+     */
+    public void removeReferences(Collection<? extends IV8ValueReference> iV8ValueReferences)
+            throws JavetException {
+        final int size = iV8ValueReferences.size();
+        if (size == 0) {
+            return;
+        }
+        long[] referenceHandles = new long[size];
+        IV8ValueReference[] removedReferences = new IV8ValueReference[size];
+        int removedCount = 0;
+        for (IV8ValueReference iV8ValueReference : iV8ValueReferences) {
+            final long referenceHandle = iV8ValueReference.getHandle();
+            if (unregisterReference(iV8ValueReference)) {
+                if (iV8ValueReference.getType() == V8ValueReferenceType.Module) {
+                    removeModule((IV8Module) iV8ValueReference);
+                }
+                referenceHandles[removedCount] = referenceHandle;
+                removedReferences[removedCount] = iV8ValueReference;
+                ++removedCount;
+            }
+        }
+        if (removedCount > 0) {
+            v8Native.removeReferenceHandles(
+                    removedCount == size ? referenceHandles : Arrays.copyOf(referenceHandles, removedCount));
+            // The references are no longer registered, so closing them doesn't cross JNI again.
+            for (int i = 0; i < removedCount; ++i) {
+                removedReferences[i].close(true);
+            }
+        }
+    }
+
+    /**
+     * Removes the cached global object and built-ins.
+     * They are bound to the current V8 context, so they are released before the context is reset.
+     *
+     * @throws JavetException the javet exception
+     */
+    protected void removeBuiltIns() throws JavetException {
+        if (!builtInMap.isEmpty()) {
+            long[] builtInHandles = new long[builtInMap.size()];
+            int builtInCount = 0;
+            for (IV8ValueReference iV8ValueReference : builtInMap.values()) {
+                builtInHandles[builtInCount++] = iV8ValueReference.getHandle();
+            }
+            v8Native.removeReferenceHandles(builtInHandles);
+            // The built-ins are not registered, so closing them doesn't cross JNI again.
+            for (IV8ValueReference iV8ValueReference : builtInMap.values()) {
+                iV8ValueReference.close(true);
+            }
+            builtInMap.clear();
+        }
+        v8ValueGlobalObject = null;
+    }
+
+    protected void releasePropertyKey(V8PropertyKey v8PropertyKey) {
+        if (v8PropertyKey.isInternalized()) {
+            v8Native.removeReferenceHandle(v8PropertyKey.getHandle(), V8ValueReferenceType.Invalid);
+            v8PropertyKey.setHandle(INVALID_HANDLE);
+        }
+    }
+
+    protected void removePropertyKeys() {
+        if (!propertyKeyMap.isEmpty()) {
+            long[] propertyKeyHandles = new long[propertyKeyMap.size()];
+            int propertyKeyCount = 0;
+            for (V8PropertyKey v8PropertyKey : propertyKeyMap.values()) {
+                if (v8PropertyKey.isInternalized()) {
+                    propertyKeyHandles[propertyKeyCount++] = v8PropertyKey.getHandle();
+                    v8PropertyKey.setHandle(INVALID_HANDLE);
+                }
+            }
+            propertyKeyMap.clear();
+            if (propertyKeyCount > 0) {
+                v8Native.removeReferenceHandles(Arrays.copyOf(propertyKeyHandles, propertyKeyCount));
+            }
+        }
+    }
+
+    protected void removeRecycledWrappers() {
+        recycledV8ValueObjects.clear();
+    }
+
+    protected void removePreparedScripts() throws JavetException {
+        if (!preparedScriptMap.isEmpty()) {
+            List<V8PreparedScript> v8PreparedScripts = new ArrayList<>(preparedScriptMap.values());
+            preparedScriptMap.clear();
+            removePreparedScripts(v8PreparedScripts);
+        }
+    }
+
+    /**
+     * Releases the compiled functions of the prepared scripts.
+     * The functions are not registered, so they are released in one native call.
+     *
+     * @param v8PreparedScripts the V8 prepared scripts
+     * @throws JavetException the javet exception
+     */
+    protected void removePreparedScripts(List<V8PreparedScript> v8PreparedScripts) throws JavetException {
+        List<V8ValueFunction> v8ValueFunctions = new ArrayList<>(v8PreparedScripts.size());
+        for (V8PreparedScript v8PreparedScript : v8PreparedScripts) {
+            if (v8PreparedScript.isCompiled()) {
+                v8ValueFunctions.add(v8PreparedScript.getV8ValueFunction());
+                v8PreparedScript.setV8ValueFunction(null);
+            }
+        }
+        if (!v8ValueFunctions.isEmpty()) {
+            v8Native.removeReferenceHandles(
+                    v8ValueFunctions.stream().mapToLong(V8ValueFunction::getHandle).toArray());
+            for (V8ValueFunction v8ValueFunction : v8ValueFunctions) {
+                v8ValueFunction.close(true);
+            }
+        }
+    }
+
+    protected void removeUnboundScripts() {
+        if (!unboundScriptMap.isEmpty()) {
+            long[] unboundScriptHandles = new long[unboundScriptMap.size()];
+            int unboundScriptCount = 0;
+            for (V8UnboundScript v8UnboundScript : unboundScriptMap.values()) {
+                unboundScriptHandles[unboundScriptCount++] = v8UnboundScript.getHandle();
+            }
+            unboundScriptMap.clear();
+            v8Native.removeUnboundScriptHandles(unboundScriptHandles);
+        }
+        unboundScriptCacheUsage = 0;
+    }
+
     protected void removeReferences() throws JavetException {
+        releaseLeakedReferences();
+        if (!referenceTrackerMap.isEmpty()) {
+            // The trackers cleared but not enqueued yet are released here and skipped once enqueued.
+            long[] referenceHandles = new long[referenceTrackerMap.size()];
+            int releasedCount = 0;
+            for (V8ReferenceTracker v8ReferenceTracker : referenceTrackerMap.values()) {
+                IV8ValueReference iV8ValueReference = v8ReferenceTracker.get();
+                if (iV8ValueReference == null) {
+                    referenceTrackerMap.remove(v8ReferenceTracker.getHandle());
+                    referenceHandles[releasedCount++] = v8ReferenceTracker.getHandle();
+                } else {
+                    // The reference is held strongly until it is released below.
+                    referenceMap.put(v8ReferenceTracker.getHandle(), iV8ValueReference);
+                    referenceTrackerMap.remove(v8ReferenceTracker.getHandle());
+                    v8ReferenceTracker.clear();
+                }
+            }
+            if (releasedCount > 0) {
+                v8Native.removeReferenceHandles(Arrays.copyOf(referenceHandles, releasedCount));
+                leakedReferenceCount += releasedCount;
+            }
+        }
         if (!referenceMap.isEmpty()) {
             final int referenceCount = referenceMap.size();
             int weakReferenceCount = 0;
-            for (IV8ValueReference iV8ValueReference : new ArrayList<>(referenceMap.values())) {
+            List<IV8ValueReference> iV8ValueReferences = referenceMap.values();
+            for (IV8ValueReference iV8ValueReference : iV8ValueReferences) {
                 if (iV8ValueReference instanceof IV8ValueObject) {
                     IV8ValueObject iV8ValueObject = (IV8ValueObject) iV8ValueReference;
                     if (iV8ValueObject.isWeak()) {
                         ++weakReferenceCount;
                     }
                 }
-                removeReference(iV8ValueReference);
             }
+            removeReferences(iV8ValueReferences);
             if (weakReferenceCount < referenceCount) {
                 logger.logWarn("{0} V8 object(s) not recycled, {1} weak.",
                         Integer.toString(referenceCount), Integer.toString(weakReferenceCount));
@@ -591,8 +1515,11 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
      * @throws JavetException the javet exception
      */
     public V8Runtime resetContext() throws JavetException {
+        scope = null;
         removeReferences();
         removeModules();
+        removePreparedScripts();
+        removeBuiltIns();
         v8Inspector = null;
         v8Native.resetV8Context(handle, globalName);
         return this;
@@ -606,8 +1533,13 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
      * @throws JavetException the javet exception
      */
     public V8Runtime resetIsolate() throws JavetException {
+        scope = null;
         removeReferences();
         removeModules();
+        removePreparedScripts();
+        removeBuiltIns();
+        removePropertyKeys();
+        removeUnboundScripts();
         v8Inspector = null;
         v8Native.resetV8Isolate(handle, globalName);
         return this;
@@ -624,15 +1556,123 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
         return v8Native.set(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), key, value);
     }
 
+    public int setBatch(IV8ValueObject iV8ValueObject, Object[] keys, V8Value[] values) throws JavetException {
+        decorateV8ValueKeys(keys);
+        decorateV8Values(values);
+        return v8Native.setBatch(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), keys, values);
+    }
+
+    public boolean setBoolean(IV8ValueObject iV8ValueObject, String key, boolean value) throws JavetException {
+        return v8Native.setBoolean(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), key, value);
+    }
+
+    public boolean setDouble(IV8ValueObject iV8ValueObject, String key, double value) throws JavetException {
+        return v8Native.setDouble(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), key, value);
+    }
+
+    public boolean setInt(IV8ValueObject iV8ValueObject, String key, int value) throws JavetException {
+        return v8Native.setInt(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), key, value);
+    }
+
     public boolean setProperty(IV8ValueObject iV8ValueObject, V8Value key, V8Value value) throws JavetException {
         decorateV8Values(key, value);
         return v8Native.setProperty(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), key, value);
     }
 
+    public boolean setString(IV8ValueObject iV8ValueObject, String key, String value) throws JavetException {
+        return v8Native.setString(handle, iV8ValueObject.getHandle(), iV8ValueObject.getType(), key, value);
+    }
+
+    /**
+     * Sets reference auto release enabled.
+     * When enabled, the references are tracked weakly so that the handles of the references
+     * that become unreachable without being closed are released in batches
+     * instead of living until the runtime is reset or closed.
+     * It applies to the references created afterwards.
+     *
+     * @param referenceAutoReleaseEnabled the reference auto release enabled
+     */
+    public void setReferenceAutoReleaseEnabled(boolean referenceAutoReleaseEnabled) {
+        this.referenceAutoReleaseEnabled = referenceAutoReleaseEnabled;
+    }
+
+    /**
+     * Sets reference leak trace enabled.
+     * When enabled, the call site creating every auto released reference is recorded
+     * so that the leaks can be found via {@link #getLeakedReferenceCallSites()}.
+     * It captures a stack trace per reference, so it is meant for diagnosis only.
+     *
+     * @param referenceLeakTraceEnabled the reference leak trace enabled
+     */
+    public void setReferenceLeakTraceEnabled(boolean referenceLeakTraceEnabled) {
+        this.referenceLeakTraceEnabled = referenceLeakTraceEnabled;
+    }
+
+    /**
+     * Sets prepared script cache size.
+     * 0 means the prepared scripts are not cached and are compiled on every invocation.
+     *
+     * @param preparedScriptCacheSize the prepared script cache size
+     * @throws JavetException the javet exception
+     */
+    public void setPreparedScriptCacheSize(int preparedScriptCacheSize) throws JavetException {
+        assert preparedScriptCacheSize >= 0;
+        this.preparedScriptCacheSize = preparedScriptCacheSize;
+        trimPreparedScripts();
+    }
+
+    /**
+     * Sets unbound script cache size in bytes.
+     * <p>
+     * When it is greater than 0, scripts executed via {@link #execute(String, V8ScriptOrigin, boolean)}
+     * are compiled once per isolate and bound to the current context on every execution,
+     * so the compiled code survives {@link #resetContext()}.
+     * The least recently used scripts are evicted once the byte budget is exceeded.
+     *
+     * @param unboundScriptCacheSize the unbound script cache size in bytes
+     */
+    public void setUnboundScriptCacheSize(long unboundScriptCacheSize) {
+        assert unboundScriptCacheSize >= 0;
+        this.unboundScriptCacheSize = unboundScriptCacheSize;
+        trimUnboundScripts();
+    }
+
     public void setWeak(IV8ValueReference iV8ValueReference) {
         v8Native.setWeak(handle, iV8ValueReference.getHandle(), iV8ValueReference.getType(), iV8ValueReference);
     }
 
+    /**
+     * Sets wrapper pool size, the max size of the free list.
+     *
+     * @param wrapperPoolSize the wrapper pool size
+     */
+    public void setWrapperPoolSize(int wrapperPoolSize) {
+        assert wrapperPoolSize >= 0;
+        this.wrapperPoolSize = wrapperPoolSize;
+        while (recycledV8ValueObjects.size() > wrapperPoolSize) {
+            recycledV8ValueObjects.pollFirst();
+        }
+    }
+
+    /**
+     * Sets wrapper recycling enabled.
+     * <p>
+     * When it is enabled, plain V8ValueObject wrappers closed by the application via close()
+     * go back to a per-runtime free list and the native converter reuses them
+     * instead of allocating new wrappers. Wrappers that are force closed, e.g. by a scope,
+     * a reset or the V8 garbage collector, or closed by the framework are never recycled.
+     * The application must not touch a wrapper after closing it, because the same
+     * instance may be handed out again with a different value.
+     *
+     * @param wrapperRecyclingEnabled the wrapper recycling enabled
+     */
+    public void setWrapperRecyclingEnabled(boolean wrapperRecyclingEnabled) {
+        this.wrapperRecyclingEnabled = wrapperRecyclingEnabled;
+        if (!wrapperRecyclingEnabled) {
+            removeRecycledWrappers();
+        }
+    }
+
     public boolean sameValue(IV8ValueReference iV8ValueReference1, IV8ValueReference iV8ValueReference2) {
         return v8Native.sameValue(handle, iV8ValueReference1.getHandle(), iV8ValueReference2.getHandle());
     }
@@ -654,11 +1694,105 @@ public class V8Runtime implements IJavetClosable, IV8Creatable {
         v8Native.terminateExecution(handle);
     }
 
+    public V8Value[] toArray(IV8ValueArray iV8ValueArray) throws JavetException {
+        V8Value[] values = (V8Value[]) v8Native.toArray(
+                handle, iV8ValueArray.getHandle(), iV8ValueArray.getType());
+        decorateV8Values(values);
+        return values;
+    }
+
+    public double[] toDoubleArray(IV8ValueArray iV8ValueArray) throws JavetException {
+        return v8Native.toDoubleArray(handle, iV8ValueArray.getHandle(), iV8ValueArray.getType());
+    }
+
+    public int[] toIntArray(IV8ValueArray iV8ValueArray) throws JavetException {
+        return v8Native.toIntArray(handle, iV8ValueArray.getHandle(), iV8ValueArray.getType());
+    }
+
     public String toProtoString(IV8ValueReference iV8ValueReference) throws JavetV8RuntimeAlreadyClosedException {
         return v8Native.toProtoString(handle, iV8ValueReference.getHandle(), iV8ValueReference.getType());
     }
 
+    protected void trimPreparedScripts() throws JavetException {
+        if (preparedScriptMap.size() > preparedScriptCacheSize) {
+            List<V8PreparedScript> v8PreparedScripts = new ArrayList<>();
+            Iterator<V8PreparedScript> iterator = preparedScriptMap.values().iterator();
+            while (preparedScriptMap.size() > preparedScriptCacheSize && iterator.hasNext()) {
+                v8PreparedScripts.add(iterator.next());
+                iterator.remove();
+            }
+            removePreparedScripts(v8PreparedScripts);
+        }
+    }
+
+    protected void trimUnboundScripts() {
+        if (unboundScriptCacheUsage > unboundScriptCacheSize) {
+            long[] unboundScriptHandles = new long[unboundScriptMap.size()];
+            int unboundScriptCount = 0;
+            Iterator<V8UnboundScript> iterator = unboundScriptMap.values().iterator();
+            while (unboundScriptCacheUsage > unboundScriptCacheSize && iterator.hasNext()) {
+                V8UnboundScript v8UnboundScript = iterator.next();
+                unboundScriptHandles[unboundScriptCount++] = v8UnboundScript.getHandle();
+                unboundScriptCacheUsage -= v8UnboundScript.getSize();
+                iterator.remove();
+            }
+            v8Native.removeUnboundScriptHandles(Arrays.copyOf(unboundScriptHandles, unboundScriptCount));
+        }
+    }
+
+    /**
+     * Updates the code cache store and the counters after compilation.
+     * Rejected cached data is removed from the store and the produced one is put back.
+     *
+     * @param codeCacheKey     the code cache key, null if the code cache store is not used
+     * @param v8CompileOptions the V8 compile options
+     */
+    protected void updateCodeCache(String codeCacheKey, V8CompileOptions v8CompileOptions) {
+        if (v8CompileOptions == null) {
+            return;
+        }
+        if (v8CompileOptions.getCachedData() != null) {
+            if (v8CompileOptions.isCachedDataRejected()) {
+                ++codeCacheRejectedCount;
+                if (codeCacheKey != null) {
+                    codeCacheStore.remove(codeCacheKey);
+                }
+            } else {
+                ++codeCacheAcceptedCount;
+            }
+        }
+        if (codeCacheKey != null && v8CompileOptions.getProducedCachedData() != null) {
+            codeCacheStore.put(codeCacheKey, v8CompileOptions.getProducedCachedData());
+        }
+    }
+
+    /**
+     * Removes the reference from the registry.
+     *
+     * @param iV8ValueReference the V8 value reference
+     * @return true if the reference was registered
+     */
+    protected boolean unregisterReference(IV8ValueReference iV8ValueReference) {
+        final long referenceHandle = iV8ValueReference.getHandle();
+        if (referenceMap.get(referenceHandle) == iV8ValueReference) {
+            referenceMap.remove(referenceHandle);
+            return true;
+        }
+        V8ReferenceTracker v8ReferenceTracker = referenceTrackerMap.get(referenceHandle);
+        if (v8ReferenceTracker != null && v8ReferenceTracker.get() == iV8ValueReference) {
+            referenceTrackerMap.remove(referenceHandle);
+            // A cleared tracker is never enqueued.
+            v8ReferenceTracker.clear();
+            return true;
+        }
+        return false;
+    }
+
     public String toString(IV8ValueReference iV8ValueReference) throws JavetV8RuntimeAlreadyClosedException {
         return v8Native.toString(handle, iV8ValueReference.getHandle(), iV8ValueReference.getType());
     }
+
+    public String[] toStringArray(IV8ValueArray iV8ValueArray) throws JavetException {
+        return v8Native.toStringArray(handle, iV8ValueArray.getHandle(), iV8ValueArray.getType());
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+package com.caoccao.javet.interop;
+
+/**
+ * The type V8 runtime statistics.
+ * <p>
+ * It is an immutable snapshot of the V8 runtime counters.
+ */
+public final class V8RuntimeStatistics {
+    private final int builtInCount;
+    private final long codeCacheAcceptedCount;
+    private final long codeCacheRejectedCount;
+    private final long leakedReferenceCount;
+    private final int propertyKeyCount;
+    private final int recycledWrapperCount;
+    private final int referenceCount;
+    private final int unboundScriptCount;
+    private final long unboundScriptHitCount;
+    private final long wrapperAllocatedCount;
+    private final long wrapperReusedCount;
+
+    V8RuntimeStatistics(
+            int referenceCount, long leakedReferenceCount, int propertyKeyCount, int builtInCount,
+            long wrapperAllocatedCount, long wrapperReusedCount, int recycledWrapperCount,
+            long codeCacheAcceptedCount, long codeCacheRejectedCount,
+            int unboundScriptCount, long unboundScriptHitCount) {
+        this.builtInCount = builtInCount;
+        this.codeCacheAcceptedCount = codeCacheAcceptedCount;
+        this.codeCacheRejectedCount = codeCacheRejectedCount;
+        this.leakedReferenceCount = leakedReferenceCount;
+        this.propertyKeyCount = propertyKeyCount;
+        this.recycledWrapperCount = recycledWrapperCount;
+        this.referenceCount = referenceCount;
+        this.unboundScriptCount = unboundScriptCount;
+        this.unboundScriptHitCount = unboundScriptHitCount;
+        this.wrapperAllocatedCount = wrapperAllocatedCount;
+        this.wrapperReusedCount = wrapperReusedCount;
+    }
+
+    public int getBuiltInCount() {
+        return builtInCount;
+    }
+
+    public long getCodeCacheAcceptedCount() {
+        return codeCacheAcceptedCount;
+    }
+
+    /**
+     * Gets code cache rejected count, the number of times V8 rejected the cached data,
+     * e.g. because the script or the V8 version changed.
+     *
+     * @return the code cache rejected count
+     */
+    public long getCodeCacheRejectedCount() {
+        return codeCacheRejectedCount;
+    }
+
+    public long getLeakedReferenceCount() {
+        return leakedReferenceCount;
+    }
+
+    public int getPropertyKeyCount() {
+        return propertyKeyCount;
+    }
+
+    /**
+     * Gets recycled wrapper count, the number of closed wrappers waiting in the free list.
+     *
+     * @return the recycled wrapper count
+     */
+    public int getRecycledWrapperCount() {
+        return recycledWrapperCount;
+    }
+
+    public int getReferenceCount() {
+        return referenceCount;
+    }
+
+    public int getUnboundScriptCount() {
+        return unboundScriptCount;
+    }
+
+    /**
+     * Gets unbound script hit count, the number of executions served by the unbound script cache
+     * without compiling.
+     *
+     * @return the unbound script hit count
+     */
+    public long getUnboundScriptHitCount() {
+        return unboundScriptHitCount;
+    }
+
+    /**
+     * Gets wrapper allocated count, the number of V8 value wrappers allocated and registered to the V8 runtime.
+     *
+     * @return the wrapper allocated count
+     */
+    public long getWrapperAllocatedCount() {
+        return wrapperAllocatedCount;
+    }
+
+    /**
+     * Gets wrapper allocation rate, the ratio of wrappers allocated to wrappers handed out.
+     * 1 means every wrapper was freshly allocated.
+     *
+     * @return the wrapper allocation rate
+     */
+    public double getWrapperAllocationRate() {
+        final long total = wrapperAllocatedCount + wrapperReusedCount;
+        return total == 0 ? 0D : (double) wrapperAllocatedCount / total;
+    }
+
+    /**
+     * Gets wrapper reused count, the number of wrappers taken from the free list instead of being allocated.
+     *
+     * @return the wrapper reused count
+     */
+    public long getWrapperReusedCount() {
+        return wrapperReusedCount;
+    }
+}
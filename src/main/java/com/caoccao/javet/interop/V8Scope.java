@@ -0,0 +1,117 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.interop;
+
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.interfaces.IJavetClosable;
+import com.caoccao.javet.values.V8Value;
+import com.caoccao.javet.values.reference.IV8ValueReference;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The type V8 scope.
+ * <p>
+ * It tracks all the references created in it and releases the ones still open
+ * in one native call on close, so that walking a large object graph doesn't
+ * require closing every value individually.
+ * Values promoted out of the scope survive and move to the outer scope if there is one.
+ * Weak references are left to the V8 garbage collector.
+ * Scopes can be nested and must be closed in reverse order of opening.
+ */
+public final class V8Scope implements IJavetClosable {
+    private boolean closed;
+    private V8Scope outerScope;
+    private Set<IV8ValueReference> promotedReferenceSet;
+    private List<IV8ValueReference> references;
+    private V8Runtime v8Runtime;
+
+    V8Scope(V8Runtime v8Runtime, V8Scope outerScope) {
+        Objects.requireNonNull(v8Runtime);
+        closed = false;
+        this.outerScope = outerScope;
+        promotedReferenceSet = null;
+        references = new ArrayList<>();
+        this.v8Runtime = v8Runtime;
+    }
+
+    void add(IV8ValueReference iV8ValueReference) {
+        references.add(iV8ValueReference);
+    }
+
+    @Override
+    public void close() throws JavetException {
+        if (!closed) {
+            closed = true;
+            v8Runtime.closeScope(this);
+            List<IV8ValueReference> releasableReferences = new ArrayList<>(references.size());
+            for (IV8ValueReference iV8ValueReference : references) {
+                if (!iV8ValueReference.isWeak()
+                        && (promotedReferenceSet == null || !promotedReferenceSet.contains(iV8ValueReference))) {
+                    releasableReferences.add(iV8ValueReference);
+                }
+            }
+            references.clear();
+            promotedReferenceSet = null;
+            v8Runtime.removeReferences(releasableReferences);
+        }
+    }
+
+    V8Scope getOuterScope() {
+        return outerScope;
+    }
+
+    /**
+     * Gets the number of references tracked by the scope, including the closed and promoted ones.
+     *
+     * @return the reference count
+     */
+    public int getReferenceCount() {
+        return references.size();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Promotes the value out of the scope so that it survives the scope.
+     * It is tracked by the outer scope if there is one.
+     *
+     * @param <T>     the type parameter
+     * @param v8Value the V8 value
+     * @return the V8 value
+     */
+    public <T extends V8Value> T promote(T v8Value) {
+        if (v8Value instanceof IV8ValueReference) {
+            IV8ValueReference iV8ValueReference = (IV8ValueReference) v8Value;
+            if (promotedReferenceSet == null) {
+                promotedReferenceSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            if (promotedReferenceSet.add(iV8ValueReference) && outerScope != null) {
+                outerScope.add(iV8ValueReference);
+            }
+        }
+        return v8Value;
+    }
+}
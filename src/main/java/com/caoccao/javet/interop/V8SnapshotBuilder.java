@@ -0,0 +1,83 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.caoccao.javet.interop;
+
+import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.exceptions.JavetIOException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The type V8 snapshot builder.
+ * <p>
+ * It runs the bootstrap scripts in a V8 snapshot creator and emits a startup snapshot blob.
+ * V8 runtimes created from the blob come up with the globals already initialized.
+ * The bootstrap scripts must be plain JavaScript, because Java callbacks cannot be serialized.
+ */
+public final class V8SnapshotBuilder {
+    private final List<String> resourceNames;
+    private final List<String> scriptStrings;
+    private final V8Host v8Host;
+
+    V8SnapshotBuilder(V8Host v8Host) {
+        resourceNames = new ArrayList<>();
+        scriptStrings = new ArrayList<>();
+        this.v8Host = Objects.requireNonNull(v8Host);
+    }
+
+    public V8SnapshotBuilder addScript(String scriptString) {
+        return addScript(scriptString, null);
+    }
+
+    public V8SnapshotBuilder addScript(String scriptString, String resourceName) {
+        scriptStrings.add(Objects.requireNonNull(scriptString));
+        resourceNames.add(resourceName);
+        return this;
+    }
+
+    public V8SnapshotBuilder addScript(Path scriptPath) throws JavetIOException {
+        try {
+            return addScript(
+                    new String(Files.readAllBytes(scriptPath), StandardCharsets.UTF_8),
+                    scriptPath.toFile().getAbsolutePath());
+        } catch (IOException e) {
+            throw JavetIOException.failedToReadPath(scriptPath, e);
+        }
+    }
+
+    /**
+     * Runs the bootstrap scripts in order and builds the snapshot blob.
+     *
+     * @return the snapshot blob
+     * @throws JavetException the javet exception
+     */
+    public byte[] build() throws JavetException {
+        return v8Host.createSnapshotBlob(
+                scriptStrings.toArray(new String[0]), resourceNames.toArray(new String[0]));
+    }
+
+    public int getScriptCount() {
+        return scriptStrings.size();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.caoccao.javet.interop;
+
+/**
+ * The type V8 unbound script.
+ * <p>
+ * It holds a compiled script that is not bound to any V8 context.
+ * The handle is owned by the V8 runtime and stays valid until the script is evicted
+ * from the unbound script cache or the isolate is reset.
+ */
+final class V8UnboundScript {
+    private final long handle;
+    private final long size;
+
+    V8UnboundScript(long handle, long size) {
+        this.handle = handle;
+        this.size = size;
+    }
+
+    long getHandle() {
+        return handle;
+    }
+
+    long getSize() {
+        return size;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.caoccao.javet.interop;
+
+import java.util.Objects;
+
+/**
+ * The type V8 unbound script key.
+ * <p>
+ * The source string is the key itself so that a lookup doesn't hash the source.
+ * The resource name and the offsets are part of the key because they are baked into the compiled script.
+ */
+final class V8UnboundScriptKey {
+    private final int hashCode;
+    private final int resourceColumnOffset;
+    private final int resourceLineOffset;
+    private final String resourceName;
+    private final String scriptString;
+
+    V8UnboundScriptKey(String scriptString, V8ScriptOrigin v8ScriptOrigin) {
+        this.scriptString = Objects.requireNonNull(scriptString);
+        resourceColumnOffset = v8ScriptOrigin.getResourceColumnOffset();
+        resourceLineOffset = v8ScriptOrigin.getResourceLineOffset();
+        resourceName = v8ScriptOrigin.getResourceName();
+        int hash = scriptString.hashCode();
+        hash = 31 * hash + resourceLineOffset;
+        hash = 31 * hash + resourceColumnOffset;
+        hash = 31 * hash + (resourceName == null ? 0 : resourceName.hashCode());
+        hashCode = hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof V8UnboundScriptKey)) {
+            return false;
+        }
+        V8UnboundScriptKey other = (V8UnboundScriptKey) obj;
+        return hashCode == other.hashCode
+                && resourceLineOffset == other.resourceLineOffset
+                && resourceColumnOffset == other.resourceColumnOffset
+                && Objects.equals(resourceName, other.resourceName)
+                && scriptString.equals(other.scriptString);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+package com.caoccao.javet.interop.cache;
+
+/**
+ * The interface V8 code cache store keeps the V8 code cache by key.
+ * <p>
+ * The key is derived from the script content, so a changed script never hits a stale entry.
+ * The store may be shared by V8 runtimes in multiple threads, so the implementation must be thread-safe.
+ * The code cache is an optimization only, so the store may drop entries at any time.
+ */
+public interface IV8CodeCacheStore {
+    /**
+     * Gets the cached data.
+     *
+     * @param key the key
+     * @return the cached data or null if not found
+     */
+    byte[] get(String key);
+
+    /**
+     * Puts the cached data.
+     *
+     * @param key        the key
+     * @param cachedData the cached data
+     */
+    void put(String key, byte[] cachedData);
+
+    /**
+     * Removes the cached data, e.g. when it has been rejected by V8.
+     *
+     * @param key the key
+     */
+    void remove(String key);
+}
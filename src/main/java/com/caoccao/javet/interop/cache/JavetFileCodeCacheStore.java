@@ -0,0 +1,104 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+package com.caoccao.javet.interop.cache;
+
+import com.caoccao.javet.interfaces.IJavetLogger;
+import com.caoccao.javet.utils.JavetDefaultLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+/**
+ * The type Javet file code cache store keeps the code cache on disk,
+ * one file per key, so that it survives process restarts.
+ * <p>
+ * Files are written to a temporary file first and then moved into place,
+ * so concurrent readers never see a partially written file.
+ * I/O errors are logged and treated as cache misses.
+ */
+public class JavetFileCodeCacheStore implements IV8CodeCacheStore {
+    protected static final String FILE_EXTENSION = ".cache";
+    protected static final String TEMP_FILE_EXTENSION = ".tmp";
+    protected Path directory;
+    protected IJavetLogger logger;
+
+    public JavetFileCodeCacheStore(Path directory) throws IOException {
+        this.directory = Objects.requireNonNull(directory);
+        Files.createDirectories(directory);
+        logger = new JavetDefaultLogger(getClass().getName());
+    }
+
+    @Override
+    public byte[] get(String key) {
+        Path filePath = getFilePath(key);
+        if (Files.exists(filePath)) {
+            try {
+                return Files.readAllBytes(filePath);
+            } catch (IOException e) {
+                logger.logError(e, "Failed to read code cache {0}.", filePath);
+            }
+        }
+        return null;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    protected Path getFilePath(String key) {
+        return directory.resolve(Objects.requireNonNull(key) + FILE_EXTENSION);
+    }
+
+    public IJavetLogger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public void put(String key, byte[] cachedData) {
+        Objects.requireNonNull(cachedData);
+        Path filePath = getFilePath(key);
+        try {
+            Path tempFilePath = Files.createTempFile(directory, key, TEMP_FILE_EXTENSION);
+            try {
+                Files.write(tempFilePath, cachedData);
+                Files.move(tempFilePath, filePath,
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFilePath);
+            }
+        } catch (IOException e) {
+            logger.logError(e, "Failed to write code cache {0}.", filePath);
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        Path filePath = getFilePath(key);
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            logger.logError(e, "Failed to delete code cache {0}.", filePath);
+        }
+    }
+
+    public void setLogger(IJavetLogger logger) {
+        this.logger = Objects.requireNonNull(logger);
+    }
+}
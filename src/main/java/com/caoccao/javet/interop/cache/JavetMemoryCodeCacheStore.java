@@ -0,0 +1,55 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+package com.caoccao.javet.interop.cache;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The type Javet memory code cache store keeps the code cache in memory.
+ * It is meant to be shared by the V8 runtimes of an engine pool.
+ */
+public class JavetMemoryCodeCacheStore implements IV8CodeCacheStore {
+    protected ConcurrentHashMap<String, byte[]> cachedDataMap;
+
+    public JavetMemoryCodeCacheStore() {
+        cachedDataMap = new ConcurrentHashMap<>();
+    }
+
+    public void clear() {
+        cachedDataMap.clear();
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return cachedDataMap.get(Objects.requireNonNull(key));
+    }
+
+    @Override
+    public void put(String key, byte[] cachedData) {
+        cachedDataMap.put(Objects.requireNonNull(key), Objects.requireNonNull(cachedData));
+    }
+
+    @Override
+    public void remove(String key) {
+        cachedDataMap.remove(Objects.requireNonNull(key));
+    }
+
+    public int size() {
+        return cachedDataMap.size();
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.caoccao.javet.interop.cache;
+
+import com.caoccao.javet.exceptions.JavetIOException;
+import com.caoccao.javet.interfaces.IJavetLogger;
+import com.caoccao.javet.utils.JavetCodeCacheUtils;
+import com.caoccao.javet.utils.JavetDefaultLogger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The type Javet script source cache.
+ * <p>
+ * It is a process-wide, size-bounded cache of decoded script files keyed by path,
+ * so that every executor and every pooled engine shares the same script strings.
+ * An entry is validated by the last modified time and the size of the file on every hit,
+ * unless the watch mode is enabled, in which case the entries are invalidated by
+ * a {@link WatchService} and hits don't touch the file system.
+ * A directory is watched only while it has cached entries and the number of watched directories
+ * is bounded, so that the entries in the other directories are validated on every hit.
+ * The cached script strings are shared with {@link JavetCodeCacheUtils} while they are cached,
+ * so that the code cache key of a cached script is computed only once across runtimes.
+ */
+public final class JavetScriptSourceCache {
+    /**
+     * The default max size in bytes, estimated by the UTF-16 size of the script strings.
+     */
+    public static final long DEFAULT_MAX_SIZE = 32L * 1024L * 1024L;
+    public static final int DEFAULT_MAX_WATCHED_DIRECTORY_COUNT = 256;
+    private static final int MAX_FILE_SIZE = Integer.MAX_VALUE - 8;
+    private static final String WATCH_THREAD_NAME = "Javet Script Source Watcher";
+    private static final JavetScriptSourceCache instance = new JavetScriptSourceCache();
+
+    private final Map<Path, Integer> directoryEntryCountMap;
+    private final LinkedHashMap<Path, Entry> entryMap;
+    private long hitCount;
+    private IJavetLogger logger;
+    private long maxSize;
+    private int maxWatchedDirectoryCount;
+    private long missCount;
+    private long size;
+    private Map<Path, WatchKey> watchKeyMap;
+    private WatchService watchService;
+
+    JavetScriptSourceCache() {
+        directoryEntryCountMap = new HashMap<>();
+        entryMap = new LinkedHashMap<>(16, 0.75F, true);
+        hitCount = 0;
+        logger = new JavetDefaultLogger(getClass().getName());
+        maxSize = DEFAULT_MAX_SIZE;
+        maxWatchedDirectoryCount = DEFAULT_MAX_WATCHED_DIRECTORY_COUNT;
+        missCount = 0;
+        size = 0;
+        watchKeyMap = new HashMap<>();
+        watchService = null;
+    }
+
+    public static JavetScriptSourceCache getInstance() {
+        return instance;
+    }
+
+    public synchronized void clear() {
+        entryMap.values().forEach(entry -> JavetCodeCacheUtils.unshare(entry.scriptString));
+        entryMap.clear();
+        directoryEntryCountMap.clear();
+        size = 0;
+        watchKeyMap.values().forEach(WatchKey::cancel);
+        watchKeyMap.clear();
+    }
+
+    /**
+     * Gets the script string of the path.
+     * The script string is read and cached on a miss or when the file changes.
+     * In the watch mode the directory is watched before the file is read
+     * and the file is validated once more after it is cached,
+     * so that a change in between doesn't leave a stale entry behind.
+     *
+     * @param scriptPath the script path
+     * @return the script string
+     * @throws JavetIOException the javet IO exception
+     */
+    public String get(Path scriptPath) throws JavetIOException {
+        final Path path = scriptPath.toAbsolutePath().normalize();
+        try {
+            Entry entry;
+            boolean watched;
+            synchronized (this) {
+                entry = entryMap.get(path);
+                if (entry != null && watchKeyMap.containsKey(entry.directory)) {
+                    ++hitCount;
+                    return entry.scriptString;
+                }
+                watched = watchDirectory(path.getParent());
+            }
+            BasicFileAttributes basicFileAttributes = Files.readAttributes(path, BasicFileAttributes.class);
+            final long lastModifiedTime = basicFileAttributes.lastModifiedTime().toMillis();
+            final long fileSize = basicFileAttributes.size();
+            if (entry != null && entry.isValid(lastModifiedTime, fileSize)) {
+                synchronized (this) {
+                    ++hitCount;
+                }
+                return entry.scriptString;
+            }
+            String scriptString = read(path, fileSize);
+            entry = new Entry(path, lastModifiedTime, fileSize, scriptString);
+            boolean cached = false;
+            synchronized (this) {
+                ++missCount;
+                if (entry.getSize() <= maxSize) {
+                    put(entry);
+                    cached = true;
+                } else if (watched) {
+                    unwatchDirectory(entry.directory);
+                }
+            }
+            if (cached && watched) {
+                // The events raised before the entry is cached find nothing to invalidate.
+                try {
+                    basicFileAttributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    if (!entry.isValid(basicFileAttributes.lastModifiedTime().toMillis(), basicFileAttributes.size())) {
+                        invalidate(path);
+                    }
+                } catch (IOException e) {
+                    invalidate(path);
+                }
+            }
+            return scriptString;
+        } catch (IOException e) {
+            synchronized (this) {
+                invalidate(path);
+                unwatchDirectory(path.getParent());
+            }
+            throw JavetIOException.failedToReadPath(scriptPath, e);
+        }
+    }
+
+    public synchronized int getCount() {
+        return entryMap.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public IJavetLogger getLogger() {
+        return logger;
+    }
+
+    public synchronized long getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized int getMaxWatchedDirectoryCount() {
+        return maxWatchedDirectoryCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public synchronized int getWatchedDirectoryCount() {
+        return watchKeyMap.size();
+    }
+
+    public synchronized void invalidate(Path scriptPath) {
+        Entry entry = entryMap.remove(scriptPath.toAbsolutePath().normalize());
+        if (entry != null) {
+            release(entry);
+        }
+    }
+
+    private synchronized void invalidateDirectory(Path directory) {
+        Iterator<Entry> iterator = entryMap.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (directory.equals(entry.directory)) {
+                release(entry);
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized boolean isWatchEnabled() {
+        return watchService != null;
+    }
+
+    private void put(Entry entry) {
+        Entry previousEntry = entryMap.put(entry.path, entry);
+        // The new entry is counted first so that the directory stays watched.
+        directoryEntryCountMap.merge(entry.directory, 1, Integer::sum);
+        if (previousEntry != null) {
+            release(previousEntry);
+        }
+        size += entry.getSize();
+        JavetCodeCacheUtils.share(entry.scriptString);
+        trim();
+    }
+
+    /**
+     * Reads the file into a heap buffer which is decoded once.
+     * The buffer grows if the file grows after its size is read.
+     *
+     * @param path     the path
+     * @param fileSize the file size
+     * @return the script string
+     * @throws IOException the IO exception
+     */
+    private String read(Path path, long fileSize) throws IOException {
+        if (fileSize > MAX_FILE_SIZE) {
+            throw new IOException(path + " is too large");
+        }
+        try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer byteBuffer = ByteBuffer.allocate((int) fileSize);
+            while (true) {
+                if (!byteBuffer.hasRemaining()) {
+                    // One more byte is read to detect the end of the file.
+                    int capacity = byteBuffer.capacity();
+                    if (capacity >= MAX_FILE_SIZE) {
+                        throw new IOException(path + " is too large");
+                    }
+                    int newCapacity = (int) Math.min(Math.max(capacity * 2L, 1024L), MAX_FILE_SIZE);
+                    byteBuffer = ByteBuffer.wrap(
+                            Arrays.copyOf(byteBuffer.array(), newCapacity), capacity, newCapacity - capacity);
+                }
+                if (fileChannel.read(byteBuffer) < 0) {
+                    break;
+                }
+            }
+            return new String(byteBuffer.array(), 0, byteBuffer.position(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void release(Entry entry) {
+        size -= entry.getSize();
+        JavetCodeCacheUtils.unshare(entry.scriptString);
+        Integer entryCount = directoryEntryCountMap.computeIfPresent(
+                entry.directory, (key, count) -> count > 1 ? count - 1 : null);
+        if (entryCount == null) {
+            unwatchDirectory(entry.directory);
+        }
+    }
+
+    public void setLogger(IJavetLogger logger) {
+        this.logger = Objects.requireNonNull(logger);
+    }
+
+    public synchronized void setMaxSize(long maxSize) {
+        assert maxSize >= 0;
+        this.maxSize = maxSize;
+        trim();
+    }
+
+    /**
+     * Sets max watched directory count.
+     * The directories beyond the limit are not watched and their entries are validated on every hit.
+     * It applies to the directories watched afterwards.
+     *
+     * @param maxWatchedDirectoryCount the max watched directory count
+     */
+    public synchronized void setMaxWatchedDirectoryCount(int maxWatchedDirectoryCount) {
+        assert maxWatchedDirectoryCount >= 0;
+        this.maxWatchedDirectoryCount = maxWatchedDirectoryCount;
+    }
+
+    /**
+     * Sets watch enabled.
+     * <p>
+     * When it is enabled, the directories of the cached scripts are watched and the entries
+     * are invalidated on change, so that hits don't read the file attributes.
+     * Please note that some platforms deliver the file system events with a delay.
+     *
+     * @param watchEnabled the watch enabled
+     * @throws JavetIOException the javet IO exception
+     */
+    public synchronized void setWatchEnabled(boolean watchEnabled) throws JavetIOException {
+        if (watchEnabled && watchService == null) {
+            try {
+                watchService = FileSystems.getDefault().newWatchService();
+            } catch (IOException e) {
+                throw JavetIOException.failedToWatch(e);
+            }
+            final WatchService currentWatchService = watchService;
+            Thread thread = new Thread(() -> watch(currentWatchService), WATCH_THREAD_NAME);
+            thread.setDaemon(true);
+            thread.start();
+            // The entries cached before are validated once more before they are trusted.
+            clear();
+        } else if (!watchEnabled && watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.logError(e, "Failed to close the watch service.");
+            }
+            watchService = null;
+            watchKeyMap.clear();
+        }
+    }
+
+    private void trim() {
+        if (size > maxSize) {
+            Iterator<Entry> iterator = entryMap.values().iterator();
+            while (size > maxSize && iterator.hasNext()) {
+                release(iterator.next());
+                iterator.remove();
+            }
+        }
+    }
+
+    private void watch(WatchService currentWatchService) {
+        try {
+            while (true) {
+                WatchKey watchKey = currentWatchService.take();
+                Path directory = (Path) watchKey.watchable();
+                for (WatchEvent<?> watchEvent : watchKey.pollEvents()) {
+                    if (watchEvent.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        invalidateDirectory(directory);
+                    } else {
+                        invalidate(directory.resolve((Path) watchEvent.context()));
+                    }
+                }
+                if (!watchKey.reset()) {
+                    // The key might have been cancelled and replaced by a new key of the same directory.
+                    boolean removed;
+                    synchronized (this) {
+                        removed = watchKeyMap.remove(directory, watchKey);
+                    }
+                    if (removed) {
+                        invalidateDirectory(directory);
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // The watch service is closed.
+        }
+    }
+
+    private boolean watchDirectory(Path directory) {
+        if (watchService == null || directory == null) {
+            return false;
+        }
+        if (!watchKeyMap.containsKey(directory)) {
+            if (watchKeyMap.size() >= maxWatchedDirectoryCount) {
+                // The entries in the directory fall back to the validation on every hit.
+                return false;
+            }
+            try {
+                watchKeyMap.put(directory, directory.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE,
+                        StandardWatchEventKinds.ENTRY_MODIFY));
+            } catch (IOException e) {
+                // The entries in the directory fall back to the validation on every hit.
+                logger.logError(e, "Failed to watch {0}.", directory);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cancels the watch key of the directory if no entries in the directory are cached.
+     *
+     * @param directory the directory
+     */
+    private void unwatchDirectory(Path directory) {
+        if (directory != null && !directoryEntryCountMap.containsKey(directory)) {
+            WatchKey watchKey = watchKeyMap.remove(directory);
+            if (watchKey != null) {
+                watchKey.cancel();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Path directory;
+        private final long fileSize;
+        private final long lastModifiedTime;
+        private final Path path;
+        private final String scriptString;
+
+        private Entry(Path path, long lastModifiedTime, long fileSize, String scriptString) {
+            directory = path.getParent();
+            this.fileSize = fileSize;
+            this.lastModifiedTime = lastModifiedTime;
+            this.path = path;
+            this.scriptString = scriptString;
+        }
+
+        private long getSize() {
+            return scriptString.length() * 2L;
+        }
+
+        private boolean isValid(long lastModifiedTime, long fileSize) {
+            return this.lastModifiedTime == lastModifiedTime && this.fileSize == fileSize;
+        }
+    }
+}
@@ -17,9 +17,13 @@
 
 package com.caoccao.javet.interop.engine;
 
+import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interfaces.IJavetClosable;
 import com.caoccao.javet.interop.V8Runtime;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 @SuppressWarnings("unchecked")
 public interface IJavetEnginePool<R extends V8Runtime> extends IJavetClosable {
     int getActiveEngineCount();
@@ -28,11 +32,64 @@ public interface IJavetEnginePool<R extends V8Runtime> extends IJavetClosable {
 
     IJavetEngine<R> getEngine();
 
+    /**
+     * Gets engine within the given timeout.
+     * It fails fast instead of blocking forever when the pool is exhausted.
+     *
+     * @param timeout  the timeout
+     * @param timeUnit the time unit
+     * @return the engine
+     * @throws JavetException the javet exception
+     */
+    IJavetEngine<R> getEngine(long timeout, TimeUnit timeUnit) throws JavetException;
+
+    /**
+     * Gets engine for the tenant within the given timeout.
+     * Waiters are served by priority and in FIFO order within the same priority.
+     * The tenant is subject to the tenant max engine count in the config,
+     * and a tenant of null is not subject to any quota.
+     *
+     * @param tenant   the tenant
+     * @param priority the priority
+     * @param timeout  the timeout
+     * @param timeUnit the time unit
+     * @return the engine
+     * @throws JavetException the javet exception
+     */
+    IJavetEngine<R> getEngine(String tenant, JavetEnginePriority priority, long timeout, TimeUnit timeUnit)
+            throws JavetException;
+
     int getIdleEngineCount();
 
+    /**
+     * Gets pool size, the max number of engines the pool currently allows.
+     * It equals pool max size unless a sizing policy is configured.
+     *
+     * @return the pool size
+     */
+    int getPoolSize();
+
+    /**
+     * Gets a lock-free snapshot of the pool statistics.
+     *
+     * @return the statistics
+     */
+    JavetEnginePoolStatistics getStatistics();
+
     boolean isActive();
 
     boolean isQuitting();
 
     void releaseEngine(IJavetEngine<R> engine);
+
+    /**
+     * Submits a function to be applied on a pooled V8 runtime asynchronously.
+     * The caller never blocks on engine availability. When the async queue is full,
+     * the returned future completes exceptionally with a JavetEnginePoolException.
+     *
+     * @param <T>      the type parameter
+     * @param function the function
+     * @return the completable future
+     */
+    <T> CompletableFuture<T> submit(IJavetEngineFunction<R, T> function);
 }
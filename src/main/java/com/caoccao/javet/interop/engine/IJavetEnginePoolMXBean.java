@@ -0,0 +1,69 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine;
+
+/**
+ * The interface Javet engine pool MXBean.
+ * <p>
+ * Latencies are in milliseconds.
+ */
+public interface IJavetEnginePoolMXBean {
+    long getAcquireTimeoutCount();
+
+    double getAcquireWaitTimeMaxMillis();
+
+    double getAcquireWaitTimeMeanMillis();
+
+    double getAcquireWaitTimeP99Millis();
+
+    long getAcquiredEngineCount();
+
+    int getActiveEngineCount();
+
+    long getCreatedEngineCount();
+
+    long getDestroyedEngineCount();
+
+    double getEngineCreationTimeMaxMillis();
+
+    double getEngineCreationTimeMeanMillis();
+
+    double getEngineExecutionTimeMaxMillis();
+
+    double getEngineExecutionTimeMeanMillis();
+
+    double getEngineExecutionTimeP99Millis();
+
+    double getEngineResetTimeMaxMillis();
+
+    double getEngineResetTimeMeanMillis();
+
+    long getGuardTerminationCount();
+
+    int getIdleEngineCount();
+
+    int getPoolMaxSize();
+
+    int getPoolMinSize();
+
+    int getPoolSize();
+
+    long getResetEngineCount();
+
+    void resetStatistics();
+}
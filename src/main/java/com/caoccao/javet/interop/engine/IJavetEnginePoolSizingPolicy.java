@@ -0,0 +1,34 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine;
+
+/**
+ * The interface Javet engine pool sizing policy.
+ * <p>
+ * The pool daemon consults the policy periodically and resizes the pool to the returned size,
+ * clamped between pool min size and pool max size.
+ */
+public interface IJavetEnginePoolSizingPolicy {
+    /**
+     * Gets target pool size.
+     *
+     * @param statistics the statistics
+     * @return the target pool size
+     */
+    int getTargetPoolSize(JavetEnginePoolStatistics statistics);
+}
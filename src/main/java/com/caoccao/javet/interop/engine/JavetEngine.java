@@ -19,15 +19,13 @@ package com.caoccao.javet.interop.engine;
 
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interop.V8Runtime;
-import com.caoccao.javet.utils.JavetDateTimeUtils;
-
-import java.time.ZonedDateTime;
 import java.util.Objects;
 
 @SuppressWarnings("unchecked")
 public class JavetEngine<R extends V8Runtime> implements IJavetEngine<R> {
-    protected boolean active;
+    protected volatile boolean active;
     protected IJavetEnginePool<R> iJavetEnginePool;
+    protected String tenant;
     protected JavetEngineUsage usage;
     protected R v8Runtime;
 
@@ -35,6 +33,7 @@ public class JavetEngine<R extends V8Runtime> implements IJavetEngine<R> {
         Objects.requireNonNull(v8Runtime);
         this.iJavetEnginePool = iJavetEnginePool;
         this.v8Runtime = v8Runtime;
+        tenant = null;
         usage = new JavetEngineUsage();
         setActive(false);
     }
@@ -65,7 +64,28 @@ public class JavetEngine<R extends V8Runtime> implements IJavetEngine<R> {
 
     @Override
     public IJavetEngineGuard getGuard(long timeoutMillis) {
-        return new JavetEngineGuard(this, v8Runtime, timeoutMillis);
+        return new JavetEngineGuard(this, v8Runtime, getEngineGuardScheduler(), timeoutMillis);
+    }
+
+    /**
+     * Gets the guard scheduler owned by the pool.
+     *
+     * @return the guard scheduler, null if the pool doesn't own one
+     */
+    protected JavetEngineGuardScheduler getEngineGuardScheduler() {
+        if (iJavetEnginePool instanceof JavetEnginePool) {
+            return ((JavetEnginePool<R>) iJavetEnginePool).getEngineGuardScheduler();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the tenant holding the engine.
+     *
+     * @return the tenant, null if the engine is idle or not acquired for a tenant
+     */
+    public String getTenant() {
+        return tenant;
     }
 
     protected JavetEngineUsage getUsage() {
@@ -79,12 +99,20 @@ public class JavetEngine<R extends V8Runtime> implements IJavetEngine<R> {
     }
 
     /**
-     * Gets utc now. It's designed for mocking the time in test scenario.
+     * Gets current time millis. It's designed for mocking the time in test scenario.
+     * It doesn't allocate so that borrowing and returning an engine stays allocation free.
      *
-     * @return the utc now
+     * @return the current time millis
      */
-    protected ZonedDateTime getUTCNow() {
-        return JavetDateTimeUtils.getUTCNow();
+    protected long getCurrentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    protected void recordGuardTermination() {
+        usage.increaseGuardTerminationCount();
+        if (iJavetEnginePool instanceof JavetEnginePool) {
+            ((JavetEnginePool<R>) iJavetEnginePool).getMetrics().recordGuardTermination();
+        }
     }
 
     @Override
@@ -100,7 +128,7 @@ public class JavetEngine<R extends V8Runtime> implements IJavetEngine<R> {
     }
 
     protected void touchLastActiveZonedDateTime() {
-        usage.setLastActiveZonedDatetime(getUTCNow());
+        usage.setLastActiveMillis(getCurrentTimeMillis());
     }
 
     @Override
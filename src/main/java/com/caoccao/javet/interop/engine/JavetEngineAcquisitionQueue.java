@@ -0,0 +1,307 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The type Javet engine acquisition queue.
+ * <p>
+ * It hands out the engine permits of a pool. Waiters are served by priority class
+ * and in FIFO order within a class, and they keep their position until they are served,
+ * time out or the queue is closed. A tenant that holds its max engine count is skipped
+ * so that it never blocks the waiters of other tenants.
+ * <p>
+ * Waiters park instead of blocking on a monitor, so they are friendly to virtual threads.
+ */
+public final class JavetEngineAcquisitionQueue {
+    private static final JavetEnginePriority[] PRIORITIES = JavetEnginePriority.values();
+    private final JavetEngineConfig config;
+    private final ReentrantLock lock;
+    private final Map<String, Integer> tenantEngineCountMap;
+    private final ArrayDeque<Waiter>[] waiterQueues;
+    private volatile boolean closed;
+    private volatile int permits;
+    private int waiterCount;
+
+    @SuppressWarnings("unchecked")
+    public JavetEngineAcquisitionQueue(JavetEngineConfig config, int permits) {
+        Objects.requireNonNull(config);
+        this.config = config;
+        this.permits = permits;
+        closed = false;
+        lock = new ReentrantLock();
+        tenantEngineCountMap = new HashMap<>();
+        waiterCount = 0;
+        waiterQueues = new ArrayDeque[PRIORITIES.length];
+        for (int i = 0; i < waiterQueues.length; ++i) {
+            waiterQueues[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Acquires a permit for the tenant.
+     * A tenant of null is not subject to any quota.
+     *
+     * @param tenant       the tenant
+     * @param priority     the priority
+     * @param timeoutNanos the timeout nanos, negative means no timeout
+     * @return true if the permit is acquired, false if timed out or the queue is closed
+     * @throws InterruptedException the interrupted exception
+     */
+    public boolean acquire(String tenant, JavetEnginePriority priority, long timeoutNanos)
+            throws InterruptedException {
+        Objects.requireNonNull(priority);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        Waiter waiter;
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            if (waiterCount == 0 && permits > 0 && isTenantAvailable(tenant)) {
+                grant(tenant);
+                return true;
+            }
+            if (timeoutNanos == 0) {
+                return false;
+            }
+            waiter = new Waiter(Thread.currentThread(), tenant);
+            waiterQueues[priority.ordinal()].offerLast(waiter);
+            ++waiterCount;
+            // The permits might be left over by the waiters whose tenants are at quota.
+            dispatch();
+            if (waiter.granted) {
+                return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        final long startNanos = System.nanoTime();
+        while (!waiter.granted && !closed) {
+            if (timeoutNanos < 0) {
+                LockSupport.park(this);
+            } else {
+                final long remainingNanos = timeoutNanos - (System.nanoTime() - startNanos);
+                if (remainingNanos <= 0) {
+                    break;
+                }
+                LockSupport.parkNanos(this, remainingNanos);
+            }
+            if (Thread.interrupted()) {
+                if (cancel(waiter, priority)) {
+                    throw new InterruptedException();
+                }
+                // The permit was granted in the meantime, so the interruption is kept for the caller.
+                Thread.currentThread().interrupt();
+                return true;
+            }
+        }
+        return waiter.granted || !cancel(waiter, priority);
+    }
+
+    public int availablePermits() {
+        return permits;
+    }
+
+    /**
+     * Removes the waiter from the queue.
+     *
+     * @param waiter   the waiter
+     * @param priority the priority
+     * @return true if the waiter is removed, false if it has been granted
+     */
+    private boolean cancel(Waiter waiter, JavetEnginePriority priority) {
+        lock.lock();
+        try {
+            if (waiter.granted) {
+                return false;
+            }
+            if (waiterQueues[priority.ordinal()].removeFirstOccurrence(waiter)) {
+                --waiterCount;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up all the waiters and rejects new acquisitions.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            for (ArrayDeque<Waiter> waiterQueue : waiterQueues) {
+                Waiter waiter;
+                while ((waiter = waiterQueue.pollFirst()) != null) {
+                    LockSupport.unpark(waiter.thread);
+                }
+            }
+            waiterCount = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hands the available permits over to the waiters. It must be called under the lock.
+     */
+    private void dispatch() {
+        for (ArrayDeque<Waiter> waiterQueue : waiterQueues) {
+            Iterator<Waiter> iterator = waiterQueue.iterator();
+            while (permits > 0 && iterator.hasNext()) {
+                Waiter waiter = iterator.next();
+                if (isTenantAvailable(waiter.tenant)) {
+                    iterator.remove();
+                    --waiterCount;
+                    grant(waiter.tenant);
+                    waiter.granted = true;
+                    LockSupport.unpark(waiter.thread);
+                }
+            }
+            if (permits <= 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of engines held by the tenant.
+     *
+     * @param tenant the tenant
+     * @return the tenant engine count
+     */
+    public int getTenantEngineCount(String tenant) {
+        lock.lock();
+        try {
+            return tenantEngineCountMap.getOrDefault(tenant, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiterCount() {
+        return waiterCount;
+    }
+
+    private void grant(String tenant) {
+        --permits;
+        if (tenant != null) {
+            tenantEngineCountMap.merge(tenant, 1, Integer::sum);
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    private boolean isTenantAvailable(String tenant) {
+        if (tenant == null) {
+            return true;
+        }
+        final int tenantMaxEngineCount = config.getTenantMaxEngineCount(tenant);
+        return tenantMaxEngineCount <= 0 || tenantEngineCountMap.getOrDefault(tenant, 0) < tenantMaxEngineCount;
+    }
+
+    /**
+     * Takes permits back, e.g. when the pool shrinks. The available permits might go negative.
+     *
+     * @param reduction the reduction
+     */
+    public void reducePermits(int reduction) {
+        lock.lock();
+        try {
+            permits -= reduction;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        release(1);
+    }
+
+    public void release(int count) {
+        lock.lock();
+        try {
+            permits += count;
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the quota held by the tenant. It is independent of the permit
+     * because an engine keeps its permit until it is reset.
+     *
+     * @param tenant the tenant
+     */
+    public void releaseTenant(String tenant) {
+        if (tenant == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            tenantEngineCountMap.computeIfPresent(tenant, (key, count) -> count > 1 ? count - 1 : null);
+            dispatch();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquires a permit without a tenant only if it is available and nobody is waiting.
+     *
+     * @return true if the permit is acquired
+     */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (!closed && waiterCount == 0 && permits > 0) {
+                grant(null);
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Waiter {
+        private final String tenant;
+        private final Thread thread;
+        private volatile boolean granted;
+
+        private Waiter(Thread thread, String tenant) {
+            this.thread = thread;
+            this.tenant = tenant;
+            granted = false;
+        }
+    }
+}
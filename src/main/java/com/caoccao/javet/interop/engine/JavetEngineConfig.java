@@ -17,13 +17,23 @@
 
 package com.caoccao.javet.interop.engine;
 
+import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interfaces.IJavetLogger;
 import com.caoccao.javet.interop.JSRuntimeType;
+import com.caoccao.javet.interop.V8Host;
+import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.interop.cache.IV8CodeCacheStore;
 import com.caoccao.javet.utils.JavetDefaultLogger;
 import com.caoccao.javet.utils.JavetOSUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 public final class JavetEngineConfig {
     public static final int DEFAULT_ENGINE_GUARD_TIMEOUT_MILLIS = 30000;
@@ -36,49 +46,160 @@ public final class JavetEngineConfig {
     public static final int DEFAULT_RESET_ENGINE_TIMEOUT_SECONDS = 3600;
     public static final String DEFAULT_GLOBAL_NAME = "window";
     public static final int DEFAULT_POOL_SHUTDOWN_TIMEOUT_SECONDS = 5;
+    public static final boolean DEFAULT_POOL_PRE_WARM_ENABLED = false;
+    public static final boolean DEFAULT_JMX_ENABLED = false;
+    public static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 1024;
+    public static final int DEFAULT_POOL_SIZING_INTERVAL_MILLIS = 1000;
+    public static final boolean DEFAULT_POOL_THREAD_AFFINITY_ENABLED = false;
+    public static final int DEFAULT_TENANT_MAX_ENGINE_COUNT = 0;
+    public static final boolean DEFAULT_REFERENCE_AUTO_RELEASE_ENABLED = false;
+    public static final int DEFAULT_PROPERTY_KEY_CACHE_SIZE = 0;
+    public static final long DEFAULT_UNBOUND_SCRIPT_CACHE_SIZE = 0L;
     public static IJavetLogger DEFAULT_JAVET_LOGGER = new JavetDefaultLogger(JavetEnginePool.class.getName());
+    private int asyncQueueCapacity;
+    private IV8CodeCacheStore codeCacheStore;
     private IJavetLogger javetLogger;
     private String globalName;
     private int defaultEngineGuardTimeoutMillis;
     private int engineGuardCheckIntervalMillis;
+    private boolean jmxEnabled;
     private JSRuntimeType jsRuntimeType;
     private int maxEngineUsedCount;
     private int poolDaemonCheckIntervalMillis;
     private int poolMaxSize;
     private int poolMinSize;
+    private String poolName;
     private int poolIdleTimeoutSeconds;
+    private boolean poolPreWarmEnabled;
+    private IJavetEnginePoolSizingPolicy poolSizingPolicy;
+    private int poolSizingIntervalMillis;
     private int poolShutdownTimeoutSeconds;
+    private boolean poolThreadAffinityEnabled;
+    private int propertyKeyCacheSize;
+    private boolean referenceAutoReleaseEnabled;
     private int resetEngineTimeoutSeconds;
+    private byte[] snapshotBlob;
+    private int defaultTenantMaxEngineCount;
+    private Map<String, Integer> tenantMaxEngineCountMap;
+    private ThreadFactory threadFactory;
+    private long unboundScriptCacheSize;
     private ExecutorService executorService;
+    private IJavetEngineConsumer warmUpConsumer;
+    private List<String> warmUpScripts;
 
     public JavetEngineConfig() {
         reset();
     }
 
     public void reset() {
+        asyncQueueCapacity = DEFAULT_ASYNC_QUEUE_CAPACITY;
+        codeCacheStore = null;
         javetLogger = DEFAULT_JAVET_LOGGER;
         globalName = DEFAULT_GLOBAL_NAME;
         defaultEngineGuardTimeoutMillis = DEFAULT_ENGINE_GUARD_TIMEOUT_MILLIS;
         engineGuardCheckIntervalMillis = DEFAULT_ENGINE_GUARD_CHECK_INTERVAL_MILLIS;
+        jmxEnabled = DEFAULT_JMX_ENABLED;
         jsRuntimeType = DEFAULT_JS_RUNTIME_TYPE;
         maxEngineUsedCount = DEFAULT_MAX_ENGINE_USED_COUNT;
         final int cpuCount = JavetOSUtils.getCPUCount();
         poolMinSize = Math.max(DEFAULT_POOL_MIN_SIZE, cpuCount >> 1);
         poolMaxSize = Math.max(DEFAULT_POOL_MIN_SIZE, cpuCount);
         poolIdleTimeoutSeconds = DEFAULT_POOL_IDLE_TIMEOUT_SECONDS;
+        poolName = null;
+        poolPreWarmEnabled = DEFAULT_POOL_PRE_WARM_ENABLED;
+        poolSizingPolicy = null;
+        poolSizingIntervalMillis = DEFAULT_POOL_SIZING_INTERVAL_MILLIS;
         poolShutdownTimeoutSeconds = DEFAULT_POOL_SHUTDOWN_TIMEOUT_SECONDS;
+        poolThreadAffinityEnabled = DEFAULT_POOL_THREAD_AFFINITY_ENABLED;
         poolDaemonCheckIntervalMillis = DEFAULT_POOL_DAEMON_CHECK_INTERVAL_MILLIS;
+        propertyKeyCacheSize = DEFAULT_PROPERTY_KEY_CACHE_SIZE;
+        referenceAutoReleaseEnabled = DEFAULT_REFERENCE_AUTO_RELEASE_ENABLED;
         resetEngineTimeoutSeconds = DEFAULT_RESET_ENGINE_TIMEOUT_SECONDS;
+        snapshotBlob = null;
+        defaultTenantMaxEngineCount = DEFAULT_TENANT_MAX_ENGINE_COUNT;
+        tenantMaxEngineCountMap = new ConcurrentHashMap<>();
+        executorService = null;
+        threadFactory = Executors.defaultThreadFactory();
+        unboundScriptCacheSize = DEFAULT_UNBOUND_SCRIPT_CACHE_SIZE;
+        warmUpConsumer = null;
+        warmUpScripts = new ArrayList<>();
+    }
+
+    public int getAsyncQueueCapacity() {
+        return asyncQueueCapacity;
+    }
+
+    /**
+     * Sets async queue capacity.
+     * Tasks submitted to the pool beyond the capacity are rejected instead of blocking the caller.
+     *
+     * @param asyncQueueCapacity the async queue capacity
+     */
+    public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+        this.asyncQueueCapacity = asyncQueueCapacity;
+    }
+
+    public IV8CodeCacheStore getCodeCacheStore() {
+        return codeCacheStore;
+    }
+
+    /**
+     * Sets code cache store shared by the V8 runtimes created by the pool,
+     * so that a new or reset engine consumes the code cache instead of parsing the scripts again.
+     *
+     * @param codeCacheStore the code cache store
+     */
+    public void setCodeCacheStore(IV8CodeCacheStore codeCacheStore) {
+        this.codeCacheStore = codeCacheStore;
     }
 
     public ExecutorService getExecutorService() {
         return executorService;
     }
 
-    void setExecutorService(ExecutorService executorService) {
+    /**
+     * Sets executor service.
+     * The pool runs engine resets, disposals, pre-warming and async workers in it.
+     * If it is not set, the pool creates a cached thread pool from the thread factory and shuts it down on close.
+     * A supplied executor service is not shut down by the pool, e.g. a virtual thread per task executor.
+     *
+     * @param executorService the executor service
+     */
+    public void setExecutorService(ExecutorService executorService) {
         this.executorService = executorService;
     }
 
+    public boolean isJmxEnabled() {
+        return jmxEnabled;
+    }
+
+    /**
+     * Sets JMX enabled.
+     * When enabled, the pool registers its statistics as an MXBean
+     * named com.caoccao.javet:type=JavetEnginePool,name=[pool name] on start.
+     *
+     * @param jmxEnabled the JMX enabled
+     */
+    public void setJmxEnabled(boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    /**
+     * Sets thread factory.
+     * It creates the pool daemon thread, the guard scheduler thread and
+     * the default executor service threads.
+     *
+     * @param threadFactory the thread factory
+     */
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        Objects.requireNonNull(threadFactory);
+        this.threadFactory = threadFactory;
+    }
+
     public JSRuntimeType getJsRuntimeType() {
         return jsRuntimeType;
     }
@@ -96,10 +217,24 @@ public final class JavetEngineConfig {
         this.poolShutdownTimeoutSeconds = poolShutdownTimeoutSeconds;
     }
 
+    /**
+     * Gets engine guard check interval millis.
+     *
+     * @return the engine guard check interval millis
+     * @deprecated Guards are driven by the {@link JavetEngineGuardScheduler} of the pool with millisecond ticks.
+     */
+    @Deprecated
     public int getEngineGuardCheckIntervalMillis() {
         return engineGuardCheckIntervalMillis;
     }
 
+    /**
+     * Sets engine guard check interval millis.
+     *
+     * @param engineGuardCheckIntervalMillis the engine guard check interval millis
+     * @deprecated Guards are driven by the {@link JavetEngineGuardScheduler} of the pool with millisecond ticks.
+     */
+    @Deprecated
     public void setEngineGuardCheckIntervalMillis(int engineGuardCheckIntervalMillis) {
         this.engineGuardCheckIntervalMillis = engineGuardCheckIntervalMillis;
     }
@@ -161,6 +296,20 @@ public final class JavetEngineConfig {
         this.poolMinSize = poolMinSize;
     }
 
+    public String getPoolName() {
+        return poolName;
+    }
+
+    /**
+     * Sets pool name.
+     * It identifies the pool MXBean. The identity hash code of the pool is used if it is not set.
+     *
+     * @param poolName the pool name
+     */
+    public void setPoolName(String poolName) {
+        this.poolName = poolName;
+    }
+
     public int getPoolIdleTimeoutSeconds() {
         return poolIdleTimeoutSeconds;
     }
@@ -176,4 +325,187 @@ public final class JavetEngineConfig {
     public void setPoolDaemonCheckIntervalMillis(int poolDaemonCheckIntervalMillis) {
         this.poolDaemonCheckIntervalMillis = poolDaemonCheckIntervalMillis;
     }
+
+    public boolean isPoolPreWarmEnabled() {
+        return poolPreWarmEnabled;
+    }
+
+    /**
+     * Sets pool pre-warm enabled.
+     * When enabled, the pool creates pool min size engines in parallel on start
+     * so that the first requests don't pay the engine creation.
+     *
+     * @param poolPreWarmEnabled the pool pre-warm enabled
+     */
+    public void setPoolPreWarmEnabled(boolean poolPreWarmEnabled) {
+        this.poolPreWarmEnabled = poolPreWarmEnabled;
+    }
+
+    public boolean isPoolThreadAffinityEnabled() {
+        return poolThreadAffinityEnabled;
+    }
+
+    /**
+     * Sets pool thread affinity enabled.
+     * When enabled, a released engine is parked in a slot of the releasing thread
+     * so that the next acquisition from the same thread gets the same warm engine back.
+     * Other threads steal parked engines when the shared idle list is empty.
+     *
+     * @param poolThreadAffinityEnabled the pool thread affinity enabled
+     */
+    public void setPoolThreadAffinityEnabled(boolean poolThreadAffinityEnabled) {
+        this.poolThreadAffinityEnabled = poolThreadAffinityEnabled;
+    }
+
+    public IJavetEnginePoolSizingPolicy getPoolSizingPolicy() {
+        return poolSizingPolicy;
+    }
+
+    /**
+     * Sets pool sizing policy.
+     * When it is set, the pool starts with pool min size and lets the policy
+     * resize it between pool min size and pool max size. Otherwise, the pool size is fixed to pool max size.
+     *
+     * @param poolSizingPolicy the pool sizing policy
+     */
+    public void setPoolSizingPolicy(IJavetEnginePoolSizingPolicy poolSizingPolicy) {
+        this.poolSizingPolicy = poolSizingPolicy;
+    }
+
+    public int getPoolSizingIntervalMillis() {
+        return poolSizingIntervalMillis;
+    }
+
+    public void setPoolSizingIntervalMillis(int poolSizingIntervalMillis) {
+        this.poolSizingIntervalMillis = poolSizingIntervalMillis;
+    }
+
+    public int getPropertyKeyCacheSize() {
+        return propertyKeyCacheSize;
+    }
+
+    /**
+     * Sets property key cache size for the V8 runtimes created by the pool.
+     * The cached keys are internalized once, which pays off for a small set of hot keys.
+     * 0 disables the cache.
+     *
+     * @param propertyKeyCacheSize the property key cache size
+     */
+    public void setPropertyKeyCacheSize(int propertyKeyCacheSize) {
+        this.propertyKeyCacheSize = propertyKeyCacheSize;
+    }
+
+    public boolean isReferenceAutoReleaseEnabled() {
+        return referenceAutoReleaseEnabled;
+    }
+
+    /**
+     * Sets reference auto release enabled for the V8 runtimes created by the pool.
+     * The handles of the V8 values that are never closed are then released once
+     * the values become unreachable instead of pinning the V8 heap until the next reset.
+     *
+     * @param referenceAutoReleaseEnabled the reference auto release enabled
+     */
+    public void setReferenceAutoReleaseEnabled(boolean referenceAutoReleaseEnabled) {
+        this.referenceAutoReleaseEnabled = referenceAutoReleaseEnabled;
+    }
+
+    public int getDefaultTenantMaxEngineCount() {
+        return defaultTenantMaxEngineCount;
+    }
+
+    /**
+     * Sets default tenant max engine count.
+     * It applies to the tenants without their own max engine count. 0 means unlimited.
+     *
+     * @param defaultTenantMaxEngineCount the default tenant max engine count
+     */
+    public void setDefaultTenantMaxEngineCount(int defaultTenantMaxEngineCount) {
+        this.defaultTenantMaxEngineCount = defaultTenantMaxEngineCount;
+    }
+
+    /**
+     * Gets the max number of engines the tenant may hold concurrently. 0 means unlimited.
+     *
+     * @param tenant the tenant
+     * @return the tenant max engine count
+     */
+    public int getTenantMaxEngineCount(String tenant) {
+        Objects.requireNonNull(tenant);
+        return tenantMaxEngineCountMap.getOrDefault(tenant, defaultTenantMaxEngineCount);
+    }
+
+    /**
+     * Sets the max number of engines the tenant may hold concurrently. 0 means unlimited.
+     * Waiters of a tenant at its max engine count don't block the waiters of other tenants.
+     *
+     * @param tenant               the tenant
+     * @param tenantMaxEngineCount the tenant max engine count
+     */
+    public void setTenantMaxEngineCount(String tenant, int tenantMaxEngineCount) {
+        Objects.requireNonNull(tenant);
+        tenantMaxEngineCountMap.put(tenant, tenantMaxEngineCount);
+    }
+
+    public byte[] getSnapshotBlob() {
+        return snapshotBlob;
+    }
+
+    /**
+     * Sets snapshot blob built by {@link com.caoccao.javet.interop.V8SnapshotBuilder},
+     * so that the engines created by the pool come up with the globals already initialized.
+     * It is ignored in Node mode, so the JS runtime type should be set first.
+     * In V8 mode the blob is validated once here, so that an invalid blob fails fast
+     * instead of failing every engine created by the pool.
+     *
+     * @param snapshotBlob the snapshot blob
+     * @throws JavetException the javet exception raised if the snapshot blob is invalid
+     */
+    public void setSnapshotBlob(byte[] snapshotBlob) throws JavetException {
+        if (snapshotBlob != null && jsRuntimeType.isV8()) {
+            V8Runtime v8Runtime = V8Host.getV8Instance().createV8Runtime(false, globalName, snapshotBlob);
+            if (v8Runtime != null) {
+                v8Runtime.close();
+            }
+        }
+        this.snapshotBlob = snapshotBlob;
+    }
+
+    public long getUnboundScriptCacheSize() {
+        return unboundScriptCacheSize;
+    }
+
+    /**
+     * Sets unbound script cache size in bytes per engine.
+     * The compiled scripts survive the periodic context reset, so a reset engine doesn't recompile them.
+     *
+     * @param unboundScriptCacheSize the unbound script cache size in bytes
+     */
+    public void setUnboundScriptCacheSize(long unboundScriptCacheSize) {
+        this.unboundScriptCacheSize = unboundScriptCacheSize;
+    }
+
+    public IJavetEngineConsumer getWarmUpConsumer() {
+        return warmUpConsumer;
+    }
+
+    /**
+     * Sets warm up consumer.
+     * It is called on every new or reset engine after the warm up scripts are executed.
+     *
+     * @param warmUpConsumer the warm up consumer
+     */
+    public void setWarmUpConsumer(IJavetEngineConsumer warmUpConsumer) {
+        this.warmUpConsumer = warmUpConsumer;
+    }
+
+    /**
+     * Gets warm up scripts.
+     * They are executed in order on every new or reset engine before it joins the idle list.
+     *
+     * @return the warm up scripts
+     */
+    public List<String> getWarmUpScripts() {
+        return warmUpScripts;
+    }
 }
@@ -20,41 +20,50 @@ package com.caoccao.javet.interop.engine;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interfaces.IJavetLogger;
 import com.caoccao.javet.interop.V8Runtime;
-import com.caoccao.javet.utils.JavetDateTimeUtils;
 
-import java.time.Duration;
-import java.time.ZonedDateTime;
 import java.util.Objects;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 public class JavetEngineGuard implements IJavetEngineGuard {
     protected long timeoutMillis;
+    protected JavetEngineGuardScheduler engineGuardScheduler;
     protected IJavetEngine iJavetEngine;
-    protected boolean quitting;
+    protected volatile boolean quitting;
+    protected long startNanos;
+    protected JavetEngineGuardScheduler.Timeout timeout;
     protected V8Runtime v8Runtime;
-    protected Future future;
 
     public JavetEngineGuard(IJavetEngine iJavetEngine, V8Runtime v8Runtime, long timeoutMills) {
+        this(iJavetEngine, v8Runtime,
+                iJavetEngine instanceof JavetEngine ? ((JavetEngine<?>) iJavetEngine).getEngineGuardScheduler() : null,
+                timeoutMills);
+    }
+
+    public JavetEngineGuard(
+            IJavetEngine iJavetEngine, V8Runtime v8Runtime,
+            JavetEngineGuardScheduler engineGuardScheduler, long timeoutMills) {
         Objects.requireNonNull(iJavetEngine);
+        this.engineGuardScheduler = engineGuardScheduler;
         this.iJavetEngine = iJavetEngine;
         this.timeoutMillis = timeoutMills;
         quitting = false;
         this.v8Runtime = v8Runtime;
-        future = this.iJavetEngine.getConfig().getExecutorService().submit(this);
+        startNanos = System.nanoTime();
+        timeout = null;
+        schedule();
     }
 
     @Override
     public void cancel() {
         quitting = true;
+        if (timeout != null) {
+            timeout.cancel();
+        }
     }
 
     @Override
     public void close() throws JavetException {
         cancel();
-        if (!future.isDone() && !future.isCancelled()) {
-            future.cancel(true);
-        }
     }
 
     @Override
@@ -63,47 +72,51 @@ public class JavetEngineGuard implements IJavetEngineGuard {
     }
 
     @Override
-    public void setTimeoutMillis(long timeoutSeconds) {
-        this.timeoutMillis = timeoutSeconds;
+    public void setTimeoutMillis(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        if (!quitting) {
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            schedule();
+        }
     }
 
     public boolean isQuitting() {
         return quitting;
     }
 
-    protected ZonedDateTime getUTCNow() {
-        return JavetDateTimeUtils.getUTCNow();
-    }
-
+    /**
+     * Runs on the shared guard scheduler thread when the deadline is reached.
+     */
     @Override
     public void run() {
-        JavetEngineConfig config = iJavetEngine.getConfig();
-        IJavetLogger logger = config.getJavetLogger();
-        ZonedDateTime startZonedDateTime = getUTCNow();
-        while (!isQuitting() && iJavetEngine.isActive()) {
-            ZonedDateTime currentZonedDateTime = getUTCNow();
-            if (startZonedDateTime.plusNanos(TimeUnit.MILLISECONDS.toNanos(timeoutMillis))
-                    .isBefore(currentZonedDateTime)) {
-                try {
-                    if (v8Runtime.isInUse()) {
-                        // Javet only terminates the execution when V8 runtime is in use.
-                        v8Runtime.terminateExecution();
-                        Duration duration = Duration.between(startZonedDateTime, currentZonedDateTime);
-                        logger.logWarn("Execution was terminated after {0}ms.", duration.toMillis());
+        if (!isQuitting() && iJavetEngine.isActive()) {
+            IJavetLogger logger = iJavetEngine.getConfig().getJavetLogger();
+            try {
+                if (v8Runtime.isInUse()) {
+                    // Javet only terminates the execution when V8 runtime is in use.
+                    v8Runtime.terminateExecution();
+                    if (iJavetEngine instanceof JavetEngine) {
+                        ((JavetEngine<?>) iJavetEngine).recordGuardTermination();
                     }
-                } catch (Exception e) {
-                    logger.error(e.getMessage(), e);
-                } finally {
-                    break;
-                }
-            } else {
-                try {
-                    Thread.sleep(config.getEngineGuardCheckIntervalMillis());
-                } catch (InterruptedException e) {
-                    // It's closed.
+                    logger.logWarn("Execution was terminated after {0}ms.",
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
                 }
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
             }
         }
         quitting = true;
     }
+
+    protected void schedule() {
+        final long delayNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillis) - System.nanoTime();
+        if (engineGuardScheduler == null) {
+            iJavetEngine.getConfig().getJavetLogger().logWarn(
+                    "Engine guard is not armed because there is no guard scheduler.");
+        } else {
+            timeout = engineGuardScheduler.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
 }
@@ -0,0 +1,291 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine;
+
+import com.caoccao.javet.interfaces.IJavetClosable;
+import com.caoccao.javet.interfaces.IJavetLogger;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The type Javet engine guard scheduler.
+ * <p>
+ * It is a hashed timer wheel shared by all guards of a pool.
+ * One daemon thread advances the wheel tick by tick, scheduling and cancellation
+ * are O(1) and no thread is parked per guard.
+ * Only the worker thread touches the buckets. Other threads hand new and cancelled
+ * timeouts over via lock-free queues.
+ */
+public class JavetEngineGuardScheduler implements IJavetClosable, Runnable {
+    public static final int DEFAULT_TICK_MILLIS = 1;
+    public static final int DEFAULT_WHEEL_SIZE = 1024;
+    protected static final int STATE_CANCELLED = 1;
+    protected static final int STATE_EXPIRED = 2;
+    protected static final int STATE_INIT = 0;
+    protected final Bucket[] buckets;
+    protected final ConcurrentLinkedQueue<Timeout> cancelledTimeouts;
+    protected final IJavetLogger logger;
+    protected final int mask;
+    protected final ConcurrentLinkedQueue<Timeout> pendingTimeouts;
+    protected final long startNanos;
+    protected final long tickNanos;
+    protected volatile boolean quitting;
+    protected long tick;
+    protected int timeoutCount;
+    protected Thread workerThread;
+
+    public JavetEngineGuardScheduler(IJavetLogger logger) {
+        this(logger, Executors.defaultThreadFactory());
+    }
+
+    public JavetEngineGuardScheduler(IJavetLogger logger, ThreadFactory threadFactory) {
+        this(logger, threadFactory, DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    public JavetEngineGuardScheduler(IJavetLogger logger, ThreadFactory threadFactory, int tickMillis, int wheelSize) {
+        Objects.requireNonNull(logger);
+        Objects.requireNonNull(threadFactory);
+        assert tickMillis > 0 : "Tick millis must be positive";
+        assert wheelSize > 0 && (wheelSize & (wheelSize - 1)) == 0 : "Wheel size must be a power of 2";
+        this.logger = logger;
+        buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; ++i) {
+            buckets[i] = new Bucket();
+        }
+        cancelledTimeouts = new ConcurrentLinkedQueue<>();
+        mask = wheelSize - 1;
+        pendingTimeouts = new ConcurrentLinkedQueue<>();
+        startNanos = System.nanoTime();
+        tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        quitting = false;
+        tick = 0;
+        timeoutCount = 0;
+        workerThread = threadFactory.newThread(this);
+        workerThread.setDaemon(true);
+        workerThread.start();
+    }
+
+    @Override
+    public void close() {
+        quitting = true;
+        if (workerThread != null) {
+            LockSupport.unpark(workerThread);
+            try {
+                workerThread.join();
+            } catch (InterruptedException e) {
+                logger.logError(e, "Failed to join the guard scheduler thread.");
+            } finally {
+                workerThread = null;
+            }
+        }
+    }
+
+    protected void expireTimeouts(Bucket bucket) {
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.remainingRounds <= 0) {
+                bucket.remove(timeout);
+                --timeoutCount;
+                if (timeout.state.compareAndSet(STATE_INIT, STATE_EXPIRED)) {
+                    try {
+                        timeout.task.run();
+                    } catch (Throwable t) {
+                        logger.logError(t, "Failed to run the guard task.");
+                    }
+                }
+            } else {
+                --timeout.remainingRounds;
+            }
+            timeout = next;
+        }
+    }
+
+    public boolean isQuitting() {
+        return quitting;
+    }
+
+    protected void processCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+                --timeoutCount;
+            }
+        }
+    }
+
+    protected void processPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.state.get() != STATE_INIT) {
+                continue;
+            }
+            final long calculatedTick = Math.max((timeout.deadlineNanos - startNanos + tickNanos - 1) / tickNanos, tick);
+            timeout.remainingRounds = (calculatedTick - tick) / buckets.length;
+            buckets[(int) (calculatedTick & mask)].add(timeout);
+            ++timeoutCount;
+        }
+    }
+
+    @Override
+    public void run() {
+        while (!quitting) {
+            processCancelledTimeouts();
+            processPendingTimeouts();
+            if (timeoutCount == 0 && pendingTimeouts.isEmpty()) {
+                // Nothing to guard, park until a timeout is scheduled and catch up with the clock afterwards.
+                LockSupport.park(this);
+                tick = Math.max(tick, (System.nanoTime() - startNanos) / tickNanos);
+                continue;
+            }
+            final long sleepNanos = startNanos + (tick + 1) * tickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            expireTimeouts(buckets[(int) (tick & mask)]);
+            ++tick;
+        }
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            timeout.state.compareAndSet(STATE_INIT, STATE_CANCELLED);
+        }
+        for (Bucket bucket : buckets) {
+            while ((timeout = bucket.head) != null) {
+                bucket.remove(timeout);
+                timeout.state.compareAndSet(STATE_INIT, STATE_CANCELLED);
+            }
+        }
+        cancelledTimeouts.clear();
+        timeoutCount = 0;
+    }
+
+    /**
+     * Schedules a task to be run once after the delay on the scheduler thread.
+     * The task must be short and must not block.
+     *
+     * @param task  the task
+     * @param delay the delay
+     * @param unit  the unit
+     * @return the timeout
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(task);
+        Timeout timeout = new Timeout(this, task, System.nanoTime() + unit.toNanos(Math.max(delay, 0)));
+        if (quitting) {
+            timeout.state.set(STATE_CANCELLED);
+        } else {
+            pendingTimeouts.offer(timeout);
+            Thread thread = workerThread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+        return timeout;
+    }
+
+    protected static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    public static final class Timeout {
+        private final long deadlineNanos;
+        private final JavetEngineGuardScheduler scheduler;
+        private final AtomicInteger state;
+        private final Runnable task;
+        private Bucket bucket;
+        private Timeout next;
+        private Timeout prev;
+        private long remainingRounds;
+
+        private Timeout(JavetEngineGuardScheduler scheduler, Runnable task, long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+            this.scheduler = scheduler;
+            this.task = task;
+            state = new AtomicInteger(STATE_INIT);
+            bucket = null;
+            next = null;
+            prev = null;
+            remainingRounds = 0;
+        }
+
+        /**
+         * Cancels the timeout in O(1).
+         * The worker thread unlinks it from the wheel on its next tick.
+         *
+         * @return true if the task will not run
+         */
+        public boolean cancel() {
+            if (state.compareAndSet(STATE_INIT, STATE_CANCELLED)) {
+                scheduler.cancelledTimeouts.offer(this);
+                return true;
+            }
+            return false;
+        }
+
+        public long getDeadlineNanos() {
+            return deadlineNanos;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+    }
+}
@@ -17,29 +17,52 @@
 
 package com.caoccao.javet.interop.engine;
 
+import com.caoccao.javet.exceptions.JavetEnginePoolException;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interfaces.IJavetLogger;
 import com.caoccao.javet.interop.V8Host;
 import com.caoccao.javet.interop.V8Runtime;
-import com.caoccao.javet.utils.JavetDateTimeUtils;
 
-import java.time.ZonedDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.LinkedList;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 
 @SuppressWarnings("unchecked")
 public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>, Runnable {
+    protected ArrayBlockingQueue<AsyncTask<R, ?>> asyncTaskQueue;
+    protected AtomicInteger asyncWorkerCount;
     protected JavetEngineConfig config;
-    protected LinkedList<JavetEngine<R>> activeEngineList;
+    protected Set<JavetEngine<R>> activeEngineSet;
     protected Thread daemonThread;
-    protected LinkedList<JavetEngine<R>> idleEngineList;
-    protected Object externalLock;
-    protected Object internalLock;
-    protected boolean active;
-    protected boolean quitting;
+    protected JavetEngineAcquisitionQueue engineAcquisitionQueue;
+    protected JavetEngineGuardScheduler engineGuardScheduler;
+    protected ThreadLocal<JavetEngineSlot<R>> engineSlot;
+    protected AtomicInteger engineSlotCount;
+    protected ConcurrentLinkedQueue<JavetEngineSlot<R>> engineSlotQueue;
+    protected ConcurrentLinkedDeque<JavetEngine<R>> idleEngineList;
+    protected ConcurrentLinkedQueue<JavetEngine<R>> resetEngineQueue;
+    protected ExecutorService executorService;
+    protected boolean executorServiceOwned;
+    protected JavetEnginePoolMetrics metrics;
+    protected ObjectName objectName;
+    protected long lastSizingNanos;
+    protected volatile int poolSize;
+    protected AtomicInteger runningTaskCount;
+    protected ReentrantLock runningTaskLock;
+    protected Condition runningTaskCondition;
+    protected volatile boolean active;
+    protected volatile boolean quitting;
 
     public JavetEnginePool() {
         this(new JavetEngineConfig());
@@ -48,32 +71,172 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
     public JavetEnginePool(JavetEngineConfig config) {
         Objects.requireNonNull(config);
         this.config = config;
-        activeEngineList = new LinkedList<>();
-        idleEngineList = new LinkedList<>();
-        externalLock = new Object();
-        internalLock = new Object();
+        asyncWorkerCount = new AtomicInteger(0);
+        activeEngineSet = ConcurrentHashMap.newKeySet();
+        engineGuardScheduler = null;
+        engineSlot = null;
+        engineSlotCount = new AtomicInteger(0);
+        engineSlotQueue = new ConcurrentLinkedQueue<>();
+        idleEngineList = new ConcurrentLinkedDeque<>();
+        resetEngineQueue = new ConcurrentLinkedQueue<>();
+        executorService = null;
+        executorServiceOwned = false;
+        runningTaskCount = new AtomicInteger(0);
+        runningTaskLock = new ReentrantLock();
+        runningTaskCondition = runningTaskLock.newCondition();
+        metrics = new JavetEnginePoolMetrics(this);
+        objectName = null;
+        lastSizingNanos = System.nanoTime();
+        poolSize = 0;
         active = false;
         quitting = false;
         startDaemon();
     }
 
+    /**
+     * Fails all queued async tasks.
+     *
+     * @param exception the exception
+     */
+    protected void abortAsyncTasks(JavetException exception) {
+        AsyncTask<R, ?> asyncTask;
+        while ((asyncTask = asyncTaskQueue.poll()) != null) {
+            asyncTask.fail(exception);
+        }
+    }
+
+    /**
+     * Obtains an engine after a permit is acquired.
+     * The most recently released idle engine is preferred, otherwise a new engine is created.
+     * In thread affinity mode the engine parked by the current thread is preferred
+     * and engines parked by other threads are stolen before a new engine is created.
+     * The permit guarantees the total engine count never exceeds the pool max size.
+     *
+     * @param tenant       the tenant
+     * @param requestNanos the nano time when the engine was requested
+     * @return the engine
+     */
+    protected JavetEngine<R> acquireEngine(String tenant, long requestNanos) {
+        final long acquiredNanos = System.nanoTime();
+        metrics.recordAcquireWaitTime(acquiredNanos - requestNanos);
+        JavetEngine<R> engine = pollIdleEngine();
+        if (engine == null) {
+            try {
+                engine = createWarmEngine();
+            } catch (Throwable t) {
+                engineAcquisitionQueue.releaseTenant(tenant);
+                engineAcquisitionQueue.release();
+                throw t;
+            }
+        }
+        engine.tenant = tenant;
+        engine.setActive(true);
+        engine.getUsage().markAcquired(acquiredNanos);
+        activeEngineSet.add(engine);
+        engine.getUsage().increaseUsedCount();
+        return engine;
+    }
+
+    @Override
+    public void close() throws JavetException {
+        stopDaemon();
+    }
+
     protected JavetEngine<R> createEngine() {
         V8Host v8Host = config.getJsRuntimeType().isNode() ? V8Host.getNodeInstance() : V8Host.getV8Instance();
-        R v8Runtime = v8Host.createV8Runtime(true, config.getGlobalName());
+        R v8Runtime;
+        try {
+            v8Runtime = v8Host.createV8Runtime(true, config.getGlobalName(), config.getSnapshotBlob());
+        } catch (JavetException e) {
+            // The snapshot blob has been validated by the config, so this is not expected.
+            throw new IllegalStateException(e);
+        }
         v8Runtime.setLogger(config.getJavetLogger());
+        v8Runtime.setCodeCacheStore(config.getCodeCacheStore());
+        v8Runtime.setPropertyKeyCacheSize(config.getPropertyKeyCacheSize());
+        v8Runtime.setReferenceAutoReleaseEnabled(config.isReferenceAutoReleaseEnabled());
+        v8Runtime.setUnboundScriptCacheSize(config.getUnboundScriptCacheSize());
         return new JavetEngine<>(this, v8Runtime);
     }
 
-    @Override
-    public void close() throws JavetException {
-        stopDaemon();
+    protected JavetEngineSlot<R> createEngineSlot() {
+        JavetEngineSlot<R> slot = new JavetEngineSlot<>(Thread.currentThread());
+        engineSlotQueue.offer(slot);
+        return slot;
+    }
+
+    protected JavetEngine<R> createWarmEngine() {
+        final long startNanos = System.nanoTime();
+        JavetEngine<R> engine = createEngine();
+        metrics.recordEngineCreationTime(System.nanoTime() - startNanos);
+        warmUpEngine(engine);
+        return engine;
+    }
+
+    /**
+     * Releases the engine permanently.
+     *
+     * @param engine the engine
+     */
+    protected void destroyEngine(JavetEngine<R> engine) {
+        try {
+            engine.close(true);
+        } catch (Throwable t) {
+            config.getJavetLogger().logError(t, "Failed to release idle engine.");
+        }
+        metrics.recordEngineDestroyed();
+    }
+
+    /**
+     * Releases the engines parked in the slots beyond pool min size after the idle timeout,
+     * and forgets the empty slots of the threads that have terminated.
+     */
+    protected void expireSlotEngines() {
+        Iterator<JavetEngineSlot<R>> iterator = engineSlotQueue.iterator();
+        while (iterator.hasNext()) {
+            JavetEngineSlot<R> slot = iterator.next();
+            JavetEngine<R> engine = slot.get();
+            if (engine == null) {
+                if (!slot.isOwnerThreadAlive()) {
+                    iterator.remove();
+                }
+            } else if (getIdleEngineCount() > config.getPoolMinSize() && isIdleTimeout(engine)
+                    && slot.compareAndSet(engine, null)) {
+                engineSlotCount.decrementAndGet();
+                runAsync(() -> destroyEngine(engine));
+            }
+        }
+    }
+
+    /**
+     * Executes the runnable in the executor service and keeps track of it
+     * so that the pool can wait for its own tasks on shutdown.
+     *
+     * @param runnable the runnable
+     */
+    protected void execute(Runnable runnable) {
+        ExecutorService currentExecutorService = executorService;
+        if (currentExecutorService == null) {
+            throw new RejectedExecutionException();
+        }
+        runningTaskCount.incrementAndGet();
+        try {
+            currentExecutorService.execute(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    onTaskCompleted();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            onTaskCompleted();
+            throw e;
+        }
     }
 
     @Override
     public int getActiveEngineCount() {
-        synchronized (internalLock) {
-            return activeEngineList.size();
-        }
+        return activeEngineSet.size();
     }
 
     @Override
@@ -85,43 +248,91 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
     public IJavetEngine<R> getEngine() {
         IJavetLogger logger = config.getJavetLogger();
         logger.debug("JavetEnginePool.getEngine() begins.");
+        final long requestNanos = System.nanoTime();
         JavetEngine<R> engine = null;
         while (!quitting) {
-            synchronized (internalLock) {
-                if (idleEngineList.isEmpty()) {
-                    if (getActiveEngineCount() < config.getPoolMaxSize()) {
-                        engine = createEngine();
-                    }
-                } else {
-                    engine = idleEngineList.pop();
-                }
-                if (engine != null) {
-                    engine.setActive(true);
-                    activeEngineList.push(engine);
-                    break;
-                }
-            }
             try {
-                TimeUnit.MILLISECONDS.sleep(config.getPoolDaemonCheckIntervalMillis());
+                // The waiter keeps its position in the queue until it is served or the pool quits.
+                if (engineAcquisitionQueue.acquire(null, JavetEnginePriority.Normal, -1)) {
+                    engine = acquireEngine(null, requestNanos);
+                }
+                break;
             } catch (InterruptedException e) {
-                logger.logError(e, "Failed to sleep a while to wait for an idle engine.");
+                logger.logError(e, "Failed to wait for an idle engine.");
             }
         }
-        JavetEngineUsage usage = engine.getUsage();
-        usage.increaseUsedCount();
         logger.debug("JavetEnginePool.getEngine() ends.");
         return engine;
     }
 
     @Override
-    public int getIdleEngineCount() {
-        synchronized (internalLock) {
-            return idleEngineList.size();
+    public IJavetEngine<R> getEngine(long timeout, TimeUnit timeUnit) throws JavetException {
+        return getEngine(null, JavetEnginePriority.Normal, timeout, timeUnit);
+    }
+
+    @Override
+    public IJavetEngine<R> getEngine(String tenant, JavetEnginePriority priority, long timeout, TimeUnit timeUnit)
+            throws JavetException {
+        Objects.requireNonNull(priority);
+        Objects.requireNonNull(timeUnit);
+        IJavetLogger logger = config.getJavetLogger();
+        logger.debug("JavetEnginePool.getEngine(timeout) begins.");
+        if (quitting) {
+            throw JavetEnginePoolException.poolIsQuitting();
         }
+        final long requestNanos = System.nanoTime();
+        try {
+            if (!engineAcquisitionQueue.acquire(tenant, priority, Math.max(timeUnit.toNanos(timeout), 0))) {
+                if (quitting) {
+                    throw JavetEnginePoolException.poolIsQuitting();
+                }
+                metrics.recordAcquireTimeout();
+                throw JavetEnginePoolException.engineNotAvailable(timeUnit.toMillis(timeout));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw JavetEnginePoolException.interrupted(e);
+        }
+        JavetEngine<R> engine = acquireEngine(tenant, requestNanos);
+        logger.debug("JavetEnginePool.getEngine(timeout) ends.");
+        return engine;
+    }
+
+    @Override
+    public int getIdleEngineCount() {
+        return idleEngineList.size() + engineSlotCount.get();
+    }
+
+    @Override
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Gets the live metrics recorder of the pool.
+     *
+     * @return the metrics
+     */
+    JavetEngineGuardScheduler getEngineGuardScheduler() {
+        return engineGuardScheduler;
     }
 
-    protected ZonedDateTime getUTCNow() {
-        return JavetDateTimeUtils.getUTCNow();
+    public JavetEnginePoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public JavetEnginePoolStatistics getStatistics() {
+        return metrics.snapshot();
+    }
+
+    /**
+     * Gets current time millis. It's designed for mocking the time in test scenario.
+     *
+     * @return the current time millis
+     */
+    protected long getCurrentTimeMillis() {
+        return System.currentTimeMillis();
     }
 
     @Override
@@ -134,117 +345,385 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
         return quitting;
     }
 
+    protected boolean isIdleTimeout(JavetEngine<R> engine) {
+        return engine.getUsage().getLastActiveMillis() + TimeUnit.SECONDS.toMillis(config.getPoolIdleTimeoutSeconds())
+                < getCurrentTimeMillis();
+    }
+
+    protected boolean isResetRequired(JavetEngine<R> engine) {
+        if (config.getMaxEngineUsedCount() > 0) {
+            JavetEngineUsage usage = engine.getUsage();
+            return usage.getEngineUsedCount() >= config.getMaxEngineUsedCount() ||
+                    usage.getLastActiveMillis() + TimeUnit.SECONDS.toMillis(config.getResetEngineTimeoutSeconds())
+                            < getCurrentTimeMillis();
+        }
+        return false;
+    }
+
+    /**
+     * Returns an idle engine to the pool and hands the permit over to the next waiting acquirer.
+     *
+     * @param engine the engine
+     */
+    protected void offerIdleEngine(JavetEngine<R> engine) {
+        if (engineAcquisitionQueue.availablePermits() < 0) {
+            // The pool has been shrunk below the engines in use, so the engine is not needed any more.
+            runAsync(() -> destroyEngine(engine));
+        } else {
+            idleEngineList.offerFirst(engine);
+        }
+        engineAcquisitionQueue.release();
+    }
+
+    /**
+     * Parks the released engine in the slot of the current thread.
+     * It falls back to the shared idle list if the slot is taken.
+     *
+     * @param engine the engine
+     */
+    protected void offerSlotEngine(JavetEngine<R> engine) {
+        if (engineAcquisitionQueue.availablePermits() >= 0) {
+            JavetEngineSlot<R> slot = engineSlot.get();
+            if (slot.compareAndSet(null, engine)) {
+                engineSlotCount.incrementAndGet();
+                engineAcquisitionQueue.release();
+                return;
+            }
+        }
+        offerIdleEngine(engine);
+    }
+
+    protected void onTaskCompleted() {
+        if (runningTaskCount.decrementAndGet() == 0) {
+            runningTaskLock.lock();
+            try {
+                runningTaskCondition.signalAll();
+            } finally {
+                runningTaskLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Takes an idle engine.
+     * Engines only leave the slots and the idle list here or when they are destroyed,
+     * so an acquirer holding a permit always finds an idle engine if there is one.
+     *
+     * @return the idle engine or null
+     */
+    protected JavetEngine<R> pollIdleEngine() {
+        JavetEngine<R> engine;
+        if (config.isPoolThreadAffinityEnabled()) {
+            engine = engineSlot.get().getAndSet(null);
+            if (engine != null) {
+                engineSlotCount.decrementAndGet();
+                return engine;
+            }
+        }
+        engine = idleEngineList.pollFirst();
+        if (engine == null && engineSlotCount.get() > 0) {
+            engine = stealSlotEngine();
+        }
+        return engine;
+    }
+
+    /**
+     * Creates and warms up an idle engine ahead of demand.
+     * A permit is held during the creation so that the pool max size is never exceeded.
+     */
+    protected void preWarmEngine() {
+        if (engineAcquisitionQueue.tryAcquire()) {
+            JavetEngine<R> engine;
+            try {
+                engine = createWarmEngine();
+            } catch (Throwable t) {
+                engineAcquisitionQueue.release();
+                config.getJavetLogger().logError(t, "Failed to pre-warm engine.");
+                return;
+            }
+            offerIdleEngine(engine);
+        }
+    }
+
     @Override
     public void releaseEngine(IJavetEngine engine) {
         IJavetLogger logger = config.getJavetLogger();
         logger.debug("JavetEnginePool.releaseEngine() begins.");
-        synchronized (externalLock) {
-            externalLock.notify();
+        JavetEngine<R> javetEngine = (JavetEngine<R>) engine;
+        if (activeEngineSet.remove(javetEngine)) {
+            engineAcquisitionQueue.releaseTenant(javetEngine.tenant);
+            javetEngine.tenant = null;
+            metrics.recordEngineExecutionTime(javetEngine.getUsage().markReleased(System.nanoTime()));
+            if (isResetRequired(javetEngine)) {
+                // The engine keeps its permit until the daemon resets it.
+                resetEngineQueue.offer(javetEngine);
+                wakeUpDaemon();
+            } else if (config.isPoolThreadAffinityEnabled()) {
+                offerSlotEngine(javetEngine);
+            } else {
+                offerIdleEngine(javetEngine);
+            }
         }
         logger.debug("JavetEnginePool.releaseEngine() ends.");
     }
 
-    @Override
-    public void run() {
+    /**
+     * Resets the engine and returns it to the idle list.
+     *
+     * @param engine the engine
+     */
+    protected void resetEngine(JavetEngine<R> engine) {
         IJavetLogger logger = config.getJavetLogger();
-        logger.debug("JavetEnginePool.run() begins.");
-        while (!quitting) {
-            synchronized (internalLock) {
-                if (!activeEngineList.isEmpty()) {
-                    final int activeEngineCount = getActiveEngineCount();
-                    for (int i = 0; i < activeEngineCount; ++i) {
-                        JavetEngine<R> engine = activeEngineList.pop();
-                        if (engine.isActive()) {
-                            activeEngineList.push(engine);
-                        } else {
-                            if (config.getMaxEngineUsedCount() > 0) {
-                                JavetEngineUsage usage = engine.getUsage();
-                                ZonedDateTime resetEngineZonedDateTime = usage.getLastActiveZonedDatetime()
-                                        .plus(config.getResetEngineTimeoutSeconds(), ChronoUnit.SECONDS);
-                                if (usage.getEngineUsedCount() >= config.getMaxEngineUsedCount() ||
-                                        resetEngineZonedDateTime.isBefore(getUTCNow())) {
-                                    try {
-                                        logger.debug("JavetEnginePool reset engine begins.");
-                                        engine.resetContext();
-                                        logger.debug("JavetEnginePool reset engine ends.");
-                                    } catch (Exception e) {
-                                        logger.logError(e, "Failed to reset idle engine.");
-                                    }
-                                }
-                            }
-                            idleEngineList.push(engine);
-                        }
-                    }
+        try {
+            logger.debug("JavetEnginePool reset engine begins.");
+            final long startNanos = System.nanoTime();
+            engine.resetContext();
+            metrics.recordEngineResetTime(System.nanoTime() - startNanos);
+            logger.debug("JavetEnginePool reset engine ends.");
+        } catch (Exception e) {
+            logger.logError(e, "Failed to reset idle engine.");
+        }
+        warmUpEngine(engine);
+        offerIdleEngine(engine);
+    }
+
+    /**
+     * Resizes the pool to the target pool size clamped between pool min size and pool max size.
+     * Growing hands the new permits to waiting acquirers immediately.
+     * Shrinking takes permits back and releases the surplus idle engines.
+     *
+     * @param targetPoolSize the target pool size
+     */
+    protected void resize(int targetPoolSize) {
+        final int newPoolSize = Math.max(
+                Math.max(config.getPoolMinSize(), 1), Math.min(targetPoolSize, config.getPoolMaxSize()));
+        final int delta = newPoolSize - poolSize;
+        if (delta == 0) {
+            return;
+        }
+        config.getJavetLogger().logDebug("JavetEnginePool resizes from {0} to {1}.",
+                Integer.toString(poolSize), Integer.toString(newPoolSize));
+        poolSize = newPoolSize;
+        if (delta > 0) {
+            engineAcquisitionQueue.release(delta);
+        } else {
+            engineAcquisitionQueue.reducePermits(-delta);
+            JavetEngine<R> engine;
+            while (getIdleEngineCount() + getActiveEngineCount() > newPoolSize
+                    && ((engine = idleEngineList.pollLast()) != null || (engine = stealSlotEngine()) != null)) {
+                final JavetEngine<R> surplusEngine = engine;
+                runAsync(() -> destroyEngine(surplusEngine));
+            }
+        }
+    }
+
+    /**
+     * Drains the async task queue with one engine held for as long as there are tasks.
+     * The engine is recycled in between when it reaches the reset criteria.
+     */
+    protected void runAsyncWorker() {
+        IJavetLogger logger = config.getJavetLogger();
+        JavetEngine<R> engine = null;
+        try {
+            AsyncTask<R, ?> asyncTask;
+            while ((asyncTask = asyncTaskQueue.poll()) != null) {
+                if (engine == null) {
+                    engine = (JavetEngine<R>) getEngine();
+                } else {
+                    engine.getUsage().increaseUsedCount();
                 }
-                if (!idleEngineList.isEmpty()) {
-                    final int idleEngineCount = getIdleEngineCount();
-                    for (int i = 0; i < idleEngineCount; ++i) {
-                        if (getIdleEngineCount() <= config.getPoolMinSize()) {
-                            break;
-                        }
-                        JavetEngine<R> engine = idleEngineList.pop();
-                        JavetEngineUsage usage = engine.getUsage();
-                        ZonedDateTime expirationZonedDateTime = usage.getLastActiveZonedDatetime()
-                                .plus(config.getPoolIdleTimeoutSeconds(), ChronoUnit.SECONDS);
-                        if (expirationZonedDateTime.isBefore(getUTCNow())) {
-                            try {
-                                engine.close(true);
-                            } catch (Throwable t) {
-                                logger.logError(t, "Failed to release idle engine.");
-                            }
-                        } else {
-                            idleEngineList.push(engine);
-                        }
-                    }
+                if (engine == null || quitting) {
+                    asyncTask.fail(JavetEnginePoolException.poolIsQuitting());
+                    continue;
+                }
+                try {
+                    asyncTask.run(engine.getV8Runtime());
+                } catch (JavetException e) {
+                    asyncTask.fail(e);
+                }
+                if (isResetRequired(engine)) {
+                    engine.close();
+                    engine = null;
                 }
             }
-            synchronized (externalLock) {
+        } catch (Throwable t) {
+            logger.logError(t, "Failed to run async tasks.");
+        } finally {
+            if (engine != null) {
                 try {
-                    externalLock.wait(config.getPoolDaemonCheckIntervalMillis());
-                } catch (InterruptedException e) {
-                    logger.logError(e,
-                            "Failed to sleep a while to wait for next round in Javet engine pool daemon.");
+                    engine.close();
+                } catch (Throwable t) {
+                    logger.logError(t, "Failed to release async engine.");
                 }
             }
+            asyncWorkerCount.decrementAndGet();
         }
-        logger.debug("JavetEnginePool daemon is quitting.");
-        synchronized (internalLock) {
-            if (!idleEngineList.isEmpty()) {
-                final int idleEngineCount = getIdleEngineCount();
-                for (int i = 0; i < idleEngineCount; ++i) {
-                    JavetEngine<R> engine = idleEngineList.pop();
-                    try {
-                        engine.close(true);
-                    } catch (Throwable t) {
-                        logger.logError(t, "Failed to release idle engine.");
-                    }
+        // A task might have been queued after the last poll but before this worker quit.
+        startAsyncWorker();
+    }
+
+    @Override
+    public void run() {
+        IJavetLogger logger = config.getJavetLogger();
+        logger.debug("JavetEnginePool.run() begins.");
+        while (!quitting) {
+            JavetEngine<R> engine;
+            while ((engine = resetEngineQueue.poll()) != null) {
+                final JavetEngine<R> resetEngine = engine;
+                runAsync(() -> resetEngine(resetEngine));
+            }
+            IJavetEnginePoolSizingPolicy poolSizingPolicy = config.getPoolSizingPolicy();
+            if (poolSizingPolicy != null && System.nanoTime() - lastSizingNanos
+                    >= TimeUnit.MILLISECONDS.toNanos(config.getPoolSizingIntervalMillis())) {
+                lastSizingNanos = System.nanoTime();
+                try {
+                    resize(poolSizingPolicy.getTargetPoolSize(getStatistics()));
+                } catch (Throwable t) {
+                    logger.logError(t, "Failed to resize the engine pool.");
                 }
             }
-            while (!activeEngineList.isEmpty()) {
-                final int activeEngineCount = getActiveEngineCount();
-                for (int i = 0; i < activeEngineCount; ++i) {
-                    JavetEngine<R> engine = activeEngineList.pop();
-                    try {
-                        engine.close(true);
-                    } catch (Throwable t) {
-                        logger.logError(t, "Failed to release active engine.");
-                    }
+            while (getIdleEngineCount() > config.getPoolMinSize()) {
+                engine = idleEngineList.peekLast();
+                if (engine == null) {
+                    break;
+                }
+                if (!isIdleTimeout(engine)) {
+                    break;
+                }
+                // The engine might have been taken by an acquirer in the meantime.
+                if (idleEngineList.removeLastOccurrence(engine)) {
+                    final JavetEngine<R> expiredEngine = engine;
+                    runAsync(() -> destroyEngine(expiredEngine));
                 }
             }
+            expireSlotEngines();
+            // Parking doesn't pin the carrier thread when the daemon runs on a virtual thread.
+            LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(config.getPoolDaemonCheckIntervalMillis()));
+        }
+        logger.debug("JavetEnginePool daemon is quitting.");
+        JavetEngine<R> engine;
+        while ((engine = resetEngineQueue.poll()) != null) {
+            idleEngineList.offerFirst(engine);
+        }
+        while ((engine = idleEngineList.poll()) != null || (engine = stealSlotEngine()) != null) {
+            destroyEngine(engine);
+        }
+        engineSlotQueue.clear();
+        for (JavetEngine<R> activeEngine : activeEngineSet) {
+            try {
+                activeEngine.close(true);
+            } catch (Throwable t) {
+                logger.logError(t, "Failed to release active engine.");
+            }
         }
+        activeEngineSet.clear();
         logger.debug("JavetEnginePool.run() ends.");
     }
 
+    /**
+     * Runs the task in the executor service so that slow resets and disposals
+     * run in parallel and never hold up the daemon or the acquire/release path.
+     * It falls back to the current thread when the pool is quitting.
+     *
+     * @param runnable the runnable
+     */
+    protected void runAsync(Runnable runnable) {
+        if (!quitting) {
+            try {
+                execute(runnable);
+                return;
+            } catch (RejectedExecutionException e) {
+                // The executor service is shutting down.
+            }
+        }
+        runnable.run();
+    }
+
+    /**
+     * Starts an async worker if the queued tasks outnumber the workers and the pool size allows.
+     */
+    protected void startAsyncWorker() {
+        while (true) {
+            final int workerCount = asyncWorkerCount.get();
+            if (workerCount >= Math.min(poolSize, asyncTaskQueue.size())) {
+                return;
+            }
+            if (asyncWorkerCount.compareAndSet(workerCount, workerCount + 1)) {
+                break;
+            }
+        }
+        try {
+            if (quitting) {
+                throw new RejectedExecutionException();
+            }
+            execute(this::runAsyncWorker);
+        } catch (RejectedExecutionException e) {
+            asyncWorkerCount.decrementAndGet();
+            abortAsyncTasks(JavetEnginePoolException.poolIsQuitting());
+        }
+    }
+
+    /**
+     * Takes an engine parked by any thread.
+     *
+     * @return the engine or null
+     */
+    protected JavetEngine<R> stealSlotEngine() {
+        for (JavetEngineSlot<R> slot : engineSlotQueue) {
+            JavetEngine<R> engine = slot.getAndSet(null);
+            if (engine != null) {
+                engineSlotCount.decrementAndGet();
+                return engine;
+            }
+        }
+        return null;
+    }
+
     protected void startDaemon() {
         IJavetLogger logger = config.getJavetLogger();
         logger.debug("JavetEnginePool.startDaemon() begins.");
-        activeEngineList.clear();
+        activeEngineSet.clear();
         idleEngineList.clear();
+        resetEngineQueue.clear();
+        engineSlotCount.set(0);
+        engineSlotQueue.clear();
+        engineSlot = ThreadLocal.withInitial(this::createEngineSlot);
+        asyncTaskQueue = new ArrayBlockingQueue<>(Math.max(config.getAsyncQueueCapacity(), 1));
+        asyncWorkerCount.set(0);
+        poolSize = config.getPoolSizingPolicy() == null
+                ? config.getPoolMaxSize()
+                : Math.max(1, Math.min(config.getPoolMinSize(), config.getPoolMaxSize()));
+        engineAcquisitionQueue = new JavetEngineAcquisitionQueue(config, poolSize);
+        lastSizingNanos = System.nanoTime();
         quitting = false;
-        config.setExecutorService(Executors.newCachedThreadPool());
-        daemonThread = new Thread(this);
+        runningTaskCount.set(0);
+        executorService = config.getExecutorService();
+        executorServiceOwned = executorService == null;
+        if (executorServiceOwned) {
+            executorService = Executors.newCachedThreadPool(config.getThreadFactory());
+        }
+        engineGuardScheduler = new JavetEngineGuardScheduler(config.getJavetLogger(), config.getThreadFactory());
+        daemonThread = config.getThreadFactory().newThread(this);
         daemonThread.start();
         active = true;
+        if (config.isJmxEnabled()) {
+            try {
+                String poolName = config.getPoolName() == null
+                        ? Integer.toHexString(System.identityHashCode(this)) : config.getPoolName();
+                objectName = new ObjectName("com.caoccao.javet:type=JavetEnginePool,name="
+                        + ObjectName.quote(poolName));
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+            } catch (Exception e) {
+                objectName = null;
+                logger.logError(e, "Failed to register the engine pool MXBean.");
+            }
+        }
+        if (config.isPoolPreWarmEnabled()) {
+            final int poolMinSize = Math.min(config.getPoolMinSize(), config.getPoolMaxSize());
+            for (int i = 0; i < poolMinSize; ++i) {
+                runAsync(this::preWarmEngine);
+            }
+        }
         logger.debug("JavetEnginePool.startDaemon() ends.");
     }
 
@@ -252,14 +731,41 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
         IJavetLogger logger = config.getJavetLogger();
         logger.debug("JavetEnginePool.stopDaemon() begins.");
         quitting = true;
+        engineAcquisitionQueue.close();
+        if (objectName != null) {
+            try {
+                MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+                if (mBeanServer.isRegistered(objectName)) {
+                    mBeanServer.unregisterMBean(objectName);
+                }
+            } catch (Exception e) {
+                logger.logError(e, "Failed to unregister the engine pool MXBean.");
+            } finally {
+                objectName = null;
+            }
+        }
+        // The executor service might be shared, so only the tasks of this pool are awaited.
+        runningTaskLock.lock();
         try {
-            config.getExecutorService().shutdown();
-            config.getExecutorService().awaitTermination(config.getPoolShutdownTimeoutSeconds(), TimeUnit.SECONDS);
-        } catch (Exception e) {
+            long remainingNanos = TimeUnit.SECONDS.toNanos(config.getPoolShutdownTimeoutSeconds());
+            while (runningTaskCount.get() > 0 && remainingNanos > 0) {
+                remainingNanos = runningTaskCondition.awaitNanos(remainingNanos);
+            }
+        } catch (InterruptedException e) {
             logger.logError(e, e.getMessage());
         } finally {
-            config.setExecutorService(null);
+            runningTaskLock.unlock();
+        }
+        if (executorServiceOwned) {
+            executorService.shutdown();
+        }
+        executorService = null;
+        abortAsyncTasks(JavetEnginePoolException.poolIsQuitting());
+        // The closed scheduler is kept, so that a guard created afterwards is cancelled right away.
+        if (engineGuardScheduler != null) {
+            engineGuardScheduler.close();
         }
+        wakeUpDaemon();
         try {
             if (daemonThread != null) {
                 daemonThread.join();
@@ -273,4 +779,104 @@ public class JavetEnginePool<R extends V8Runtime> implements IJavetEnginePool<R>
         quitting = false;
         logger.debug("JavetEnginePool.stopDaemon() ends.");
     }
+
+    protected void wakeUpDaemon() {
+        Thread thread = daemonThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Executes the warm up scripts and the warm up consumer on a new or reset engine.
+     *
+     * @param engine the engine
+     */
+    protected void warmUpEngine(JavetEngine<R> engine) {
+        List<String> warmUpScripts = config.getWarmUpScripts();
+        IJavetEngineConsumer warmUpConsumer = config.getWarmUpConsumer();
+        if (!warmUpScripts.isEmpty() || warmUpConsumer != null) {
+            IJavetLogger logger = config.getJavetLogger();
+            logger.debug("JavetEnginePool warm up engine begins.");
+            try {
+                for (String warmUpScript : warmUpScripts) {
+                    engine.v8Runtime.getExecutor(warmUpScript).executeVoid();
+                }
+                if (warmUpConsumer != null) {
+                    warmUpConsumer.accept(engine);
+                }
+            } catch (Exception e) {
+                logger.logError(e, "Failed to warm up engine.");
+            }
+            logger.debug("JavetEnginePool warm up engine ends.");
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(IJavetEngineFunction<R, T> function) {
+        Objects.requireNonNull(function);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (quitting) {
+            future.completeExceptionally(JavetEnginePoolException.poolIsQuitting());
+        } else if (!asyncTaskQueue.offer(new AsyncTask<>(function, future))) {
+            future.completeExceptionally(JavetEnginePoolException.asyncQueueFull(config.getAsyncQueueCapacity()));
+        } else {
+            startAsyncWorker();
+        }
+        return future;
+    }
+
+    /**
+     * The type Async task.
+     *
+     * @param <R> the type parameter
+     * @param <T> the type parameter
+     */
+    protected static final class AsyncTask<R extends V8Runtime, T> {
+        private final IJavetEngineFunction<R, T> function;
+        private final CompletableFuture<T> future;
+
+        private AsyncTask(IJavetEngineFunction<R, T> function, CompletableFuture<T> future) {
+            this.function = function;
+            this.future = future;
+        }
+
+        private void fail(Throwable t) {
+            future.completeExceptionally(t);
+        }
+
+        private void run(R v8Runtime) {
+            if (future.isDone()) {
+                // It has been cancelled.
+                return;
+            }
+            try {
+                future.complete(function.apply(v8Runtime));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }
+    }
+
+    /**
+     * The type Javet engine slot.
+     * <p>
+     * It holds the idle engine parked by its owner thread. Any thread may take the engine away.
+     *
+     * @param <R> the type parameter
+     */
+    protected static final class JavetEngineSlot<R extends V8Runtime> extends AtomicReference<JavetEngine<R>> {
+        private static final long serialVersionUID = 1L;
+        private final transient WeakReference<Thread> ownerThreadReference;
+
+        public JavetEngineSlot(Thread ownerThread) {
+            super(null);
+            ownerThreadReference = new WeakReference<>(ownerThread);
+        }
+
+        public boolean isOwnerThreadAlive() {
+            Thread ownerThread = ownerThreadReference.get();
+            return ownerThread != null && ownerThread.isAlive();
+        }
+    }
 }
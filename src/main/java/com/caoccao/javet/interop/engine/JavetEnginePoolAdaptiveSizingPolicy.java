@@ -0,0 +1,128 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type Javet engine pool adaptive sizing policy.
+ * <p>
+ * It grows the pool as soon as the mean acquire wait time of the last interval exceeds the target
+ * or an acquisition timed out, and shrinks the pool by one engine only after the utilisation stays
+ * below the shrink threshold for a number of consecutive intervals. The gap between both conditions
+ * is the hysteresis that prevents the pool from oscillating.
+ * If the statistics are reset in between, the interval is skipped and the policy starts over
+ * from the current values.
+ */
+public class JavetEnginePoolAdaptiveSizingPolicy implements IJavetEnginePoolSizingPolicy {
+    public static final int DEFAULT_SHRINK_INTERVAL_COUNT = 30;
+    public static final double DEFAULT_SHRINK_UTILISATION = 0.5D;
+    public static final double DEFAULT_TARGET_ACQUIRE_WAIT_MILLIS = 5D;
+    protected long lastAcquireTimeoutCount;
+    protected long lastAcquireWaitCount;
+    protected long lastAcquireWaitSumNanos;
+    protected long lastEngineExecutionSumNanos;
+    protected long lastNanos;
+    protected int lowUtilisationIntervalCount;
+    protected int shrinkIntervalCount;
+    protected double shrinkUtilisation;
+    protected double targetAcquireWaitMillis;
+
+    public JavetEnginePoolAdaptiveSizingPolicy() {
+        this(DEFAULT_TARGET_ACQUIRE_WAIT_MILLIS, DEFAULT_SHRINK_UTILISATION, DEFAULT_SHRINK_INTERVAL_COUNT);
+    }
+
+    public JavetEnginePoolAdaptiveSizingPolicy(
+            double targetAcquireWaitMillis, double shrinkUtilisation, int shrinkIntervalCount) {
+        this.shrinkIntervalCount = shrinkIntervalCount;
+        this.shrinkUtilisation = shrinkUtilisation;
+        this.targetAcquireWaitMillis = targetAcquireWaitMillis;
+        lastAcquireTimeoutCount = 0;
+        lastAcquireWaitCount = 0;
+        lastAcquireWaitSumNanos = 0;
+        lastEngineExecutionSumNanos = 0;
+        lastNanos = getCurrentNanos();
+        lowUtilisationIntervalCount = 0;
+    }
+
+    /**
+     * Gets current nanos. It's designed for mocking the time in test scenario.
+     *
+     * @return the current nanos
+     */
+    protected long getCurrentNanos() {
+        return System.nanoTime();
+    }
+
+    public int getShrinkIntervalCount() {
+        return shrinkIntervalCount;
+    }
+
+    public double getShrinkUtilisation() {
+        return shrinkUtilisation;
+    }
+
+    public double getTargetAcquireWaitMillis() {
+        return targetAcquireWaitMillis;
+    }
+
+    @Override
+    public int getTargetPoolSize(JavetEnginePoolStatistics statistics) {
+        final long nanos = getCurrentNanos();
+        final long intervalNanos = Math.max(nanos - lastNanos, 1L);
+        final long currentAcquireTimeoutCount = statistics.getAcquireTimeoutCount();
+        final long currentAcquireWaitCount = statistics.getAcquireWaitTime().getCount();
+        final long currentAcquireWaitSumNanos = statistics.getAcquireWaitTime().getSumNanos();
+        final long currentEngineExecutionSumNanos = statistics.getEngineExecutionTime().getSumNanos();
+        final long acquireTimeoutCount = currentAcquireTimeoutCount - lastAcquireTimeoutCount;
+        final long acquireWaitCount = currentAcquireWaitCount - lastAcquireWaitCount;
+        final long acquireWaitSumNanos = currentAcquireWaitSumNanos - lastAcquireWaitSumNanos;
+        final long engineExecutionSumNanos = currentEngineExecutionSumNanos - lastEngineExecutionSumNanos;
+        lastNanos = nanos;
+        lastAcquireTimeoutCount = currentAcquireTimeoutCount;
+        lastAcquireWaitCount = currentAcquireWaitCount;
+        lastAcquireWaitSumNanos = currentAcquireWaitSumNanos;
+        lastEngineExecutionSumNanos = currentEngineExecutionSumNanos;
+        final int poolSize = statistics.getPoolSize();
+        if (acquireTimeoutCount < 0 || acquireWaitCount < 0
+                || acquireWaitSumNanos < 0 || engineExecutionSumNanos < 0) {
+            // The statistics were reset, so the deltas of this interval are meaningless.
+            return poolSize;
+        }
+        final double meanAcquireWaitMillis = acquireWaitCount > 0
+                ? (double) acquireWaitSumNanos / acquireWaitCount / TimeUnit.MILLISECONDS.toNanos(1) : 0D;
+        if (acquireTimeoutCount > 0 || meanAcquireWaitMillis > targetAcquireWaitMillis) {
+            lowUtilisationIntervalCount = 0;
+            // Grow by a quarter so that large pools catch up quickly.
+            return poolSize + Math.max(1, poolSize >> 2);
+        }
+        // Engines still held at the end of the interval are not in the execution time yet.
+        final double utilisation = Math.max(
+                (double) engineExecutionSumNanos / intervalNanos / Math.max(poolSize, 1),
+                (double) statistics.getActiveEngineCount() / Math.max(poolSize, 1));
+        if (utilisation < shrinkUtilisation) {
+            if (++lowUtilisationIntervalCount >= shrinkIntervalCount) {
+                lowUtilisationIntervalCount = 0;
+                return poolSize - 1;
+            }
+        } else {
+            lowUtilisationIntervalCount = 0;
+        }
+        return poolSize;
+    }
+}
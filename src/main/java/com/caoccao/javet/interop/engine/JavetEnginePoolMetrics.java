@@ -0,0 +1,209 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine;
+
+import com.caoccao.javet.utils.JavetLatencyHistogram;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The type Javet engine pool metrics.
+ * <p>
+ * It is the lock-free recorder behind {@link IJavetEnginePool#getStatistics()} and the pool MXBean.
+ */
+public class JavetEnginePoolMetrics implements IJavetEnginePoolMXBean {
+    public static final double PERCENTILE_99 = 99D;
+    protected final LongAdder acquireTimeoutCount;
+    protected final JavetLatencyHistogram acquireWaitTime;
+    protected final JavetLatencyHistogram engineCreationTime;
+    protected final JavetLatencyHistogram engineExecutionTime;
+    protected final JavetLatencyHistogram engineResetTime;
+    protected final LongAdder destroyedEngineCount;
+    protected final LongAdder guardTerminationCount;
+    protected final IJavetEnginePool<?> iJavetEnginePool;
+
+    public JavetEnginePoolMetrics(IJavetEnginePool<?> iJavetEnginePool) {
+        Objects.requireNonNull(iJavetEnginePool);
+        this.iJavetEnginePool = iJavetEnginePool;
+        acquireTimeoutCount = new LongAdder();
+        acquireWaitTime = new JavetLatencyHistogram();
+        destroyedEngineCount = new LongAdder();
+        engineCreationTime = new JavetLatencyHistogram();
+        engineExecutionTime = new JavetLatencyHistogram();
+        engineResetTime = new JavetLatencyHistogram();
+        guardTerminationCount = new LongAdder();
+    }
+
+    @Override
+    public long getAcquireTimeoutCount() {
+        return acquireTimeoutCount.sum();
+    }
+
+    @Override
+    public double getAcquireWaitTimeMaxMillis() {
+        return acquireWaitTime.snapshot().getMaxMillis();
+    }
+
+    @Override
+    public double getAcquireWaitTimeMeanMillis() {
+        return acquireWaitTime.snapshot().getMeanMillis();
+    }
+
+    @Override
+    public double getAcquireWaitTimeP99Millis() {
+        return acquireWaitTime.snapshot().getPercentileMillis(PERCENTILE_99);
+    }
+
+    @Override
+    public long getAcquiredEngineCount() {
+        return acquireWaitTime.snapshot().getCount();
+    }
+
+    @Override
+    public int getActiveEngineCount() {
+        return iJavetEnginePool.getActiveEngineCount();
+    }
+
+    @Override
+    public long getCreatedEngineCount() {
+        return engineCreationTime.snapshot().getCount();
+    }
+
+    @Override
+    public long getDestroyedEngineCount() {
+        return destroyedEngineCount.sum();
+    }
+
+    @Override
+    public double getEngineCreationTimeMaxMillis() {
+        return engineCreationTime.snapshot().getMaxMillis();
+    }
+
+    @Override
+    public double getEngineCreationTimeMeanMillis() {
+        return engineCreationTime.snapshot().getMeanMillis();
+    }
+
+    @Override
+    public double getEngineExecutionTimeMaxMillis() {
+        return engineExecutionTime.snapshot().getMaxMillis();
+    }
+
+    @Override
+    public double getEngineExecutionTimeMeanMillis() {
+        return engineExecutionTime.snapshot().getMeanMillis();
+    }
+
+    @Override
+    public double getEngineExecutionTimeP99Millis() {
+        return engineExecutionTime.snapshot().getPercentileMillis(PERCENTILE_99);
+    }
+
+    @Override
+    public double getEngineResetTimeMaxMillis() {
+        return engineResetTime.snapshot().getMaxMillis();
+    }
+
+    @Override
+    public double getEngineResetTimeMeanMillis() {
+        return engineResetTime.snapshot().getMeanMillis();
+    }
+
+    @Override
+    public long getGuardTerminationCount() {
+        return guardTerminationCount.sum();
+    }
+
+    @Override
+    public int getIdleEngineCount() {
+        return iJavetEnginePool.getIdleEngineCount();
+    }
+
+    @Override
+    public int getPoolMaxSize() {
+        return iJavetEnginePool.getConfig().getPoolMaxSize();
+    }
+
+    @Override
+    public int getPoolMinSize() {
+        return iJavetEnginePool.getConfig().getPoolMinSize();
+    }
+
+    @Override
+    public int getPoolSize() {
+        return iJavetEnginePool.getPoolSize();
+    }
+
+    @Override
+    public long getResetEngineCount() {
+        return engineResetTime.snapshot().getCount();
+    }
+
+    public void recordAcquireTimeout() {
+        acquireTimeoutCount.increment();
+    }
+
+    public void recordAcquireWaitTime(long nanos) {
+        acquireWaitTime.record(nanos);
+    }
+
+    public void recordEngineCreationTime(long nanos) {
+        engineCreationTime.record(nanos);
+    }
+
+    public void recordEngineDestroyed() {
+        destroyedEngineCount.increment();
+    }
+
+    public void recordEngineExecutionTime(long nanos) {
+        engineExecutionTime.record(nanos);
+    }
+
+    public void recordEngineResetTime(long nanos) {
+        engineResetTime.record(nanos);
+    }
+
+    public void recordGuardTermination() {
+        guardTerminationCount.increment();
+    }
+
+    @Override
+    public void resetStatistics() {
+        acquireTimeoutCount.reset();
+        acquireWaitTime.reset();
+        destroyedEngineCount.reset();
+        engineCreationTime.reset();
+        engineExecutionTime.reset();
+        engineResetTime.reset();
+        guardTerminationCount.reset();
+    }
+
+    public JavetEnginePoolStatistics snapshot() {
+        JavetLatencyHistogram.Snapshot acquireWaitTimeSnapshot = acquireWaitTime.snapshot();
+        JavetLatencyHistogram.Snapshot engineCreationTimeSnapshot = engineCreationTime.snapshot();
+        JavetLatencyHistogram.Snapshot engineResetTimeSnapshot = engineResetTime.snapshot();
+        return new JavetEnginePoolStatistics(
+                getActiveEngineCount(), getIdleEngineCount(), getPoolMinSize(), getPoolMaxSize(), getPoolSize(),
+                acquireWaitTimeSnapshot.getCount(), getAcquireTimeoutCount(),
+                engineCreationTimeSnapshot.getCount(), getDestroyedEngineCount(),
+                engineResetTimeSnapshot.getCount(), getGuardTerminationCount(),
+                acquireWaitTimeSnapshot, engineCreationTimeSnapshot,
+                engineResetTimeSnapshot, engineExecutionTime.snapshot());
+    }
+}
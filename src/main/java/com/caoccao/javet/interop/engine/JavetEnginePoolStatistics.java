@@ -0,0 +1,141 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine;
+
+import com.caoccao.javet.utils.JavetLatencyHistogram;
+
+/**
+ * The type Javet engine pool statistics.
+ * <p>
+ * It is an immutable snapshot of the pool metrics taken without locking the pool.
+ */
+public final class JavetEnginePoolStatistics {
+    private final JavetLatencyHistogram.Snapshot acquireWaitTime;
+    private final long acquireTimeoutCount;
+    private final long acquiredEngineCount;
+    private final int activeEngineCount;
+    private final long createdEngineCount;
+    private final JavetLatencyHistogram.Snapshot engineCreationTime;
+    private final JavetLatencyHistogram.Snapshot engineExecutionTime;
+    private final JavetLatencyHistogram.Snapshot engineResetTime;
+    private final long destroyedEngineCount;
+    private final long guardTerminationCount;
+    private final int idleEngineCount;
+    private final int poolMaxSize;
+    private final int poolMinSize;
+    private final int poolSize;
+    private final long resetEngineCount;
+
+    JavetEnginePoolStatistics(
+            int activeEngineCount, int idleEngineCount, int poolMinSize, int poolMaxSize, int poolSize,
+            long acquiredEngineCount, long acquireTimeoutCount,
+            long createdEngineCount, long destroyedEngineCount, long resetEngineCount, long guardTerminationCount,
+            JavetLatencyHistogram.Snapshot acquireWaitTime, JavetLatencyHistogram.Snapshot engineCreationTime,
+            JavetLatencyHistogram.Snapshot engineResetTime, JavetLatencyHistogram.Snapshot engineExecutionTime) {
+        this.acquireTimeoutCount = acquireTimeoutCount;
+        this.acquireWaitTime = acquireWaitTime;
+        this.acquiredEngineCount = acquiredEngineCount;
+        this.activeEngineCount = activeEngineCount;
+        this.createdEngineCount = createdEngineCount;
+        this.destroyedEngineCount = destroyedEngineCount;
+        this.engineCreationTime = engineCreationTime;
+        this.engineExecutionTime = engineExecutionTime;
+        this.engineResetTime = engineResetTime;
+        this.guardTerminationCount = guardTerminationCount;
+        this.idleEngineCount = idleEngineCount;
+        this.poolMaxSize = poolMaxSize;
+        this.poolMinSize = poolMinSize;
+        this.poolSize = poolSize;
+        this.resetEngineCount = resetEngineCount;
+    }
+
+    public long getAcquireTimeoutCount() {
+        return acquireTimeoutCount;
+    }
+
+    /**
+     * Gets acquire wait time, the time between calling getEngine() and obtaining the engine permit.
+     *
+     * @return the acquire wait time
+     */
+    public JavetLatencyHistogram.Snapshot getAcquireWaitTime() {
+        return acquireWaitTime;
+    }
+
+    public long getAcquiredEngineCount() {
+        return acquiredEngineCount;
+    }
+
+    public int getActiveEngineCount() {
+        return activeEngineCount;
+    }
+
+    public long getCreatedEngineCount() {
+        return createdEngineCount;
+    }
+
+    public long getDestroyedEngineCount() {
+        return destroyedEngineCount;
+    }
+
+    public JavetLatencyHistogram.Snapshot getEngineCreationTime() {
+        return engineCreationTime;
+    }
+
+    /**
+     * Gets engine execution time, the time an engine is held between getEngine() and close().
+     *
+     * @return the engine execution time
+     */
+    public JavetLatencyHistogram.Snapshot getEngineExecutionTime() {
+        return engineExecutionTime;
+    }
+
+    public JavetLatencyHistogram.Snapshot getEngineResetTime() {
+        return engineResetTime;
+    }
+
+    public long getGuardTerminationCount() {
+        return guardTerminationCount;
+    }
+
+    public int getIdleEngineCount() {
+        return idleEngineCount;
+    }
+
+    public int getPoolMaxSize() {
+        return poolMaxSize;
+    }
+
+    public int getPoolMinSize() {
+        return poolMinSize;
+    }
+
+    /**
+     * Gets pool size, the current capacity between pool min size and pool max size.
+     *
+     * @return the pool size
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public long getResetEngineCount() {
+        return resetEngineCount;
+    }
+}
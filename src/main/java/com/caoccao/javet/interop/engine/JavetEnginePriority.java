@@ -0,0 +1,42 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine;
+
+/**
+ * The enum Javet engine priority.
+ * <p>
+ * Waiters of a higher priority class are served first when the pool is saturated.
+ * Waiters of the same priority class are served in FIFO order.
+ */
+public enum JavetEnginePriority {
+    High,
+    Normal,
+    Low;
+
+    public boolean isHigh() {
+        return this == High;
+    }
+
+    public boolean isLow() {
+        return this == Low;
+    }
+
+    public boolean isNormal() {
+        return this == Normal;
+    }
+}
@@ -17,22 +17,60 @@
 
 package com.caoccao.javet.interop.engine;
 
+import com.caoccao.javet.utils.JavetDateTimeUtils;
+
 import java.time.ZonedDateTime;
 
 public class JavetEngineUsage {
+    protected long engineExecutionNanos;
     protected int engineUsedCount;
-    protected ZonedDateTime lastActiveZonedDatetime;
+    protected long guardTerminationCount;
+    protected long lastAcquiredNanos;
+    protected volatile long lastActiveMillis;
 
     public JavetEngineUsage() {
+        engineExecutionNanos = 0;
+        guardTerminationCount = 0;
+        lastAcquiredNanos = 0;
         reset();
     }
 
+    /**
+     * Gets the total time the engine has been held by callers in nanoseconds.
+     *
+     * @return the engine execution nanos
+     */
+    public long getEngineExecutionNanos() {
+        return engineExecutionNanos;
+    }
+
+    public long getGuardTerminationCount() {
+        return guardTerminationCount;
+    }
+
+    protected void increaseGuardTerminationCount() {
+        ++guardTerminationCount;
+    }
+
+    /**
+     * Gets the epoch millis when the engine was active last time.
+     *
+     * @return the last active millis
+     */
+    public long getLastActiveMillis() {
+        return lastActiveMillis;
+    }
+
+    public void setLastActiveMillis(long lastActiveMillis) {
+        this.lastActiveMillis = lastActiveMillis;
+    }
+
     public ZonedDateTime getLastActiveZonedDatetime() {
-        return lastActiveZonedDatetime;
+        return JavetDateTimeUtils.toZonedDateTime(lastActiveMillis, JavetDateTimeUtils.ZONE_ID_UTC);
     }
 
     public void setLastActiveZonedDatetime(ZonedDateTime lastActiveZonedDatetime) {
-        this.lastActiveZonedDatetime = lastActiveZonedDatetime;
+        lastActiveMillis = lastActiveZonedDatetime.toInstant().toEpochMilli();
     }
 
     public int getEngineUsedCount() {
@@ -43,6 +81,22 @@ public class JavetEngineUsage {
         ++engineUsedCount;
     }
 
+    protected void markAcquired(long nanos) {
+        lastAcquiredNanos = nanos;
+    }
+
+    /**
+     * Marks the engine released and returns how long it was held.
+     *
+     * @param nanos the nanos
+     * @return the execution nanos
+     */
+    protected long markReleased(long nanos) {
+        final long executionNanos = nanos - lastAcquiredNanos;
+        engineExecutionNanos += executionNanos;
+        return executionNanos;
+    }
+
     protected void reset() {
         engineUsedCount = 0;
     }
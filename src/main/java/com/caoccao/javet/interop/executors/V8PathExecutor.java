@@ -19,10 +19,8 @@ package com.caoccao.javet.interop.executors;
 
 import com.caoccao.javet.exceptions.JavetIOException;
 import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.interop.cache.JavetScriptSourceCache;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 
 public class V8PathExecutor extends V8StringExecutor {
@@ -36,12 +34,8 @@ public class V8PathExecutor extends V8StringExecutor {
     @Override
     public String getScriptString() throws JavetIOException {
         if (scriptString == null) {
-            try {
-                scriptString = new String(Files.readAllBytes(scriptPath), StandardCharsets.UTF_8);
-                v8ScriptOrigin.setResourceName(scriptPath.toFile().getAbsolutePath());
-            } catch (IOException e) {
-                throw JavetIOException.failedToReadPath(scriptPath, e);
-            }
+            scriptString = JavetScriptSourceCache.getInstance().get(scriptPath);
+            v8ScriptOrigin.setResourceName(scriptPath.toFile().getAbsolutePath());
         }
         return scriptString;
     }
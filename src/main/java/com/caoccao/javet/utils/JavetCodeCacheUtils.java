@@ -0,0 +1,118 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+package com.caoccao.javet.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class JavetCodeCacheUtils {
+    private static final String ALGORITHM_SHA_256 = "SHA-256";
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+    private static final String PREFIX_MODULE = "m";
+    private static final String PREFIX_SCRIPT = "s";
+    private static final String UNKNOWN_DIGEST = "";
+    /**
+     * The digests of the shared script strings are computed once.
+     * The script strings are looked up by identity without a global lock
+     * and are removed by their owners via {@link #unshare(String)}.
+     */
+    private static final ConcurrentHashMap<SharedScriptKey, String> sharedDigestMap = new ConcurrentHashMap<>();
+
+    private JavetCodeCacheUtils() {
+    }
+
+    /**
+     * Gets the code cache key from the SHA-256 digest of the script content.
+     * Modules and scripts are kept apart because their code cache is not interchangeable.
+     *
+     * @param scriptString the script string
+     * @param module       the module
+     * @return the key
+     */
+    public static String getKey(String scriptString, boolean module) {
+        String digest = null;
+        if (!sharedDigestMap.isEmpty()) {
+            SharedScriptKey sharedScriptKey = new SharedScriptKey(scriptString);
+            digest = sharedDigestMap.get(sharedScriptKey);
+            if (digest != null && digest.isEmpty()) {
+                digest = getDigest(scriptString);
+                sharedDigestMap.replace(sharedScriptKey, UNKNOWN_DIGEST, digest);
+            }
+        }
+        if (digest == null) {
+            digest = getDigest(scriptString);
+        }
+        return (module ? PREFIX_MODULE : PREFIX_SCRIPT) + digest;
+    }
+
+    private static String getDigest(String scriptString) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(ALGORITHM_SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is always supported by the JVM.
+            throw new IllegalStateException(e);
+        }
+        byte[] digest = messageDigest.digest(scriptString.getBytes(StandardCharsets.UTF_8));
+        StringBuilder stringBuilder = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            stringBuilder.append(HEX_CHARS[(b >> 4) & 0xF]).append(HEX_CHARS[b & 0xF]);
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Shares the script string, e.g. a script file cached for all runtimes,
+     * so that its digest is computed only once.
+     *
+     * @param scriptString the script string
+     */
+    public static void share(String scriptString) {
+        sharedDigestMap.putIfAbsent(new SharedScriptKey(scriptString), UNKNOWN_DIGEST);
+    }
+
+    /**
+     * Unshares the script string once its owner doesn't hold it any more.
+     *
+     * @param scriptString the script string
+     */
+    public static void unshare(String scriptString) {
+        sharedDigestMap.remove(new SharedScriptKey(scriptString));
+    }
+
+    private static final class SharedScriptKey {
+        private final int hashCode;
+        private final String scriptString;
+
+        private SharedScriptKey(String scriptString) {
+            hashCode = System.identityHashCode(scriptString);
+            this.scriptString = scriptString;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof SharedScriptKey && ((SharedScriptKey) obj).scriptString == scriptString;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The type Javet latency histogram.
+ * <p>
+ * It records nanosecond latencies into log-linear buckets (8 sub-buckets per power of 2,
+ * so percentiles are accurate within 12.5%). Recording and snapshotting are lock-free.
+ * A snapshot is not atomic across buckets, but it is consistent enough for monitoring.
+ */
+public final class JavetLatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+    private final AtomicLongArray buckets;
+    private final LongAdder count;
+    private final AtomicLong max;
+    private final LongAdder sum;
+
+    public JavetLatencyHistogram() {
+        buckets = new AtomicLongArray(BUCKET_COUNT);
+        count = new LongAdder();
+        max = new AtomicLong(0);
+        sum = new LongAdder();
+    }
+
+    private static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        final long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    private static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+    }
+
+    /**
+     * Records a latency in nanoseconds. Negative values are recorded as 0.
+     *
+     * @param nanos the nanos
+     */
+    public void record(long nanos) {
+        final long value = Math.max(nanos, 0L);
+        buckets.incrementAndGet(getBucketIndex(value));
+        count.increment();
+        sum.add(value);
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        max.set(0L);
+        sum.reset();
+    }
+
+    public Snapshot snapshot() {
+        long[] bucketCounts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; ++i) {
+            bucketCounts[i] = buckets.get(i);
+        }
+        return new Snapshot(bucketCounts, count.sum(), max.get(), sum.sum());
+    }
+
+    public static final class Snapshot {
+        private final long[] bucketCounts;
+        private final long count;
+        private final long max;
+        private final long sum;
+
+        private Snapshot(long[] bucketCounts, long count, long max, long sum) {
+            this.bucketCounts = bucketCounts;
+            this.count = count;
+            this.max = max;
+            this.sum = sum;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMaxNanos() {
+            return max;
+        }
+
+        public double getMaxMillis() {
+            return toMillis(max);
+        }
+
+        public double getMeanMillis() {
+            return count == 0 ? 0D : toMillis(sum) / count;
+        }
+
+        /**
+         * Gets the upper bound of the bucket holding the given percentile.
+         *
+         * @param percentile the percentile between 0 and 100
+         * @return the percentile nanos
+         */
+        public long getPercentileNanos(double percentile) {
+            long total = 0;
+            for (long bucketCount : bucketCounts) {
+                total += bucketCount;
+            }
+            if (total == 0) {
+                return 0L;
+            }
+            final long rank = Math.max(1L, (long) Math.ceil(total * Math.min(Math.max(percentile, 0D), 100D) / 100D));
+            long accumulated = 0;
+            for (int i = 0; i < bucketCounts.length; ++i) {
+                accumulated += bucketCounts[i];
+                if (accumulated >= rank) {
+                    return Math.min(getBucketUpperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        public double getPercentileMillis(double percentile) {
+            return toMillis(getPercentileNanos(percentile));
+        }
+
+        public long getSumNanos() {
+            return sum;
+        }
+
+        private double toMillis(long nanos) {
+            return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The type Javet long object hash map.
+ * <p>
+ * It is an open addressing hash map with primitive long keys and linear probing.
+ * Removal shifts the following entries back instead of leaving tombstones,
+ * so put, get and remove are O(1) on average and never allocate unless the table grows.
+ * Key 0 is reserved for empty slots because it is never a valid V8 handle.
+ * It is not thread-safe.
+ *
+ * @param <V> the type parameter
+ */
+@SuppressWarnings("unchecked")
+public final class JavetLongObjectHashMap<V> {
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final long EMPTY_KEY = 0L;
+    private static final float LOAD_FACTOR = 0.5F;
+    private long[] keys;
+    private int mask;
+    private int resizeThreshold;
+    private int size;
+    private Object[] values;
+
+    public JavetLongObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public JavetLongObjectHashMap(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 2) - 1) << 1;
+        allocate(capacity);
+        size = 0;
+    }
+
+    private static int hash(long key) {
+        // Handles are aligned pointers, so the low bits are mixed with the high bits.
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, EMPTY_KEY);
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Performs the action for each value. The map must not be modified by the action.
+     *
+     * @param action the action
+     */
+    public void forEachValue(Consumer<V> action) {
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != EMPTY_KEY) {
+                action.accept((V) values[i]);
+            }
+        }
+    }
+
+    public V get(long key) {
+        if (key == EMPTY_KEY) {
+            return null;
+        }
+        int index = hash(key) & mask;
+        long currentKey;
+        while ((currentKey = keys[index]) != EMPTY_KEY) {
+            if (currentKey == key) {
+                return (V) values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public V put(long key, V value) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("Key 0 is reserved.");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        int index = hash(key) & mask;
+        long currentKey;
+        while ((currentKey = keys[index]) != EMPTY_KEY) {
+            if (currentKey == key) {
+                V oldValue = (V) values[index];
+                values[index] = value;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; ++i) {
+            final long key = oldKeys[i];
+            if (key != EMPTY_KEY) {
+                int index = hash(key) & mask;
+                while (keys[index] != EMPTY_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    public V remove(long key) {
+        if (key == EMPTY_KEY) {
+            return null;
+        }
+        int index = hash(key) & mask;
+        long currentKey;
+        while ((currentKey = keys[index]) != EMPTY_KEY) {
+            if (currentKey == key) {
+                V oldValue = (V) values[index];
+                shiftBack(index);
+                --size;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Closes the gap at the index by moving back the following entries of the probe sequence.
+     *
+     * @param gapIndex the gap index
+     */
+    private void shiftBack(int gapIndex) {
+        int index = gapIndex;
+        while (true) {
+            index = (index + 1) & mask;
+            final long key = keys[index];
+            if (key == EMPTY_KEY) {
+                break;
+            }
+            final int homeIndex = hash(key) & mask;
+            // The entry can fill the gap only if its home index is not within (gap, index].
+            if (((index - homeIndex) & mask) >= ((index - gapIndex) & mask)) {
+                keys[gapIndex] = key;
+                values[gapIndex] = values[index];
+                gapIndex = index;
+            }
+        }
+        keys[gapIndex] = EMPTY_KEY;
+        values[gapIndex] = null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies the values to a new list so that the map can be modified while iterating the list.
+     *
+     * @return the values
+     */
+    public List<V> values() {
+        List<V> valueList = new ArrayList<>(size);
+        forEachValue(valueList::add);
+        return valueList;
+    }
+}
@@ -19,6 +19,7 @@ package com.caoccao.javet.utils;
 
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interfaces.IJavetClosable;
+import com.caoccao.javet.values.reference.IV8ValueReference;
 
 import java.util.List;
 
@@ -43,7 +44,13 @@ public final class JavetResourceUtils {
     }
 
     public static void safeClose(Object obj) {
-        if (obj != null && obj instanceof IJavetClosable) {
+        if (obj instanceof IV8ValueReference) {
+            try {
+                // close(false) keeps the wrapper out of wrapper recycling.
+                ((IV8ValueReference) obj).close(false);
+            } catch (JavetException e) {
+            }
+        } else if (obj != null && obj instanceof IJavetClosable) {
             try {
                 ((IJavetClosable) obj).close();
             } catch (JavetException e) {
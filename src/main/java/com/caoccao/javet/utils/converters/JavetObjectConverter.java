@@ -20,9 +20,9 @@ package com.caoccao.javet.utils.converters;
 import com.caoccao.javet.entities.JavetEntityMap;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.interop.V8Scope;
 import com.caoccao.javet.values.V8Value;
 import com.caoccao.javet.values.V8ValueReferenceType;
-import com.caoccao.javet.values.primitive.V8ValueString;
 import com.caoccao.javet.values.reference.*;
 
 import java.util.*;
@@ -46,6 +46,7 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Object toObject(V8Value v8Value) throws JavetException {
         Object returnObject = super.toObject(v8Value);
         if (returnObject == null || !(returnObject instanceof V8Value)) {
@@ -53,9 +54,14 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
         }
         if (v8Value instanceof V8ValueArray) {
             V8ValueArray v8ValueArray = (V8ValueArray) v8Value;
-            List<Object> list = new ArrayList<>();
-            v8ValueArray.forEach(value -> list.add(toObject(value)));
-            return list;
+            try (V8Scope v8Scope = v8Value.getV8Runtime().openScope()) {
+                V8Value[] items = v8ValueArray.toArray();
+                List<Object> list = new ArrayList<>(items.length);
+                for (V8Value item : items) {
+                    list.add(toObject(item));
+                }
+                return list;
+            }
         } else if (v8Value instanceof V8ValueSet) {
             V8ValueSet v8ValueSet = (V8ValueSet) v8Value;
             HashSet<Object> set = new HashSet<>();
@@ -92,18 +98,17 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
         } else if (v8Value instanceof V8ValueObject) {
             V8ValueObject v8ValueObject = (V8ValueObject) v8Value;
             Map<String, Object> map = new HashMap<>();
-            v8ValueObject.forEach(key -> {
-                String keyString = key.toString();
-                if (PROPERTY_CONSTRUCTOR.equals(keyString)) {
-                    try (V8ValueObject v8ValueObjectValue = v8ValueObject.get(PROPERTY_CONSTRUCTOR)) {
+            try (V8Scope v8Scope = v8Value.getV8Runtime().openScope()) {
+                v8ValueObject.forEach(key -> {
+                    String keyString = key.toString();
+                    if (PROPERTY_CONSTRUCTOR.equals(keyString)) {
+                        V8ValueObject v8ValueObjectValue = v8ValueObject.get(PROPERTY_CONSTRUCTOR);
                         map.put(PROPERTY_CONSTRUCTOR, v8ValueObjectValue.getString(PROPERTY_NAME));
+                    } else {
+                        map.put(keyString, toObject(v8ValueObject.get(key)));
                     }
-                } else {
-                    try (V8Value value = v8ValueObject.get(key)) {
-                        map.put(keyString, toObject(value));
-                    }
-                }
-            });
+                });
+            }
             return map;
         }
         return v8Value;
@@ -116,48 +121,43 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
             return (T) v8Value;
         }
         if (isEntityMap(object)) {
-            V8ValueMap v8ValueMap = v8Runtime.createV8ValueMap();
             Map mapObject = (Map) object;
-            for (Object key : mapObject.keySet()) {
-                try (V8Value childV8Value = toV8Value(v8Runtime, mapObject.get(key))) {
+            try (V8Scope v8Scope = v8Runtime.openScope()) {
+                V8ValueMap v8ValueMap = v8Scope.promote(v8Runtime.createV8ValueMap());
+                for (Object key : mapObject.keySet()) {
                     String childStringKey = key instanceof String ? (String) key : key.toString();
-                    v8ValueMap.set(childStringKey, childV8Value);
+                    v8ValueMap.set(childStringKey, toV8Value(v8Runtime, mapObject.get(key)));
                 }
+                v8Value = v8ValueMap;
             }
-            v8Value = v8ValueMap;
         } else if (object instanceof Map) {
-            V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject();
             Map mapObject = (Map) object;
-            for (Object key : mapObject.keySet()) {
-                try (V8Value childV8Value = toV8Value(v8Runtime, mapObject.get(key))) {
+            try (V8Scope v8Scope = v8Runtime.openScope()) {
+                V8ValueObject v8ValueObject = v8Scope.promote(v8Runtime.createV8ValueObject());
+                for (Object key : mapObject.keySet()) {
                     String childStringKey = key instanceof String ? (String) key : key.toString();
-                    v8ValueObject.set(childStringKey, childV8Value);
+                    v8ValueObject.set(childStringKey, toV8Value(v8Runtime, mapObject.get(key)));
                 }
+                v8Value = v8ValueObject;
             }
-            v8Value = v8ValueObject;
         } else if (object instanceof Set) {
-            V8ValueSet v8ValueSet = v8Runtime.createV8ValueSet();
             Set setObject = (Set) object;
-            for (Object item : setObject) {
-                try (V8Value childV8Value = toV8Value(v8Runtime, item)) {
-                    v8ValueSet.add(childV8Value);
+            try (V8Scope v8Scope = v8Runtime.openScope()) {
+                V8ValueSet v8ValueSet = v8Scope.promote(v8Runtime.createV8ValueSet());
+                for (Object item : setObject) {
+                    v8ValueSet.add(toV8Value(v8Runtime, item));
                 }
+                v8Value = v8ValueSet;
             }
-            v8Value = v8ValueSet;
         } else if (object instanceof Collection) {
-            V8ValueArray v8ValueArray = v8Runtime.createV8ValueArray();
-            for (Object item : (Collection) object) {
-                try (V8Value childV8Value = toV8Value(v8Runtime, item)) {
-                    v8ValueArray.push(childV8Value);
-                }
-            }
-            v8Value = v8ValueArray;
+            v8Value = toV8ValueArray(v8Runtime, ((Collection) object).toArray());
         } else if (object instanceof boolean[]) {
-            V8ValueArray v8ValueArray = v8Runtime.createV8ValueArray();
-            for (boolean item : (boolean[]) object) {
-                v8ValueArray.push(v8Runtime.createV8ValueBoolean(item));
+            boolean[] booleans = (boolean[]) object;
+            V8Value[] items = new V8Value[booleans.length];
+            for (int i = 0; i < booleans.length; ++i) {
+                items[i] = v8Runtime.createV8ValueBoolean(booleans[i]);
             }
-            v8Value = v8ValueArray;
+            v8Value = v8Runtime.createV8ValueArray(items);
         } else if (object instanceof byte[]) {
             byte[] bytes = (byte[]) object;
             V8ValueTypedArray v8ValueTypedArray = v8Runtime.createV8ValueTypedArray(
@@ -195,20 +195,20 @@ public class JavetObjectConverter extends JavetPrimitiveConverter {
             v8ValueTypedArray.fromShorts(shorts);
             v8Value = v8ValueTypedArray;
         } else if (object instanceof String[]) {
-            V8ValueArray v8ValueArray = v8Runtime.createV8ValueArray();
-            for (String item : (String[]) object) {
-                v8ValueArray.push(new V8ValueString(item));
-            }
-            v8Value = v8ValueArray;
+            v8Value = v8Runtime.createV8ValueArray((String[]) object);
         } else if (object.getClass().isArray()) {
-            V8ValueArray v8ValueArray = v8Runtime.createV8ValueArray();
-            for (Object item : (Object[]) object) {
-                try (V8Value childV8Value = toV8Value(v8Runtime, item)) {
-                    v8ValueArray.push(childV8Value);
-                }
-            }
-            v8Value = v8ValueArray;
+            v8Value = toV8ValueArray(v8Runtime, (Object[]) object);
         }
         return (T) v8Runtime.decorateV8Value(v8Value);
     }
+
+    protected V8ValueArray toV8ValueArray(V8Runtime v8Runtime, Object[] objects) throws JavetException {
+        try (V8Scope v8Scope = v8Runtime.openScope()) {
+            V8Value[] items = new V8Value[objects.length];
+            for (int i = 0; i < objects.length; ++i) {
+                items[i] = toV8Value(v8Runtime, objects[i]);
+            }
+            return v8Scope.promote(v8Runtime.createV8ValueArray(items));
+        }
+    }
 }
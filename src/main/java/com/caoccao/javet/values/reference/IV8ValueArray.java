@@ -99,4 +99,39 @@ public interface IV8ValueArray extends IV8ValueObject {
     default int pushUndefined() throws JavetException {
         return push(getV8Runtime().createV8ValueUndefined());
     }
+
+    /**
+     * Gets all the elements in one native call. The caller owns the elements.
+     *
+     * @return the elements
+     * @throws JavetException the javet exception
+     */
+    V8Value[] toArray() throws JavetException;
+
+    /**
+     * Gets all the elements as double in one native call.
+     * Elements that are not numbers become 0.
+     *
+     * @return the doubles
+     * @throws JavetException the javet exception
+     */
+    double[] toDoubleArray() throws JavetException;
+
+    /**
+     * Gets all the elements as int in one native call.
+     * Elements that are not numbers become 0.
+     *
+     * @return the ints
+     * @throws JavetException the javet exception
+     */
+    int[] toIntArray() throws JavetException;
+
+    /**
+     * Gets all the elements as string in one native call.
+     * Elements that are not strings become null.
+     *
+     * @return the strings
+     * @throws JavetException the javet exception
+     */
+    String[] toStringArray() throws JavetException;
 }
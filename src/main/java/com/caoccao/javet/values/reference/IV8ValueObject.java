@@ -20,11 +20,19 @@ package com.caoccao.javet.values.reference;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interfaces.IJavetBiConsumer;
 import com.caoccao.javet.interfaces.IJavetConsumer;
+import com.caoccao.javet.interop.V8Runtime;
 import com.caoccao.javet.utils.JavetCallbackContext;
+import com.caoccao.javet.utils.JavetResourceUtils;
+import com.caoccao.javet.utils.converters.IJavetConverter;
+import com.caoccao.javet.utils.converters.JavetPrimitiveConverter;
 import com.caoccao.javet.values.V8Value;
 import com.caoccao.javet.values.primitive.*;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @SuppressWarnings("unchecked")
 public interface IV8ValueObject extends IV8ValueReference {
@@ -39,7 +47,8 @@ public interface IV8ValueObject extends IV8ValueReference {
     boolean delete(V8Value key) throws JavetException;
 
     default boolean delete(String key) throws JavetException {
-        return delete(new V8ValueString(key));
+        checkV8Runtime();
+        return delete(getV8Runtime().createV8ValueKey(key));
     }
 
     default boolean deleteNull() throws JavetException {
@@ -59,11 +68,44 @@ public interface IV8ValueObject extends IV8ValueReference {
     }
 
     default <T extends V8Value> T get(String key) throws JavetException {
-        return get(new V8ValueString(key));
+        checkV8Runtime();
+        return get(getV8Runtime().createV8ValueKey(key));
     }
 
     <T extends V8Value> T get(V8Value key) throws JavetException;
 
+    default V8Value[] getBatch(int... indices) throws JavetException {
+        Objects.requireNonNull(indices);
+        V8Value[] values = new V8Value[indices.length];
+        getBatch(indices, values);
+        return values;
+    }
+
+    default V8Value[] getBatch(String... keys) throws JavetException {
+        Objects.requireNonNull(keys);
+        V8Value[] values = new V8Value[keys.length];
+        getBatch(keys, values);
+        return values;
+    }
+
+    /**
+     * Gets the values of the given keys in one native call.
+     * <p>
+     * A key can be a Java string or a V8 value. The values array is filled
+     * up to the length of the keys array and the caller owns the values.
+     *
+     * @param keys   the keys
+     * @param values the values
+     * @throws JavetException the javet exception
+     */
+    void getBatch(Object[] keys, V8Value[] values) throws JavetException;
+
+    void getBatch(int[] indices, V8Value[] values) throws JavetException;
+
+    void getBatchDouble(Object[] keys, double[] values) throws JavetException;
+
+    void getBatchInt(Object[] keys, int[] values) throws JavetException;
+
     default Boolean getBoolean(int key) throws JavetException {
         return getObject(key);
     }
@@ -148,6 +190,42 @@ public interface IV8ValueObject extends IV8ValueReference {
 
     IV8ValueArray getOwnPropertyNames() throws JavetException;
 
+    /**
+     * Gets a boolean property without creating any intermediate V8 value.
+     *
+     * @param key the key
+     * @return true if the property is boolean true, otherwise false
+     * @throws JavetException the javet exception
+     */
+    boolean getPrimitiveBoolean(String key) throws JavetException;
+
+    /**
+     * Gets a number property without creating any intermediate V8 value.
+     *
+     * @param key the key
+     * @return the number or 0 if the property is not a number
+     * @throws JavetException the javet exception
+     */
+    double getPrimitiveDouble(String key) throws JavetException;
+
+    /**
+     * Gets a number property as int without creating any intermediate V8 value.
+     *
+     * @param key the key
+     * @return the number or 0 if the property is not a number
+     * @throws JavetException the javet exception
+     */
+    int getPrimitiveInt(String key) throws JavetException;
+
+    /**
+     * Gets a string property without creating any intermediate V8 value.
+     *
+     * @param key the key
+     * @return the string or null if the property is not a string
+     * @throws JavetException the javet exception
+     */
+    String getPrimitiveString(String key) throws JavetException;
+
     IV8ValueArray getPropertyNames() throws JavetException;
 
     default <T extends V8Value> T getProperty(int index) throws JavetException {
@@ -155,7 +233,8 @@ public interface IV8ValueObject extends IV8ValueReference {
     }
 
     default <T extends V8Value> T getProperty(String key) throws JavetException {
-        return getProperty(new V8ValueString(key));
+        checkV8Runtime();
+        return getProperty(getV8Runtime().createV8ValueKey(key));
     }
 
     <T extends V8Value> T getProperty(V8Value key) throws JavetException;
@@ -285,7 +364,8 @@ public interface IV8ValueObject extends IV8ValueReference {
     }
 
     default boolean hasOwnProperty(String key) throws JavetException {
-        return hasOwnProperty(new V8ValueString(key));
+        checkV8Runtime();
+        return hasOwnProperty(getV8Runtime().createV8ValueKey(key));
     }
 
     boolean hasOwnProperty(V8Value key) throws JavetException;
@@ -345,11 +425,59 @@ public interface IV8ValueObject extends IV8ValueReference {
     }
 
     default boolean set(String key, V8Value value) throws JavetException {
-        return set(new V8ValueString(key), value);
+        checkV8Runtime();
+        return set(getV8Runtime().createV8ValueKey(key), value);
     }
 
     boolean set(V8Value key, V8Value value) throws JavetException;
 
+    default int setBatch(Map<?, ?> map) throws JavetException {
+        Objects.requireNonNull(map);
+        V8Runtime v8Runtime = getV8Runtime();
+        IJavetConverter converter = new JavetPrimitiveConverter();
+        Object[] keys = new Object[map.size()];
+        V8Value[] values = new V8Value[map.size()];
+        // The values created by the converter are closed, while the V8 values in the map are kept open.
+        List<Object> convertedObjects = new ArrayList<>();
+        try {
+            int index = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object key = entry.getKey();
+                if (key instanceof String || key instanceof V8Value) {
+                    keys[index] = key;
+                } else {
+                    keys[index] = converter.toV8Value(v8Runtime, key);
+                    convertedObjects.add(keys[index]);
+                }
+                Object value = entry.getValue();
+                if (value instanceof V8Value) {
+                    values[index] = (V8Value) value;
+                } else {
+                    values[index] = converter.toV8Value(v8Runtime, value);
+                    convertedObjects.add(values[index]);
+                }
+                ++index;
+            }
+            return setBatch(keys, values);
+        } finally {
+            JavetResourceUtils.safeClose(convertedObjects);
+        }
+    }
+
+    /**
+     * Sets the values of the given keys in one native call.
+     *
+     * @param keys   the keys
+     * @param values the values
+     * @return the count of the values that are set
+     * @throws JavetException the javet exception
+     */
+    int setBatch(Object[] keys, V8Value[] values) throws JavetException;
+
+    boolean setBoolean(String key, boolean value) throws JavetException;
+
+    boolean setDouble(String key, double value) throws JavetException;
+
     /**
      * Sets function by name and callback context.
      * <p>
@@ -389,12 +517,15 @@ public interface IV8ValueObject extends IV8ValueReference {
         return success;
     }
 
+    boolean setInt(String key, int value) throws JavetException;
+
     default boolean setNull(int key) throws JavetException {
         return set(getV8Runtime().createV8ValueInteger(key), getV8Runtime().createV8ValueNull());
     }
 
     default boolean setNull(String key) throws JavetException {
-        return set(new V8ValueString(key), getV8Runtime().createV8ValueNull());
+        checkV8Runtime();
+        return set(getV8Runtime().createV8ValueKey(key), getV8Runtime().createV8ValueNull());
     }
 
     default boolean setProperty(int key, V8Value value) throws JavetException {
@@ -402,7 +533,8 @@ public interface IV8ValueObject extends IV8ValueReference {
     }
 
     default boolean setProperty(String key, V8Value value) throws JavetException {
-        return setProperty(new V8ValueString(key), value);
+        checkV8Runtime();
+        return setProperty(getV8Runtime().createV8ValueKey(key), value);
     }
 
     boolean setProperty(V8Value key, V8Value value) throws JavetException;
@@ -412,7 +544,8 @@ public interface IV8ValueObject extends IV8ValueReference {
     }
 
     default boolean setPropertyNull(String key) throws JavetException {
-        return setProperty(new V8ValueString(key), getV8Runtime().createV8ValueNull());
+        checkV8Runtime();
+        return setProperty(getV8Runtime().createV8ValueKey(key), getV8Runtime().createV8ValueNull());
     }
 
     default boolean setPropertyUndefined(int key) throws JavetException {
@@ -420,15 +553,19 @@ public interface IV8ValueObject extends IV8ValueReference {
     }
 
     default boolean setPropertyUndefined(String key) throws JavetException {
-        return setProperty(new V8ValueString(key), getV8Runtime().createV8ValueUndefined());
+        checkV8Runtime();
+        return setProperty(getV8Runtime().createV8ValueKey(key), getV8Runtime().createV8ValueUndefined());
     }
 
+    boolean setString(String key, String value) throws JavetException;
+
     default boolean setUndefined(int key) throws JavetException {
         return set(getV8Runtime().createV8ValueInteger(key), getV8Runtime().createV8ValueUndefined());
     }
 
     default boolean setUndefined(String key) throws JavetException {
-        return set(new V8ValueString(key), getV8Runtime().createV8ValueUndefined());
+        checkV8Runtime();
+        return set(getV8Runtime().createV8ValueKey(key), getV8Runtime().createV8ValueUndefined());
     }
 
     /**
@@ -21,6 +21,8 @@ import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.values.IV8Value;
 
 public interface IV8ValueReference extends IV8Value {
+    void checkV8Runtime() throws JavetException;
+
     void clearWeak() throws JavetException;
 
     void close(boolean forceClose) throws JavetException;
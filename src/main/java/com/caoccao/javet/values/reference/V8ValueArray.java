@@ -23,11 +23,13 @@ import com.caoccao.javet.values.V8Value;
 import com.caoccao.javet.values.V8ValueReferenceType;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 @SuppressWarnings("unchecked")
 public class V8ValueArray extends V8ValueObject implements IV8ValueArray {
+    protected static final int FOR_EACH_BATCH_SIZE = 100;
     protected static final String FUNCTION_NEXT = "next";
     protected static final String FUNCTION_KEYS = "keys";
     protected static final String FUNCTION_POP = "pop";
@@ -43,9 +45,30 @@ public class V8ValueArray extends V8ValueObject implements IV8ValueArray {
     public <Value extends V8Value> int forEach(IJavetConsumer<Value> consumer) throws JavetException {
         Objects.requireNonNull(consumer);
         final int length = getLength();
-        for (int i = 0; i < length; ++i) {
-            try (Value value = get(i)) {
-                consumer.accept(value);
+        // The values are fetched in chunks so that only the handles of one chunk are alive at a time.
+        int[] indices = new int[Math.min(length, FOR_EACH_BATCH_SIZE)];
+        V8Value[] values = new V8Value[indices.length];
+        for (int start = 0; start < length; start += indices.length) {
+            if (length - start < indices.length) {
+                indices = new int[length - start];
+                values = new V8Value[indices.length];
+            }
+            for (int i = 0; i < indices.length; ++i) {
+                indices[i] = start + i;
+            }
+            getBatch(indices, values);
+            int index = 0;
+            try {
+                for (; index < values.length; ++index) {
+                    try (Value value = (Value) values[index]) {
+                        consumer.accept(value);
+                    }
+                }
+            } finally {
+                for (++index; index < values.length; ++index) {
+                    values[index].close();
+                }
+                Arrays.fill(values, null);
             }
         }
         return length;
@@ -97,4 +120,28 @@ public class V8ValueArray extends V8ValueObject implements IV8ValueArray {
         checkV8Runtime();
         return invokeInteger(FUNCTION_PUSH, v8Value);
     }
+
+    @Override
+    public V8Value[] toArray() throws JavetException {
+        checkV8Runtime();
+        return v8Runtime.toArray(this);
+    }
+
+    @Override
+    public double[] toDoubleArray() throws JavetException {
+        checkV8Runtime();
+        return v8Runtime.toDoubleArray(this);
+    }
+
+    @Override
+    public int[] toIntArray() throws JavetException {
+        checkV8Runtime();
+        return v8Runtime.toIntArray(this);
+    }
+
+    @Override
+    public String[] toStringArray() throws JavetException {
+        checkV8Runtime();
+        return v8Runtime.toStringArray(this);
+    }
 }
@@ -58,13 +58,13 @@ public final class V8ValueGlobalObject extends V8ValueObject {
     }
 
     public V8ValueBuiltInJson getJson() throws JavetException {
-        V8ValueObject v8ValueObject = get(PROPERTY_JSON);
-        return v8Runtime.decorateV8Value(new V8ValueBuiltInJson(v8ValueObject.getHandle()));
+        checkV8Runtime();
+        return v8Runtime.getBuiltInJson();
     }
 
     public V8ValueBuiltInPromise getPromise() throws JavetException {
-        V8ValueObject v8ValueObject = get(PROPERTY_PROMISE);
-        return v8Runtime.decorateV8Value(new V8ValueBuiltInPromise(v8ValueObject.getHandle()));
+        checkV8Runtime();
+        return v8Runtime.getBuiltInPromise();
     }
 
     @Override
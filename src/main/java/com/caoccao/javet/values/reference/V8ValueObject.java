@@ -20,9 +20,9 @@ package com.caoccao.javet.values.reference;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interfaces.IJavetBiConsumer;
 import com.caoccao.javet.interfaces.IJavetConsumer;
+import com.caoccao.javet.interop.V8Runtime;
 import com.caoccao.javet.values.V8Value;
 import com.caoccao.javet.values.V8ValueReferenceType;
-import com.caoccao.javet.values.reference.builtin.V8ValueBuiltInJson;
 
 import java.util.Objects;
 
@@ -38,6 +38,23 @@ public class V8ValueObject extends V8ValueReference implements IV8ValueObject {
         super(handle);
     }
 
+    /**
+     * Closes the V8 value object.
+     * <p>
+     * The wrapper goes back to the free list of the V8 runtime if wrapper recycling is enabled.
+     * Force close never recycles the wrapper.
+     *
+     * @throws JavetException the javet exception
+     */
+    @Override
+    public void close() throws JavetException {
+        V8Runtime v8Runtime = this.v8Runtime;
+        super.close();
+        if (handle == 0L && v8Runtime != null && getClass() == V8ValueObject.class) {
+            v8Runtime.recycle(this);
+        }
+    }
+
     @Override
     public boolean delete(V8Value key) throws JavetException {
         Objects.requireNonNull(key);
@@ -91,6 +108,66 @@ public class V8ValueObject extends V8ValueReference implements IV8ValueObject {
         return v8Runtime.getPropertyNames(this);
     }
 
+    @Override
+    public void getBatch(Object[] keys, V8Value[] values) throws JavetException {
+        Objects.requireNonNull(keys);
+        Objects.requireNonNull(values);
+        checkV8Runtime();
+        v8Runtime.getBatch(this, keys, values);
+    }
+
+    @Override
+    public void getBatch(int[] indices, V8Value[] values) throws JavetException {
+        Objects.requireNonNull(indices);
+        Objects.requireNonNull(values);
+        checkV8Runtime();
+        v8Runtime.getBatch(this, indices, values);
+    }
+
+    @Override
+    public void getBatchDouble(Object[] keys, double[] values) throws JavetException {
+        Objects.requireNonNull(keys);
+        Objects.requireNonNull(values);
+        checkV8Runtime();
+        v8Runtime.getBatchDouble(this, keys, values);
+    }
+
+    @Override
+    public void getBatchInt(Object[] keys, int[] values) throws JavetException {
+        Objects.requireNonNull(keys);
+        Objects.requireNonNull(values);
+        checkV8Runtime();
+        v8Runtime.getBatchInt(this, keys, values);
+    }
+
+    @Override
+    public boolean getPrimitiveBoolean(String key) throws JavetException {
+        Objects.requireNonNull(key);
+        checkV8Runtime();
+        return v8Runtime.getBoolean(this, key);
+    }
+
+    @Override
+    public double getPrimitiveDouble(String key) throws JavetException {
+        Objects.requireNonNull(key);
+        checkV8Runtime();
+        return v8Runtime.getDouble(this, key);
+    }
+
+    @Override
+    public int getPrimitiveInt(String key) throws JavetException {
+        Objects.requireNonNull(key);
+        checkV8Runtime();
+        return v8Runtime.getInt(this, key);
+    }
+
+    @Override
+    public String getPrimitiveString(String key) throws JavetException {
+        Objects.requireNonNull(key);
+        checkV8Runtime();
+        return v8Runtime.getString(this, key);
+    }
+
     @Override
     public <T extends V8Value> T getProperty(V8Value key) throws JavetException {
         Objects.requireNonNull(key);
@@ -124,6 +201,18 @@ public class V8ValueObject extends V8ValueReference implements IV8ValueObject {
         return v8Runtime.invoke(this, functionName, returnResult, v8Values);
     }
 
+    /**
+     * Reuses the closed wrapper for a new handle.
+     * It is called by V8 runtime when wrapper recycling is enabled.
+     *
+     * @param handle the handle
+     */
+    public void reuse(long handle) {
+        assert this.handle == 0L;
+        this.handle = handle;
+        weak = false;
+    }
+
     @Override
     public boolean set(V8Value key, V8Value value) throws JavetException {
         Objects.requireNonNull(key);
@@ -132,6 +221,35 @@ public class V8ValueObject extends V8ValueReference implements IV8ValueObject {
         return v8Runtime.set(this, key, value);
     }
 
+    @Override
+    public int setBatch(Object[] keys, V8Value[] values) throws JavetException {
+        Objects.requireNonNull(keys);
+        Objects.requireNonNull(values);
+        checkV8Runtime();
+        return v8Runtime.setBatch(this, keys, values);
+    }
+
+    @Override
+    public boolean setBoolean(String key, boolean value) throws JavetException {
+        Objects.requireNonNull(key);
+        checkV8Runtime();
+        return v8Runtime.setBoolean(this, key, value);
+    }
+
+    @Override
+    public boolean setDouble(String key, double value) throws JavetException {
+        Objects.requireNonNull(key);
+        checkV8Runtime();
+        return v8Runtime.setDouble(this, key, value);
+    }
+
+    @Override
+    public boolean setInt(String key, int value) throws JavetException {
+        Objects.requireNonNull(key);
+        checkV8Runtime();
+        return v8Runtime.setInt(this, key, value);
+    }
+
     @Override
     public boolean setProperty(V8Value key, V8Value value) throws JavetException {
         Objects.requireNonNull(key);
@@ -140,6 +258,13 @@ public class V8ValueObject extends V8ValueReference implements IV8ValueObject {
         return v8Runtime.setProperty(this, key, value);
     }
 
+    @Override
+    public boolean setString(String key, String value) throws JavetException {
+        Objects.requireNonNull(key);
+        checkV8Runtime();
+        return v8Runtime.setString(this, key, value);
+    }
+
     @Override
     public String toProtoString() {
         try {
@@ -154,9 +279,7 @@ public class V8ValueObject extends V8ValueReference implements IV8ValueObject {
     public String toJsonString() {
         try {
             checkV8Runtime();
-            try (V8ValueBuiltInJson v8ValueBuiltInJson = v8Runtime.getGlobalObject().getJson()) {
-                return v8ValueBuiltInJson.stringify(this);
-            }
+            return v8Runtime.getBuiltInJson().stringify(this);
         } catch (JavetException e) {
             return e.getMessage();
         }
@@ -15,6 +15,29 @@ public class V8ValueBuiltInJson extends V8ValueObject {
         super(handle);
     }
 
+    @Override
+    protected void addReference() {
+        // Built-in object is owned by V8 runtime and lives as long as V8 context lives.
+    }
+
+    @Override
+    public void close(boolean forceClose) throws JavetException {
+        // Built-in object is only closed by V8 runtime when V8 context is reset.
+        if (forceClose) {
+            super.close(true);
+        }
+    }
+
+    @Override
+    protected void removeReference() {
+        // The handle is released by V8 runtime.
+    }
+
+    @Override
+    public void setWeak() throws JavetException {
+        // Built-in object cannot be set to weak.
+    }
+
     public String stringify(V8Value v8Value) throws JavetException {
         Objects.requireNonNull(v8Value);
         return invokeString(FUNCTION_STRINGIFY, v8Value);
@@ -19,9 +19,15 @@ package com.caoccao.javet.values.virtual;
 
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.interfaces.IJavetClosable;
+import com.caoccao.javet.interop.V8Runtime;
+import com.caoccao.javet.values.V8Value;
+import com.caoccao.javet.values.reference.IV8ValueReference;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 @SuppressWarnings("unchecked")
 public class V8VirtualList<T extends Object> extends ArrayList<T> implements IJavetClosable {
@@ -40,11 +46,20 @@ public class V8VirtualList<T extends Object> extends ArrayList<T> implements IJa
     @Override
     public void close() throws JavetException {
         if (!isEmpty()) {
+            // The references are released in one native call per V8 runtime.
+            Map<V8Runtime, List<IV8ValueReference>> referencesMap = new IdentityHashMap<>();
             for (Object value : this) {
-                if (value instanceof IJavetClosable) {
+                if (value instanceof IV8ValueReference && !((IV8ValueReference) value).isWeak()
+                        && ((V8Value) value).getV8Runtime() != null) {
+                    referencesMap.computeIfAbsent(((V8Value) value).getV8Runtime(), key -> new ArrayList<>())
+                            .add((IV8ValueReference) value);
+                } else if (value instanceof IJavetClosable) {
                     ((IJavetClosable) value).close();
                 }
             }
+            for (Map.Entry<V8Runtime, List<IV8ValueReference>> entry : referencesMap.entrySet()) {
+                entry.getKey().removeReferences(entry.getValue());
+            }
         }
     }
 }
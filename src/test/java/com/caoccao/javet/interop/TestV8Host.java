@@ -19,10 +19,11 @@ package com.caoccao.javet.interop;
 
 import com.caoccao.javet.BaseTestJavet;
 import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.exceptions.JavetExecutionException;
+import com.caoccao.javet.exceptions.JavetNotSupportedException;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class TestV8Host extends BaseTestJavet {
     @Test
@@ -53,6 +54,41 @@ public class TestV8Host extends BaseTestJavet {
         }
     }
 
+    @Test
+    public void testCreateV8RuntimeWithSnapshot() throws JavetException {
+        if (v8Host.getJSRuntimeType().isV8()) {
+            byte[] snapshotBlob = v8Host.createV8SnapshotBuilder()
+                    .addScript("var a = 1; function add(x, y) { return x + y; }")
+                    .addScript("var b = add(a, 2);", "bootstrap.js")
+                    .build();
+            assertNotNull(snapshotBlob);
+            assertTrue(snapshotBlob.length > 0);
+            try (V8Runtime v8Runtime = v8Host.createV8Runtime(false, "window", snapshotBlob)) {
+                assertEquals(3, v8Runtime.getExecutor("b").executeInteger());
+                assertEquals(5, v8Runtime.getExecutor("add(a, 4)").executeInteger());
+                assertEquals(3, v8Runtime.getExecutor("window.b").executeInteger());
+                v8Runtime.getExecutor("b = 10;").executeVoid();
+                v8Runtime.resetContext();
+                assertEquals(3, v8Runtime.getExecutor("b").executeInteger());
+                v8Runtime.resetIsolate();
+                assertEquals(3, v8Runtime.getExecutor("b").executeInteger());
+            }
+            try {
+                v8Host.createV8SnapshotBuilder().addScript("throw new Error('test');").build();
+                fail("Failed to report execution error.");
+            } catch (JavetExecutionException e) {
+                assertEquals("Error: test", e.getError().getMessage());
+            }
+            assertThrows(JavetNotSupportedException.class,
+                    () -> v8Host.createV8Runtime(false, "window", new byte[]{1, 2, 3}),
+                    "Invalid snapshot blob should be rejected.");
+        } else {
+            assertThrows(JavetNotSupportedException.class,
+                    () -> v8Host.createV8SnapshotBuilder().addScript("var a = 1;").build(),
+                    "Snapshot is not supported by Node.");
+        }
+    }
+
     @Test
     public void testLogJSRuntimeType() {
         JSRuntimeType jsRuntimeType = v8Host.getJSRuntimeType();
@@ -40,7 +40,7 @@ public class TestV8Native extends BaseTestJavet {
 
     @Test
     public void testLockAndUnlock() {
-        final long handle = v8Native.createV8Runtime(null);
+        final long handle = v8Native.createV8Runtime(null, null);
         try {
             final int iterations = 3;
             for (int i = 0; i < iterations; ++i) {
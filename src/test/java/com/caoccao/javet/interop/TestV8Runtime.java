@@ -18,14 +18,30 @@
 package com.caoccao.javet.interop;
 
 import com.caoccao.javet.BaseTestJavet;
+import com.caoccao.javet.exceptions.JavetCompilationException;
+import com.caoccao.javet.exceptions.JavetConverterException;
 import com.caoccao.javet.exceptions.JavetException;
 import com.caoccao.javet.exceptions.JavetExecutionException;
 import com.caoccao.javet.exceptions.JavetTerminatedException;
+import com.caoccao.javet.exceptions.JavetV8ValueAlreadyClosedException;
+import com.caoccao.javet.interop.cache.JavetFileCodeCacheStore;
+import com.caoccao.javet.interop.cache.JavetMemoryCodeCacheStore;
+import com.caoccao.javet.mock.MockCallbackReceiver;
+import com.caoccao.javet.utils.JavetCallbackContext;
+import com.caoccao.javet.utils.JavetCodeCacheUtils;
+import com.caoccao.javet.utils.JavetResourceUtils;
+import com.caoccao.javet.values.V8ValueReferenceType;
 import com.caoccao.javet.values.primitive.V8ValueString;
+import com.caoccao.javet.values.reference.V8Script;
 import com.caoccao.javet.values.reference.V8ValueGlobalObject;
 import com.caoccao.javet.values.reference.V8ValueObject;
+import com.caoccao.javet.values.reference.V8ValueTypedArray;
+import com.caoccao.javet.values.reference.builtin.V8ValueBuiltInJson;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -48,12 +64,90 @@ public class TestV8Runtime extends BaseTestJavet {
         }
     }
 
+    @Test
+    public void testBuiltInCache() throws JavetException {
+        try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
+            V8ValueGlobalObject globalObject = v8Runtime.getGlobalObject();
+            assertSame(globalObject, v8Runtime.getGlobalObject());
+            V8ValueBuiltInJson json = globalObject.getJson();
+            assertSame(json, v8Runtime.getBuiltInJson());
+            json.close();
+            assertNotEquals(0L, json.getHandle(), "The cached built-in should survive close().");
+            assertSame(v8Runtime, json.getV8Runtime());
+            assertSame(json, v8Runtime.getBuiltInJson());
+            assertSame(json, globalObject.getJson());
+            assertEquals("2", json.stringify(v8Runtime.createV8ValueInteger(2)));
+            try (V8ValueObject v8ValueObject = v8Runtime.getExecutor("({a: 1})").execute()) {
+                assertEquals("{\"a\":1}", v8ValueObject.toJsonString());
+            }
+            try (V8ValueTypedArray v8ValueTypedArray = v8Runtime.createV8ValueTypedArray(
+                    V8ValueReferenceType.Int8Array, 4)) {
+                assertEquals(4, v8ValueTypedArray.getLength());
+            }
+            try (V8ValueTypedArray v8ValueTypedArray = v8Runtime.createV8ValueTypedArray(
+                    V8ValueReferenceType.Int8Array, 8)) {
+                assertEquals(8, v8ValueTypedArray.getLength());
+            }
+            assertEquals(2, v8Runtime.getBuiltInCount());
+            assertEquals(0, v8Runtime.getReferenceCount());
+            v8Runtime.resetContext();
+            assertEquals(0, v8Runtime.getBuiltInCount());
+            assertThrows(JavetV8ValueAlreadyClosedException.class, () -> json.stringify(v8Runtime.createV8ValueNull()));
+            assertNotSame(json, v8Runtime.getGlobalObject().getJson());
+            assertEquals("1", v8Runtime.getBuiltInJson().stringify(v8Runtime.createV8ValueInteger(1)));
+            assertNotSame(globalObject, v8Runtime.getGlobalObject());
+        }
+    }
+
     @Test
     public void testClose() throws JavetException {
         try (V8Runtime v8Runtime = v8Host.createV8Runtime("window")) {
         }
     }
 
+    @Test
+    public void testCodeCache() throws JavetException, IOException {
+        final String codeString = "function f(a) { return a + 1; }\nf(1);";
+        JavetMemoryCodeCacheStore memoryCodeCacheStore = new JavetMemoryCodeCacheStore();
+        try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
+            v8Runtime.setCodeCacheStore(memoryCodeCacheStore);
+            v8Runtime.setCodeCacheMinScriptLength(0);
+            assertEquals(2, v8Runtime.getExecutor(codeString).executeInteger());
+            assertEquals(1, memoryCodeCacheStore.size());
+            assertEquals(0, v8Runtime.getCodeCacheAcceptedCount());
+        }
+        try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
+            v8Runtime.setCodeCacheStore(memoryCodeCacheStore);
+            v8Runtime.setCodeCacheMinScriptLength(0);
+            assertEquals(2, v8Runtime.getExecutor(codeString).executeInteger());
+            assertEquals(1, v8Runtime.getCodeCacheAcceptedCount());
+            assertEquals(0, v8Runtime.getCodeCacheRejectedCount());
+            // Bogus cached data is rejected and replaced.
+            String key = JavetCodeCacheUtils.getKey(codeString, false);
+            memoryCodeCacheStore.put(key, new byte[]{1, 2, 3});
+            v8Runtime.resetContext();
+            assertEquals(2, v8Runtime.getExecutor(codeString).executeInteger());
+            assertEquals(1, v8Runtime.getCodeCacheRejectedCount());
+            assertTrue(memoryCodeCacheStore.get(key).length > 3);
+            // Explicit compile options bypass the store.
+            V8CompileOptions v8CompileOptions = new V8CompileOptions().setCachedData(new byte[]{1, 2, 3});
+            try (V8Script v8Script = v8Runtime.compileScript(
+                    codeString, new V8ScriptOrigin("test.js"), v8CompileOptions, true)) {
+                assertNotNull(v8Script);
+                assertTrue(v8CompileOptions.isCachedDataRejected());
+            }
+            assertEquals(1, v8Runtime.getStatistics().getCodeCacheRejectedCount());
+        }
+        Path directory = Files.createTempDirectory("javet-code-cache");
+        JavetFileCodeCacheStore fileCodeCacheStore = new JavetFileCodeCacheStore(directory);
+        assertNull(fileCodeCacheStore.get("a"));
+        fileCodeCacheStore.put("a", new byte[]{1, 2, 3});
+        assertArrayEquals(new byte[]{1, 2, 3}, fileCodeCacheStore.get("a"));
+        fileCodeCacheStore.remove("a");
+        assertNull(fileCodeCacheStore.get("a"));
+        Files.deleteIfExists(directory);
+    }
+
     @Test
     public void testExecuteScript() throws JavetException {
         try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
@@ -71,6 +165,134 @@ public class TestV8Runtime extends BaseTestJavet {
         }
     }
 
+    @Test
+    public void testPreparedScript() throws JavetException {
+        try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
+            IV8PreparedScript iV8PreparedScript = v8Runtime.prepare("return a + b;", "a", "b");
+            assertSame(iV8PreparedScript, v8Runtime.prepare("return a + b;", "a", "b"));
+            assertEquals(1, v8Runtime.getPreparedScriptCount());
+            assertEquals(0, v8Runtime.getReferenceCount());
+            assertEquals(3, iV8PreparedScript.invokeInteger(1, 2));
+            assertEquals(1.5D, iV8PreparedScript.invokeDouble(1, 0.5D), 0.001D);
+            assertEquals("x1", iV8PreparedScript.invokeString("x", 1));
+            assertEquals(3L, iV8PreparedScript.invokeLong(1L, 2L));
+            iV8PreparedScript.invokeVoid(1, 2);
+            // The function is compiled again after the context reset.
+            v8Runtime.resetContext();
+            assertEquals(0, v8Runtime.getPreparedScriptCount());
+            assertEquals(5, iV8PreparedScript.invokeInteger(2, 3));
+            assertEquals(1, v8Runtime.getPreparedScriptCount());
+            // The least recently used prepared script is released once the cache is full.
+            v8Runtime.setPreparedScriptCacheSize(1);
+            IV8PreparedScript anotherIV8PreparedScript = v8Runtime.prepare("return !a;", "a");
+            assertTrue(anotherIV8PreparedScript.invokeBoolean(false));
+            assertEquals(1, v8Runtime.getPreparedScriptCount());
+            assertEquals(7, iV8PreparedScript.invokeInteger(3, 4));
+            assertEquals(1, v8Runtime.getPreparedScriptCount());
+            try {
+                v8Runtime.prepare("return a +;", "a");
+                fail("Failed to report compilation error.");
+            } catch (JavetCompilationException e) {
+                assertEquals(1, e.getError().getLineNumber());
+            }
+            assertThrows(JavetConverterException.class, () -> v8Runtime.prepare("}) && 1 || ({"),
+                    "Prepared script evaluated to a non-function should be rejected.");
+            assertEquals(0, v8Runtime.getReferenceCount());
+            // The errors propagate and the V8 values passed in are kept open.
+            IV8PreparedScript throwingIV8PreparedScript = v8Runtime.prepare("throw new Error(a.x);", "a");
+            try (V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject()) {
+                v8ValueObject.set("x", new V8ValueString("test"));
+                try {
+                    throwingIV8PreparedScript.invokeInteger(v8ValueObject);
+                    fail("Failed to report execution error.");
+                } catch (JavetExecutionException e) {
+                    assertEquals("Error: test", e.getError().getMessage());
+                }
+                assertEquals("test", v8ValueObject.getString("x"));
+                assertEquals(1, v8Runtime.getReferenceCount());
+            }
+            // The result that is not a primitive is mapped to null.
+            assertNull(v8Runtime.prepare("return {a};", "a").invokeInteger(1));
+            assertEquals(0, v8Runtime.getReferenceCount());
+            // The prepared scripts are not cached if the cache size is 0.
+            v8Runtime.setPreparedScriptCacheSize(0);
+            assertEquals(0, v8Runtime.getPreparedScriptCount());
+            assertEquals(9, iV8PreparedScript.invokeInteger(4, 5));
+            assertEquals(0, v8Runtime.getPreparedScriptCount());
+            IV8PreparedScript uncachedIV8PreparedScript = v8Runtime.prepare("return a * 2;", "a");
+            assertEquals(0, v8Runtime.getPreparedScriptCount());
+            assertEquals(4, uncachedIV8PreparedScript.invokeInteger(2));
+            assertEquals(0, v8Runtime.getPreparedScriptCount());
+            assertEquals(0, v8Runtime.getReferenceCount());
+        }
+    }
+
+    @Test
+    public void testReferenceAutoRelease() throws Exception {
+        try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
+            v8Runtime.setReferenceAutoReleaseEnabled(true);
+            v8Runtime.setReferenceLeakTraceEnabled(true);
+            final int leakedReferenceCount = 100;
+            for (int i = 0; i < leakedReferenceCount; ++i) {
+                v8Runtime.createV8ValueObject();
+            }
+            try (V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject()) {
+                assertEquals(leakedReferenceCount + 1, v8Runtime.getReferenceCount());
+                runAndWait(10000, () -> {
+                    System.gc();
+                    v8Runtime.releaseLeakedReferences();
+                    return v8Runtime.getReferenceCount() == 1;
+                });
+                assertEquals(leakedReferenceCount, v8Runtime.getLeakedReferenceCount());
+                assertEquals(1, v8Runtime.getLeakedReferenceCallSites().size());
+            }
+            assertEquals(0, v8Runtime.getReferenceCount());
+        }
+    }
+
+    @Test
+    public void testReferenceAutoReleaseWithCallbackContext() throws Exception {
+        try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
+            v8Runtime.setReferenceAutoReleaseEnabled(true);
+            final int jniGlobalRefCount = v8Runtime.getJNIGlobalRefCount();
+            MockCallbackReceiver mockCallbackReceiver = new MockCallbackReceiver(v8Runtime);
+            // The callback function is leaked without being closed.
+            v8Runtime.createV8ValueFunction(new JavetCallbackContext(
+                    mockCallbackReceiver, mockCallbackReceiver.getMethod("blank")));
+            assertEquals(jniGlobalRefCount + 1, v8Runtime.getJNIGlobalRefCount());
+            System.gc();
+            v8Runtime.releaseLeakedReferences();
+            // The function is held until the JNI global ref of its callback context is released.
+            assertEquals(1, v8Runtime.getReferenceCount());
+            assertEquals(0, v8Runtime.getLeakedReferenceCount());
+            v8Runtime.resetContext();
+            assertEquals(0, v8Runtime.getReferenceCount());
+            assertEquals(jniGlobalRefCount, v8Runtime.getJNIGlobalRefCount());
+        }
+    }
+
+    @Test
+    public void testScope() throws JavetException {
+        try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
+            V8ValueObject promotedObject;
+            try (V8Scope outerScope = v8Runtime.openScope()) {
+                try (V8Scope innerScope = v8Runtime.openScope()) {
+                    for (int i = 0; i < 10; ++i) {
+                        v8Runtime.createV8ValueObject();
+                    }
+                    v8Runtime.createV8ValueObject().close();
+                    promotedObject = innerScope.promote(v8Runtime.createV8ValueObject());
+                    promotedObject.set("a", new V8ValueString("1"));
+                    assertEquals(11, v8Runtime.getReferenceCount());
+                }
+                assertEquals(1, v8Runtime.getReferenceCount());
+                assertEquals("1", promotedObject.getString("a"));
+            }
+            assertEquals(0, v8Runtime.getReferenceCount());
+            assertEquals(0L, promotedObject.getHandle());
+        }
+    }
+
     @Test
     public void testResetContext() throws JavetException {
         try (V8Runtime v8Runtime = v8Host.createV8Runtime("window")) {
@@ -131,4 +353,80 @@ public class TestV8Runtime extends BaseTestJavet {
                     "V8 runtime should still be able to execute script after being terminated.");
         }
     }
+
+    @Test
+    public void testUnboundScriptCache() throws JavetException {
+        final String codeString = "var a = (a || 0) + 1; a;";
+        try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
+            v8Runtime.setUnboundScriptCacheSize(1024);
+            assertEquals(1, v8Runtime.getExecutor(codeString).executeInteger());
+            assertEquals(2, v8Runtime.getExecutor(codeString).executeInteger());
+            assertEquals(1, v8Runtime.getUnboundScriptCount());
+            assertEquals(1, v8Runtime.getUnboundScriptHitCount());
+            assertEquals(codeString.length() * 2L, v8Runtime.getUnboundScriptCacheUsage());
+            // The unbound script survives the context reset.
+            v8Runtime.resetContext();
+            assertEquals(1, v8Runtime.getExecutor(codeString).executeInteger());
+            assertEquals(1, v8Runtime.getUnboundScriptCount());
+            assertEquals(2, v8Runtime.getStatistics().getUnboundScriptHitCount());
+            // The resource name is part of the key.
+            assertEquals(2, v8Runtime.getExecutor(codeString).setResourceName("test.js").executeInteger());
+            assertEquals(2, v8Runtime.getUnboundScriptCount());
+            // The least recently used script is evicted once the byte budget is exceeded.
+            v8Runtime.setUnboundScriptCacheSize(codeString.length() * 2L);
+            assertEquals(1, v8Runtime.getUnboundScriptCount());
+            assertEquals(codeString.length() * 2L, v8Runtime.getUnboundScriptCacheUsage());
+            try {
+                v8Runtime.getExecutor("a b c").executeVoid();
+                fail("Failed to report compilation error.");
+            } catch (JavetCompilationException e) {
+                assertEquals(1, v8Runtime.getUnboundScriptCount());
+            }
+            v8Runtime.resetIsolate();
+            assertEquals(0, v8Runtime.getUnboundScriptCount());
+            assertEquals(0, v8Runtime.getUnboundScriptCacheUsage());
+        }
+    }
+
+    @Test
+    public void testWrapperRecycling() throws JavetException {
+        try (V8Runtime v8Runtime = v8Host.createV8Runtime()) {
+            v8Runtime.setWrapperRecyclingEnabled(true);
+            V8ValueObject recycledV8ValueObject;
+            try (V8ValueObject v8ValueObject = v8Runtime.getExecutor("({a: 1})").execute()) {
+                recycledV8ValueObject = v8ValueObject;
+            }
+            assertEquals(1, v8Runtime.getStatistics().getRecycledWrapperCount());
+            try (V8ValueObject v8ValueObject = v8Runtime.getExecutor("({b: 2})").execute()) {
+                assertSame(recycledV8ValueObject, v8ValueObject);
+                assertEquals(2, v8ValueObject.getInteger("b"));
+                assertEquals(1, v8Runtime.getReferenceCount());
+            }
+            V8ValueString closedV8ValueString;
+            try (V8ValueString v8ValueString = v8Runtime.getExecutor("'a'").execute()) {
+                closedV8ValueString = v8ValueString;
+            }
+            try (V8ValueString v8ValueString = v8Runtime.getExecutor("'b'").execute()) {
+                assertNotSame(closedV8ValueString, v8ValueString);
+            }
+            assertEquals("a", closedV8ValueString.getValue(), "Primitive wrappers should not be recycled.");
+            assertEquals(1, v8Runtime.getStatistics().getRecycledWrapperCount());
+            try (V8Scope v8Scope = v8Runtime.openScope()) {
+                assertSame(recycledV8ValueObject, v8Runtime.getExecutor("({d: 4})").execute());
+            }
+            assertEquals(0, v8Runtime.getStatistics().getRecycledWrapperCount(),
+                    "Force closed wrappers should not be recycled.");
+            JavetResourceUtils.safeClose((Object) v8Runtime.getExecutor("({e: 5})").execute());
+            assertEquals(0, v8Runtime.getStatistics().getRecycledWrapperCount(),
+                    "Wrappers closed by the framework should not be recycled.");
+            V8RuntimeStatistics v8RuntimeStatistics = v8Runtime.getStatistics();
+            assertEquals(2, v8RuntimeStatistics.getWrapperReusedCount());
+            assertTrue(v8RuntimeStatistics.getWrapperAllocationRate() < 1D);
+            v8Runtime.setWrapperRecyclingEnabled(false);
+            assertEquals(0, v8Runtime.getStatistics().getRecycledWrapperCount());
+            try (V8ValueObject v8ValueObject = v8Runtime.getExecutor("({c: 3})").execute()) {
+                assertNotSame(recycledV8ValueObject, v8ValueObject);
+            }
+        }
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.caoccao.javet.interop.cache;
+
+import com.caoccao.javet.exceptions.JavetException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavetScriptSourceCache {
+    private JavetScriptSourceCache cache;
+    private Path directory;
+    private Path scriptPath;
+
+    @AfterEach
+    public void afterEach() throws JavetException, IOException {
+        cache.setWatchEnabled(false);
+        Files.deleteIfExists(scriptPath);
+        Files.deleteIfExists(directory);
+    }
+
+    @BeforeEach
+    public void beforeEach() throws IOException {
+        cache = new JavetScriptSourceCache();
+        directory = Files.createTempDirectory("javet-script-source-cache");
+        scriptPath = directory.resolve("test.js");
+        Files.write(scriptPath, "1 + 1;".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testGet() throws JavetException, IOException {
+        String scriptString = cache.get(scriptPath);
+        assertEquals("1 + 1;", scriptString);
+        assertSame(scriptString, cache.get(scriptPath));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(scriptString.length() * 2L, cache.getSize());
+        // The changed file is read again.
+        Files.write(scriptPath, "2 + 22;".getBytes(StandardCharsets.UTF_8));
+        assertEquals("2 + 22;", cache.get(scriptPath));
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getCount());
+        // The multi-byte characters are decoded once from the whole file.
+        Files.write(scriptPath, "'\u4e2d\u6587' + 1;".getBytes(StandardCharsets.UTF_8));
+        cache.clear();
+        assertEquals("'\u4e2d\u6587' + 1;", cache.get(scriptPath));
+        // The empty file is read.
+        Files.write(scriptPath, new byte[0]);
+        cache.clear();
+        assertEquals("", cache.get(scriptPath));
+        Files.write(scriptPath, "2 + 22;".getBytes(StandardCharsets.UTF_8));
+        cache.clear();
+        assertEquals("2 + 22;", cache.get(scriptPath));
+        // The cache is trimmed to the max size.
+        cache.setMaxSize(1);
+        assertEquals(0, cache.getCount());
+        assertEquals(0, cache.getSize());
+        assertEquals("2 + 22;", cache.get(scriptPath));
+        assertEquals(0, cache.getCount());
+    }
+
+    @Test
+    public void testWatch() throws JavetException, IOException, InterruptedException {
+        cache.setWatchEnabled(true);
+        assertTrue(cache.isWatchEnabled());
+        assertEquals("1 + 1;", cache.get(scriptPath));
+        assertEquals("1 + 1;", cache.get(scriptPath));
+        assertEquals(1, cache.getHitCount());
+        Files.write(scriptPath, "3 + 333;".getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < 100 && cache.getCount() > 0; ++i) {
+            Thread.sleep(100);
+        }
+        assertEquals(0, cache.getCount());
+        assertEquals("3 + 333;", cache.get(scriptPath));
+        cache.setWatchEnabled(false);
+        assertFalse(cache.isWatchEnabled());
+    }
+
+    @Test
+    public void testWatchedDirectoryCount() throws JavetException {
+        cache.setWatchEnabled(true);
+        assertEquals(0, cache.getWatchedDirectoryCount());
+        assertEquals("1 + 1;", cache.get(scriptPath));
+        assertEquals(1, cache.getWatchedDirectoryCount());
+        // The directory is no longer watched once its last entry is gone.
+        cache.invalidate(scriptPath);
+        assertEquals(0, cache.getWatchedDirectoryCount());
+        assertEquals("1 + 1;", cache.get(scriptPath));
+        assertEquals(1, cache.getWatchedDirectoryCount());
+        cache.setMaxSize(1);
+        assertEquals(0, cache.getCount());
+        assertEquals(0, cache.getWatchedDirectoryCount());
+        assertEquals("1 + 1;", cache.get(scriptPath));
+        assertEquals(0, cache.getWatchedDirectoryCount());
+        cache.setMaxSize(JavetScriptSourceCache.DEFAULT_MAX_SIZE);
+        // The directories beyond the limit fall back to the validation on every hit.
+        cache.setMaxWatchedDirectoryCount(0);
+        assertEquals("1 + 1;", cache.get(scriptPath));
+        assertEquals("1 + 1;", cache.get(scriptPath));
+        assertEquals(1, cache.getCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getWatchedDirectoryCount());
+        cache.setMaxWatchedDirectoryCount(JavetScriptSourceCache.DEFAULT_MAX_WATCHED_DIRECTORY_COUNT);
+        assertEquals("1 + 1;", cache.get(scriptPath));
+        assertEquals(1, cache.getWatchedDirectoryCount());
+        cache.clear();
+        assertEquals(0, cache.getWatchedDirectoryCount());
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.caoccao.javet.interop.engine;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavetEngineAcquisitionQueue {
+    public static final int TEST_MAX_TIMEOUT = 5000;
+    private JavetEngineConfig config;
+    private JavetEngineAcquisitionQueue queue;
+    private List<String> servedNames;
+    private List<Thread> threads;
+
+    @AfterEach
+    public void afterEach() throws InterruptedException {
+        queue.close();
+        for (Thread thread : threads) {
+            thread.join(TEST_MAX_TIMEOUT);
+            assertFalse(thread.isAlive(), "Waiter " + thread.getName() + " should quit.");
+        }
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        config = new JavetEngineConfig();
+        queue = new JavetEngineAcquisitionQueue(config, 0);
+        servedNames = Collections.synchronizedList(new ArrayList<>());
+        threads = new ArrayList<>();
+    }
+
+    private void releaseOneByOne(int count) {
+        for (int i = 1; i <= count; ++i) {
+            queue.release();
+            final int servedCount = i;
+            waitUntil(() -> servedNames.size() == servedCount);
+        }
+    }
+
+    /**
+     * Starts a waiter and waits until it is either served or parked in the queue.
+     *
+     * @param name     the name
+     * @param tenant   the tenant
+     * @param priority the priority
+     * @return the thread
+     */
+    private Thread startWaiter(String name, String tenant, JavetEnginePriority priority) {
+        final int waiterCount = queue.getWaiterCount();
+        final int servedCount = servedNames.size();
+        Thread thread = new Thread(() -> {
+            try {
+                if (queue.acquire(tenant, priority, -1)) {
+                    servedNames.add(name);
+                }
+            } catch (InterruptedException ignored) {
+            }
+        }, name);
+        threads.add(thread);
+        thread.start();
+        waitUntil(() -> queue.getWaiterCount() > waiterCount || servedNames.size() > servedCount);
+        return thread;
+    }
+
+    @Test
+    public void testClose() throws InterruptedException {
+        startWaiter("high", null, JavetEnginePriority.High);
+        startWaiter("normal", "a", JavetEnginePriority.Normal);
+        startWaiter("low", null, JavetEnginePriority.Low);
+        assertEquals(3, queue.getWaiterCount());
+        queue.close();
+        assertTrue(queue.isClosed());
+        for (Thread thread : threads) {
+            thread.join(TEST_MAX_TIMEOUT);
+            assertFalse(thread.isAlive(), "Waiter " + thread.getName() + " should be woken up.");
+        }
+        assertTrue(servedNames.isEmpty(), "Closed queue shouldn't serve any waiter.");
+        assertEquals(0, queue.getWaiterCount());
+        assertFalse(queue.acquire(null, JavetEnginePriority.High, -1));
+        assertFalse(queue.tryAcquire());
+    }
+
+    @Test
+    public void testFifoWithinPriority() {
+        startWaiter("a", null, JavetEnginePriority.Normal);
+        startWaiter("b", null, JavetEnginePriority.Normal);
+        startWaiter("c", null, JavetEnginePriority.Normal);
+        assertEquals(3, queue.getWaiterCount());
+        releaseOneByOne(3);
+        assertEquals(Arrays.asList("a", "b", "c"), servedNames);
+        assertEquals(0, queue.getWaiterCount());
+    }
+
+    @Test
+    public void testInterrupt() throws InterruptedException {
+        AtomicBoolean interrupted = new AtomicBoolean(false);
+        Thread thread = new Thread(() -> {
+            try {
+                queue.acquire(null, JavetEnginePriority.Normal, -1);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        threads.add(thread);
+        thread.start();
+        waitUntil(() -> queue.getWaiterCount() == 1);
+        thread.interrupt();
+        thread.join(TEST_MAX_TIMEOUT);
+        assertTrue(interrupted.get());
+        assertEquals(0, queue.getWaiterCount());
+        // The permit must not be handed over to the interrupted waiter.
+        queue.release();
+        assertTrue(queue.tryAcquire());
+        assertEquals(0, queue.availablePermits());
+    }
+
+    @Test
+    public void testPriority() {
+        startWaiter("low", null, JavetEnginePriority.Low);
+        startWaiter("normal", null, JavetEnginePriority.Normal);
+        startWaiter("high", null, JavetEnginePriority.High);
+        assertEquals(3, queue.getWaiterCount());
+        releaseOneByOne(3);
+        assertEquals(Arrays.asList("high", "normal", "low"), servedNames);
+    }
+
+    @Test
+    public void testTenantAtQuota() {
+        config.setTenantMaxEngineCount("a", 1);
+        queue.release(2);
+        startWaiter("a1", "a", JavetEnginePriority.High);
+        assertEquals(Collections.singletonList("a1"), servedNames);
+        assertEquals(1, queue.getTenantEngineCount("a"));
+        // Tenant a is at quota, so the second waiter keeps its position without taking the permit.
+        startWaiter("a2", "a", JavetEnginePriority.High);
+        assertEquals(1, queue.getWaiterCount());
+        assertEquals(1, queue.availablePermits());
+        // Tenant b is not blocked by the waiter of tenant a ahead of it.
+        startWaiter("b1", "b", JavetEnginePriority.Low);
+        waitUntil(() -> servedNames.size() == 2);
+        assertEquals(Arrays.asList("a1", "b1"), servedNames);
+        assertEquals(1, queue.getWaiterCount());
+        assertEquals(0, queue.availablePermits());
+        // Tenant a gets the next permit after it releases its quota.
+        queue.releaseTenant("a");
+        assertEquals(1, queue.getWaiterCount());
+        queue.release();
+        waitUntil(() -> servedNames.size() == 3);
+        assertEquals(Arrays.asList("a1", "b1", "a2"), servedNames);
+        assertEquals(0, queue.getWaiterCount());
+        assertEquals(1, queue.getTenantEngineCount("a"));
+        assertEquals(1, queue.getTenantEngineCount("b"));
+    }
+
+    @Test
+    public void testTimeout() throws InterruptedException {
+        final long startNanos = System.nanoTime();
+        assertFalse(queue.acquire(null, JavetEnginePriority.Normal, TimeUnit.MILLISECONDS.toNanos(50)));
+        assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(0, queue.getWaiterCount());
+        assertFalse(queue.acquire(null, JavetEnginePriority.Normal, 0));
+        assertEquals(0, queue.getWaiterCount());
+        // The permit must not be handed over to the timed out waiter.
+        queue.release();
+        assertTrue(queue.tryAcquire());
+        assertEquals(0, queue.availablePermits());
+    }
+
+    private void waitUntil(BooleanSupplier condition) {
+        final long deadline = System.currentTimeMillis() + TEST_MAX_TIMEOUT;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Condition is not met in " + TEST_MAX_TIMEOUT + "ms.");
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(1);
+            } catch (InterruptedException e) {
+                fail(e);
+            }
+        }
+    }
+}
@@ -30,6 +30,26 @@ import java.time.ZonedDateTime;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TestJavetEngineGuard extends BaseTestJavetPool {
+    @Test
+    public void testSharedConfig() throws JavetException {
+        // Closing another pool sharing the config doesn't disarm the guards of this pool.
+        try (JavetEnginePool<V8Runtime> anotherJavetEnginePool = new JavetEnginePool<>(javetEnginePool.getConfig())) {
+            try (IJavetEngine<V8Runtime> iJavetEngine = anotherJavetEnginePool.getEngine();
+                 IJavetEngineGuard iJavetEngineGuard = iJavetEngine.getGuard(10000)) {
+                assertEquals(2, iJavetEngine.getV8Runtime().getExecutor("1 + 1").executeInteger());
+            }
+        }
+        try (IJavetEngine iJavetEngine = javetEnginePool.getEngine()) {
+            V8Runtime v8Runtime = iJavetEngine.getV8Runtime();
+            try (IJavetEngineGuard iJavetEngineGuard = iJavetEngine.getGuard(1)) {
+                v8Runtime.getExecutor("while (true) {}").executeVoid();
+                fail("Failed to terminate the execution.");
+            } catch (JavetTerminatedException e) {
+                assertFalse(e.isContinuable());
+            }
+        }
+    }
+
     @Test
     public void testWithoutTermination() throws JavetException {
         final long timeoutMillis = 10000;
@@ -0,0 +1,72 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.interop.engine;
+
+import com.caoccao.javet.BaseTestJavet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavetEngineGuardScheduler extends BaseTestJavet {
+    public static final int TEST_MAX_TIMEOUT = 1000;
+    private JavetEngineGuardScheduler scheduler;
+
+    @AfterEach
+    private void afterEach() {
+        scheduler.close();
+        assertTrue(scheduler.isQuitting());
+    }
+
+    @BeforeEach
+    private void beforeEach() {
+        scheduler = new JavetEngineGuardScheduler(logger);
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        AtomicInteger count = new AtomicInteger(0);
+        JavetEngineGuardScheduler.Timeout timeout = scheduler.schedule(count::incrementAndGet, 10, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        TimeUnit.MILLISECONDS.sleep(50);
+        assertEquals(0, count.get());
+        assertFalse(timeout.isExpired());
+    }
+
+    @Test
+    public void testExpire() throws Exception {
+        final int timeoutCount = 1000;
+        AtomicInteger count = new AtomicInteger(0);
+        JavetEngineGuardScheduler.Timeout[] timeouts = new JavetEngineGuardScheduler.Timeout[timeoutCount];
+        for (int i = 0; i < timeoutCount; ++i) {
+            // Some of the timeouts wrap around the wheel more than once.
+            timeouts[i] = scheduler.schedule(count::incrementAndGet, i % 3 == 0 ? i * 2 : i % 10, TimeUnit.MILLISECONDS);
+        }
+        runAndWait(TEST_MAX_TIMEOUT * 5, () -> count.get() == timeoutCount);
+        for (JavetEngineGuardScheduler.Timeout timeout : timeouts) {
+            assertTrue(timeout.isExpired());
+            assertFalse(timeout.cancel());
+        }
+    }
+}
@@ -18,14 +18,21 @@
 package com.caoccao.javet.interop.engine;
 
 import com.caoccao.javet.BaseTestJavet;
+import com.caoccao.javet.exceptions.JavetEnginePoolException;
 import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.exceptions.JavetNotSupportedException;
 import com.caoccao.javet.interop.V8Runtime;
 import com.caoccao.javet.interop.executors.IV8Executor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -52,6 +59,159 @@ public class TestJavetEnginePool extends BaseTestJavet {
         javetEngineConfig.setPoolDaemonCheckIntervalMillis(TEST_POOL_DAEMON_CHECK_INTERVAL_MILLIS);
     }
 
+    @Test
+    public void testPreWarm() throws Exception {
+        JavetEngineConfig config = new JavetEngineConfig();
+        config.setJSRuntimeType(v8Host.getJSRuntimeType());
+        config.setPoolPreWarmEnabled(true);
+        config.getWarmUpScripts().add("var a = 1;");
+        config.setWarmUpConsumer(iJavetEngine -> iJavetEngine.getV8Runtime().getExecutor("a += 1;").executeVoid());
+        try (JavetEnginePool<V8Runtime> preWarmedEnginePool = new JavetEnginePool<>(config)) {
+            runAndWait(TEST_MAX_TIMEOUT, () -> config.getPoolMinSize() == preWarmedEnginePool.getIdleEngineCount());
+            assertEquals(0, preWarmedEnginePool.getActiveEngineCount());
+            try (IJavetEngine<V8Runtime> engine = preWarmedEnginePool.getEngine()) {
+                assertEquals(2, engine.getV8Runtime().getExecutor("a").executeInteger());
+            }
+        }
+    }
+
+    @Test
+    public void testSnapshotBlob() throws Exception {
+        if (!v8Host.getJSRuntimeType().isV8()) {
+            return;
+        }
+        JavetEngineConfig config = new JavetEngineConfig();
+        config.setJSRuntimeType(v8Host.getJSRuntimeType());
+        assertThrows(JavetNotSupportedException.class, () -> config.setSnapshotBlob(new byte[]{1, 2, 3}),
+                "Invalid snapshot blob should be rejected by the config.");
+        assertNull(config.getSnapshotBlob());
+        config.setSnapshotBlob(v8Host.createV8SnapshotBuilder().addScript("var a = 1;").build());
+        try (JavetEnginePool<V8Runtime> pool = new JavetEnginePool<>(config)) {
+            try (IJavetEngine<V8Runtime> engine = pool.getEngine()) {
+                assertEquals(1, engine.getV8Runtime().getExecutor("a").executeInteger());
+            }
+        }
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+        JavetEnginePoolStatistics statistics = javetEnginePool.getStatistics();
+        assertEquals(0, statistics.getAcquiredEngineCount());
+        assertEquals(0, statistics.getCreatedEngineCount());
+        try (IJavetEngine engine = javetEnginePool.getEngine()) {
+            assertEquals(2, engine.getV8Runtime().getExecutor("1 + 1").executeInteger());
+        }
+        try (IJavetEngine engine = javetEnginePool.getEngine()) {
+            assertEquals(1, javetEnginePool.getStatistics().getActiveEngineCount());
+        }
+        statistics = javetEnginePool.getStatistics();
+        assertEquals(2, statistics.getAcquiredEngineCount());
+        assertEquals(1, statistics.getCreatedEngineCount());
+        assertEquals(0, statistics.getAcquireTimeoutCount());
+        assertEquals(0, statistics.getActiveEngineCount());
+        assertEquals(1, statistics.getIdleEngineCount());
+        assertEquals(2, statistics.getEngineExecutionTime().getCount());
+        assertTrue(statistics.getEngineCreationTime().getMaxNanos() > 0);
+        assertTrue(statistics.getEngineExecutionTime().getPercentileNanos(99)
+                <= statistics.getEngineExecutionTime().getMaxNanos());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSubmit() throws Exception {
+        final int taskCount = 100;
+        CompletableFuture<Integer>[] futures = new CompletableFuture[taskCount];
+        for (int i = 0; i < taskCount; ++i) {
+            final int value = i;
+            futures[i] = javetEnginePool.submit(v8Runtime -> v8Runtime.getExecutor(value + " + 1").executeInteger());
+        }
+        for (int i = 0; i < taskCount; ++i) {
+            assertEquals(i + 1, futures[i].get(TEST_MAX_TIMEOUT * 10, TimeUnit.MILLISECONDS));
+        }
+        CompletableFuture<Integer> future = javetEnginePool.submit(
+                v8Runtime -> v8Runtime.getExecutor("a b c").executeInteger());
+        assertThrows(Exception.class, () -> future.get(TEST_MAX_TIMEOUT, TimeUnit.MILLISECONDS));
+        runAndWait(TEST_MAX_TIMEOUT, () -> javetEnginePool.getActiveEngineCount() == 0);
+    }
+
+    @Test
+    public void testTenantMaxEngineCount() throws Exception {
+        JavetEngineConfig config = new JavetEngineConfig();
+        config.setPoolMinSize(2);
+        config.setJSRuntimeType(v8Host.getJSRuntimeType());
+        config.setPoolMaxSize(2);
+        config.setTenantMaxEngineCount("batch", 1);
+        try (JavetEnginePool<V8Runtime> pool = new JavetEnginePool<>(config)) {
+            try (IJavetEngine<V8Runtime> batchEngine = pool.getEngine(
+                    "batch", JavetEnginePriority.Low, TEST_MAX_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                assertThrows(JavetEnginePoolException.class, () -> pool.getEngine(
+                        "batch", JavetEnginePriority.Low, 10, TimeUnit.MILLISECONDS));
+                try (IJavetEngine<V8Runtime> onlineEngine = pool.getEngine(
+                        "online", JavetEnginePriority.High, TEST_MAX_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                    assertNotSame(batchEngine, onlineEngine);
+                    assertEquals(2, pool.getActiveEngineCount());
+                }
+            }
+            try (IJavetEngine<V8Runtime> batchEngine = pool.getEngine(
+                    "batch", JavetEnginePriority.Low, TEST_MAX_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                assertEquals("batch", ((JavetEngine<V8Runtime>) batchEngine).getTenant());
+            }
+        }
+    }
+
+    @Test
+    public void testThreadAffinity() throws Exception {
+        JavetEngineConfig config = new JavetEngineConfig();
+        config.setPoolMinSize(2);
+        config.setJSRuntimeType(v8Host.getJSRuntimeType());
+        config.setPoolMaxSize(2);
+        config.setPoolThreadAffinityEnabled(true);
+        try (JavetEnginePool<V8Runtime> pool = new JavetEnginePool<>(config)) {
+            IJavetEngine<V8Runtime> engine = pool.getEngine();
+            engine.close();
+            assertEquals(1, pool.getIdleEngineCount());
+            try (IJavetEngine<V8Runtime> sameEngine = pool.getEngine()) {
+                assertSame(engine, sameEngine, "The engine parked by the thread should be returned.");
+            }
+            AtomicReference<IJavetEngine<V8Runtime>> stolenEngine = new AtomicReference<>();
+            Thread thread = new Thread(() -> {
+                try (IJavetEngine<V8Runtime> iJavetEngine = pool.getEngine()) {
+                    stolenEngine.set(iJavetEngine);
+                } catch (JavetException e) {
+                    logger.logError(e, e.getMessage());
+                }
+            });
+            thread.start();
+            thread.join();
+            assertSame(engine, stolenEngine.get(), "The parked engine should be stolen.");
+            assertEquals(0, pool.getActiveEngineCount());
+            assertEquals(1, pool.getIdleEngineCount());
+        }
+    }
+
+    @Test
+    public void testSuppliedExecutorService() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            JavetEngineConfig config = new JavetEngineConfig();
+            config.setJSRuntimeType(v8Host.getJSRuntimeType());
+            config.setExecutorService(executorService);
+            AtomicInteger threadCount = new AtomicInteger(0);
+            config.setThreadFactory(runnable -> {
+                threadCount.incrementAndGet();
+                return new Thread(runnable);
+            });
+            try (JavetEnginePool<V8Runtime> pool = new JavetEnginePool<>(config)) {
+                assertEquals(2, pool.submit(v8Runtime -> v8Runtime.getExecutor("1 + 1").executeInteger())
+                        .get(TEST_MAX_TIMEOUT, TimeUnit.MILLISECONDS));
+            }
+            assertEquals(2, threadCount.get(), "Only the daemon and the guard scheduler should be created.");
+            assertFalse(executorService.isShutdown(), "Supplied executor service should not be shut down.");
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     @Test
     public void testSingleThreadedExecution() throws Exception {
         assertEquals(0, javetEnginePool.getIdleEngineCount());
@@ -70,6 +230,65 @@ public class TestJavetEnginePool extends BaseTestJavet {
         assertEquals(0, javetEnginePool.getActiveEngineCount());
     }
 
+    @Test
+    public void testAdaptiveSizing() throws Exception {
+        AtomicInteger targetPoolSize = new AtomicInteger(1);
+        JavetEngineConfig config = new JavetEngineConfig();
+        config.setJSRuntimeType(v8Host.getJSRuntimeType());
+        config.setPoolDaemonCheckIntervalMillis(TEST_POOL_DAEMON_CHECK_INTERVAL_MILLIS);
+        config.setPoolMinSize(1);
+        config.setPoolMaxSize(3);
+        config.setPoolSizingIntervalMillis(1);
+        config.setPoolSizingPolicy(statistics -> targetPoolSize.get());
+        try (JavetEnginePool<V8Runtime> adaptiveEnginePool = new JavetEnginePool<>(config)) {
+            assertEquals(1, adaptiveEnginePool.getPoolSize());
+            targetPoolSize.set(10);
+            runAndWait(TEST_MAX_TIMEOUT, () -> adaptiveEnginePool.getPoolSize() == 3);
+            IJavetEngine[] engines = new IJavetEngine[3];
+            for (int i = 0; i < engines.length; ++i) {
+                engines[i] = adaptiveEnginePool.getEngine(TEST_MAX_TIMEOUT, TimeUnit.MILLISECONDS);
+            }
+            assertThrows(JavetEnginePoolException.class, () -> adaptiveEnginePool.getEngine(1, TimeUnit.MILLISECONDS));
+            targetPoolSize.set(0);
+            runAndWait(TEST_MAX_TIMEOUT, () -> adaptiveEnginePool.getPoolSize() == 1);
+            for (IJavetEngine engine : engines) {
+                engine.close();
+            }
+            runAndWait(TEST_MAX_TIMEOUT, () -> adaptiveEnginePool.getIdleEngineCount() == 1);
+            assertEquals(0, adaptiveEnginePool.getActiveEngineCount());
+            assertEquals(1, adaptiveEnginePool.getStatistics().getAcquireTimeoutCount());
+        }
+    }
+
+    @Test
+    public void testGetEngineWithTimeout() throws Exception {
+        final int poolMaxSize = javetEngineConfig.getPoolMaxSize();
+        IJavetEngine[] engines = new IJavetEngine[poolMaxSize];
+        for (int i = 0; i < poolMaxSize; ++i) {
+            engines[i] = javetEnginePool.getEngine(TEST_MAX_TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(poolMaxSize, javetEnginePool.getActiveEngineCount());
+        assertThrows(JavetEnginePoolException.class, () -> javetEnginePool.getEngine(1, TimeUnit.MILLISECONDS));
+        Thread thread = new Thread(() -> {
+            try {
+                engines[0].close();
+            } catch (JavetException e) {
+                logger.logError("Failed to close the engine. Error: {0}.", e.getMessage());
+            }
+        });
+        thread.start();
+        try (IJavetEngine engine = javetEnginePool.getEngine(TEST_MAX_TIMEOUT, TimeUnit.MILLISECONDS)) {
+            assertEquals(poolMaxSize, javetEnginePool.getActiveEngineCount());
+            assertEquals(2, engine.getV8Runtime().getExecutor("1 + 1").executeInteger());
+        }
+        thread.join();
+        for (int i = 1; i < poolMaxSize; ++i) {
+            engines[i].close();
+        }
+        assertEquals(poolMaxSize, javetEnginePool.getIdleEngineCount());
+        assertEquals(0, javetEnginePool.getActiveEngineCount());
+    }
+
     @Test
     public void testMultiThreadedExecutionBelowMaxSize() throws Exception {
         assertEquals(0, javetEnginePool.getIdleEngineCount());
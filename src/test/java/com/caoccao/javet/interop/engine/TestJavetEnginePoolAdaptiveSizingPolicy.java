@@ -0,0 +1,125 @@
+/*
+ *    Copyright 2021. caoccao.com Sam Cao
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ *
+ */
+
+package com.caoccao.javet.interop.engine;
+
+import com.caoccao.javet.utils.JavetLatencyHistogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestJavetEnginePoolAdaptiveSizingPolicy {
+    private static final long INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int POOL_SIZE = 4;
+    private static final int SHRINK_INTERVAL_COUNT = 3;
+    private long acquireTimeoutCount;
+    private JavetLatencyHistogram acquireWaitTime;
+    private JavetLatencyHistogram engineExecutionTime;
+    private MockPolicy policy;
+
+    @BeforeEach
+    public void beforeEach() {
+        acquireTimeoutCount = 0;
+        acquireWaitTime = new JavetLatencyHistogram();
+        engineExecutionTime = new JavetLatencyHistogram();
+        policy = new MockPolicy();
+    }
+
+    private int getTargetPoolSize() {
+        policy.nanos += INTERVAL_NANOS;
+        JavetLatencyHistogram.Snapshot emptySnapshot = new JavetLatencyHistogram().snapshot();
+        return policy.getTargetPoolSize(new JavetEnginePoolStatistics(
+                0, POOL_SIZE, 1, 16, POOL_SIZE,
+                0, acquireTimeoutCount, 0, 0, 0, 0,
+                acquireWaitTime.snapshot(), emptySnapshot, emptySnapshot, engineExecutionTime.snapshot()));
+    }
+
+    private void keepBusy() {
+        // 3 of 4 engines are busy for the whole interval.
+        for (int i = 0; i < 3; ++i) {
+            engineExecutionTime.record(INTERVAL_NANOS);
+        }
+    }
+
+    @Test
+    public void testGrow() {
+        acquireWaitTime.record(TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(POOL_SIZE + 1, getTargetPoolSize(), "Slow acquisition should grow the pool.");
+        assertEquals(POOL_SIZE, getTargetPoolSize(), "Idle interval shouldn't grow the pool.");
+        ++acquireTimeoutCount;
+        assertEquals(POOL_SIZE + 1, getTargetPoolSize(), "Acquisition timeout should grow the pool.");
+    }
+
+    @Test
+    public void testHold() {
+        for (int i = 0; i < SHRINK_INTERVAL_COUNT * 2; ++i) {
+            keepBusy();
+            assertEquals(POOL_SIZE, getTargetPoolSize(), "Busy pool should hold.");
+        }
+    }
+
+    @Test
+    public void testReset() {
+        acquireTimeoutCount = 10;
+        for (int i = 0; i < 100; ++i) {
+            acquireWaitTime.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        keepBusy();
+        assertEquals(POOL_SIZE + 1, getTargetPoolSize(), "Timeouts should grow the pool.");
+        // The statistics are reset, e.g. via JMX.
+        acquireTimeoutCount = 0;
+        acquireWaitTime.reset();
+        engineExecutionTime.reset();
+        for (int i = 0; i < SHRINK_INTERVAL_COUNT * 2; ++i) {
+            keepBusy();
+            assertEquals(POOL_SIZE, getTargetPoolSize(), "Reset statistics shouldn't shrink the pool.");
+        }
+        acquireWaitTime.record(TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(POOL_SIZE + 1, getTargetPoolSize(), "Policy should work again after the reset.");
+    }
+
+    @Test
+    public void testShrinkAfterIntervals() {
+        for (int i = 1; i < SHRINK_INTERVAL_COUNT; ++i) {
+            assertEquals(POOL_SIZE, getTargetPoolSize(), "Idle pool shouldn't shrink before the intervals pass.");
+        }
+        assertEquals(POOL_SIZE - 1, getTargetPoolSize(), "Idle pool should shrink by one.");
+        assertEquals(POOL_SIZE, getTargetPoolSize(), "Shrink counter should start over.");
+        keepBusy();
+        assertEquals(POOL_SIZE, getTargetPoolSize());
+        for (int i = 1; i < SHRINK_INTERVAL_COUNT; ++i) {
+            assertEquals(POOL_SIZE, getTargetPoolSize(), "Busy interval should restart the shrink counter.");
+        }
+        assertEquals(POOL_SIZE - 1, getTargetPoolSize());
+    }
+
+    private static class MockPolicy extends JavetEnginePoolAdaptiveSizingPolicy {
+        private long nanos;
+
+        private MockPolicy() {
+            super(DEFAULT_TARGET_ACQUIRE_WAIT_MILLIS, DEFAULT_SHRINK_UTILISATION, SHRINK_INTERVAL_COUNT);
+        }
+
+        @Override
+        protected long getCurrentNanos() {
+            return nanos;
+        }
+    }
+}
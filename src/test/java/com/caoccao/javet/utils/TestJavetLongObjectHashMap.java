@@ -0,0 +1,66 @@
+/*
+ *   Copyright (c) 2021. caoccao.com Sam Cao
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package com.caoccao.javet.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestJavetLongObjectHashMap {
+    @Test
+    public void testPutGetRemove() {
+        JavetLongObjectHashMap<String> map = new JavetLongObjectHashMap<>(2);
+        assertTrue(map.isEmpty());
+        assertNull(map.put(1L, "a"));
+        assertEquals("a", map.put(1L, "b"));
+        assertEquals("b", map.get(1L));
+        assertTrue(map.containsKey(1L));
+        assertFalse(map.containsKey(2L));
+        assertEquals("b", map.remove(1L));
+        assertNull(map.remove(1L));
+        assertEquals(0, map.size());
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, "a"));
+    }
+
+    @Test
+    public void testRandomOperations() {
+        JavetLongObjectHashMap<Long> map = new JavetLongObjectHashMap<>();
+        Map<Long, Long> expectedMap = new HashMap<>();
+        Random random = new Random(1);
+        for (int i = 0; i < 100000; ++i) {
+            // Aligned keys in a narrow range produce long probe sequences.
+            long key = ((random.nextInt(2048) + 1L) << 4);
+            if (random.nextBoolean()) {
+                assertEquals(expectedMap.put(key, key), map.put(key, key));
+            } else {
+                assertEquals(expectedMap.remove(key), map.remove(key));
+            }
+            assertEquals(expectedMap.size(), map.size());
+        }
+        for (Map.Entry<Long, Long> entry : expectedMap.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        assertEquals(expectedMap.size(), map.values().size());
+        map.clear();
+        assertTrue(map.isEmpty());
+    }
+}
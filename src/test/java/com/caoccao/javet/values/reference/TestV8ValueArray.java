@@ -19,6 +19,7 @@ package com.caoccao.javet.values.reference;
 
 import com.caoccao.javet.BaseTestJavetRuntime;
 import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.values.V8Value;
 import com.caoccao.javet.values.primitive.*;
 import org.junit.jupiter.api.Test;
 
@@ -29,6 +30,26 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TestV8ValueArray extends BaseTestJavetRuntime {
+    @Test
+    public void testCreateFromJavaArrays() throws JavetException {
+        try (V8ValueArray v8ValueArray = v8Runtime.createV8ValueArray(new int[]{1, 2, 3})) {
+            assertEquals("[1,2,3]", v8ValueArray.toJsonString());
+        }
+        try (V8ValueArray v8ValueArray = v8Runtime.createV8ValueArray(new double[]{1.5, 2})) {
+            assertEquals("[1.5,2]", v8ValueArray.toJsonString());
+        }
+        try (V8ValueArray v8ValueArray = v8Runtime.createV8ValueArray(new String[]{"a", null, "測試"})) {
+            assertEquals("[\"a\",null,\"測試\"]", v8ValueArray.toJsonString());
+        }
+        try (V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject();
+             V8ValueArray v8ValueArray = v8Runtime.createV8ValueArray(new Object[]{
+                     "a", v8Runtime.createV8ValueInteger(1), v8ValueObject, v8Runtime.createV8ValueNull()})) {
+            assertEquals("[\"a\",1,{},null]", v8ValueArray.toJsonString());
+            assertEquals(2, v8Runtime.getReferenceCount());
+        }
+        assertEquals(0, v8Runtime.getReferenceCount());
+    }
+
     @Test
     public void testForEach() throws JavetException {
         try (V8ValueArray v8ValueArray = v8Runtime.getExecutor("const a = new Array(0,1,2); a;").execute()) {
@@ -37,6 +58,20 @@ public class TestV8ValueArray extends BaseTestJavetRuntime {
                 assertEquals(count.getAndIncrement(), value.getValue());
             });
         }
+        final int length = V8ValueArray.FOR_EACH_BATCH_SIZE * 2 + 50;
+        try (V8ValueArray v8ValueArray = v8Runtime.getExecutor(
+                "Array.from({length: " + length + "}, (_, i) => ({i}));").execute()) {
+            AtomicInteger count = new AtomicInteger(0);
+            AtomicInteger maxReferenceCount = new AtomicInteger(0);
+            assertEquals(length, v8ValueArray.forEach((V8ValueObject value) -> {
+                assertEquals(count.getAndIncrement(), value.getInteger("i"));
+                maxReferenceCount.accumulateAndGet(v8Runtime.getReferenceCount(), Math::max);
+            }));
+            assertEquals(length, count.get());
+            // Only the handles of one chunk are alive at a time.
+            assertTrue(maxReferenceCount.get() <= V8ValueArray.FOR_EACH_BATCH_SIZE + 1);
+            assertEquals(1, v8Runtime.getReferenceCount());
+        }
     }
 
     @Test
@@ -113,6 +148,29 @@ public class TestV8ValueArray extends BaseTestJavetRuntime {
         }
     }
 
+    @Test
+    public void testToJavaArrays() throws JavetException {
+        try (V8ValueArray v8ValueArray = v8Runtime.getExecutor("[1, 'a', 2.5, {}, null]").execute()) {
+            assertArrayEquals(new int[]{1, 0, 2, 0, 0}, v8ValueArray.toIntArray());
+            assertArrayEquals(new double[]{1, 0, 2.5, 0, 0}, v8ValueArray.toDoubleArray(), 0.001);
+            assertArrayEquals(new String[]{null, "a", null, null, null}, v8ValueArray.toStringArray());
+            V8Value[] v8Values = v8ValueArray.toArray();
+            assertEquals(5, v8Values.length);
+            assertEquals(1, ((V8ValueInteger) v8Values[0]).getValue());
+            assertEquals("a", ((V8ValueString) v8Values[1]).getValue());
+            assertEquals(2.5, ((V8ValueDouble) v8Values[2]).getValue(), 0.001);
+            assertTrue(v8Values[3] instanceof V8ValueObject);
+            assertTrue(v8Values[4].isNull());
+            assertEquals(2, v8Runtime.getReferenceCount());
+            v8Values[3].close();
+        }
+        try (V8ValueArray v8ValueArray = v8Runtime.createV8ValueArray()) {
+            assertEquals(0, v8ValueArray.toArray().length);
+            assertEquals(0, v8ValueArray.toIntArray().length);
+        }
+        assertEquals(0, v8Runtime.getReferenceCount());
+    }
+
     @Test
     public void testPushPop() throws JavetException {
         try (V8ValueArray v8ValueArray = v8Runtime.getExecutor("[]").execute()) {
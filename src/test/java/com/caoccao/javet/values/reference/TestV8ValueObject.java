@@ -19,12 +19,17 @@ package com.caoccao.javet.values.reference;
 
 import com.caoccao.javet.BaseTestJavetRuntime;
 import com.caoccao.javet.exceptions.JavetException;
+import com.caoccao.javet.exceptions.JavetV8ValueAlreadyClosedException;
+import com.caoccao.javet.interop.V8PropertyKey;
+import com.caoccao.javet.interop.V8Runtime;
 import com.caoccao.javet.values.V8Value;
 import com.caoccao.javet.values.primitive.*;
 import org.junit.jupiter.api.Test;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -140,6 +145,97 @@ public class TestV8ValueObject extends BaseTestJavetRuntime {
             V8Value v8Value = v8ValueObject.getUndefined("b");
             assertNotNull(v8Value);
         }
+        V8ValueObject closedV8ValueObject = v8Runtime.createV8ValueObject();
+        closedV8ValueObject.close();
+        assertThrows(JavetV8ValueAlreadyClosedException.class, () -> closedV8ValueObject.get("a"));
+        assertThrows(JavetV8ValueAlreadyClosedException.class, () -> closedV8ValueObject.set("a", v8Runtime.createV8ValueNull()));
+        assertThrows(JavetV8ValueAlreadyClosedException.class, () -> closedV8ValueObject.delete("a"));
+        assertThrows(JavetV8ValueAlreadyClosedException.class, () -> closedV8ValueObject.hasOwnProperty("a"));
+        assertThrows(JavetV8ValueAlreadyClosedException.class, () -> closedV8ValueObject.setNull("a"));
+    }
+
+    @Test
+    public void testGetSetBatch() throws JavetException {
+        try (V8ValueObject v8ValueObject = v8Runtime.createV8ValueObject()) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            map.put("a", 1);
+            map.put("b", "x");
+            map.put("c", 1.5D);
+            map.put(3, true);
+            assertEquals(4, v8ValueObject.setBatch(map));
+            V8Value[] v8Values = v8ValueObject.getBatch("a", "b", "3", "$");
+            assertEquals(1, ((V8ValueInteger) v8Values[0]).getValue());
+            assertEquals("x", ((V8ValueString) v8Values[1]).getValue());
+            assertTrue(((V8ValueBoolean) v8Values[2]).getValue());
+            assertTrue(v8Values[3].isUndefined());
+            double[] doubleValues = new double[3];
+            v8ValueObject.getBatchDouble(new Object[]{"a", "c", "b"}, doubleValues);
+            assertArrayEquals(new double[]{1D, 1.5D, 0D}, doubleValues, 0.001);
+            int[] intValues = new int[2];
+            v8ValueObject.getBatchInt(new Object[]{"a", "c"}, intValues);
+            assertArrayEquals(new int[]{1, 1}, intValues);
+            V8ValueString key = new V8ValueString("b");
+            v8Values = new V8Value[1];
+            v8ValueObject.getBatch(new Object[]{key}, v8Values);
+            assertEquals("x", ((V8ValueString) v8Values[0]).getValue());
+            assertSame(v8Runtime, key.getV8Runtime());
+            assertEquals(1, v8Runtime.getReferenceCount());
+            // The V8 values in the map are kept open.
+            try (V8ValueObject childV8ValueObject = v8Runtime.createV8ValueObject()) {
+                map.clear();
+                map.put("child", childV8ValueObject);
+                map.put("d", 2);
+                assertEquals(2, v8ValueObject.setBatch(map));
+                assertEquals(2, v8Runtime.getReferenceCount());
+                childV8ValueObject.set("e", new V8ValueString("y"));
+                try (V8ValueObject v8ValueObjectChild = v8ValueObject.get("child")) {
+                    assertEquals("y", v8ValueObjectChild.getString("e"));
+                }
+                assertEquals(2, v8ValueObject.getInteger("d"));
+            }
+            assertEquals(1, v8Runtime.getReferenceCount());
+        }
+        try (V8ValueArray v8ValueArray = v8Runtime.getExecutor("[1, {}, 'a'];").execute()) {
+            V8Value[] v8Values = v8ValueArray.getBatch(2, 1, 0, 5);
+            assertEquals("a", ((V8ValueString) v8Values[0]).getValue());
+            assertTrue(v8Values[1] instanceof V8ValueObject);
+            assertEquals(1, ((V8ValueInteger) v8Values[2]).getValue());
+            assertTrue(v8Values[3].isUndefined());
+            assertEquals(2, v8Runtime.getReferenceCount());
+            v8Values[1].close();
+        }
+    }
+
+    @Test
+    public void testGetSetPrimitive() throws JavetException {
+        try (V8ValueObject v8ValueObject = v8Runtime.getExecutor("const a = {x: 'y', z: {}}; a;").execute()) {
+            assertTrue(v8ValueObject.setInt("i", 123));
+            assertTrue(v8ValueObject.setDouble("d", 1.23));
+            assertTrue(v8ValueObject.setBoolean("b", true));
+            assertTrue(v8ValueObject.setString("s", "測試"));
+            assertEquals(1, v8Runtime.getReferenceCount());
+            assertEquals(123, v8ValueObject.getPrimitiveInt("i"));
+            assertEquals(1, v8ValueObject.getPrimitiveInt("d"));
+            assertEquals(1.23, v8ValueObject.getPrimitiveDouble("d"), 0.001);
+            assertEquals(123D, v8ValueObject.getPrimitiveDouble("i"), 0.001);
+            assertTrue(v8ValueObject.getPrimitiveBoolean("b"));
+            assertEquals("測試", v8ValueObject.getPrimitiveString("s"));
+            assertEquals("測試", v8ValueObject.getString("s"));
+            assertEquals(0, v8ValueObject.getPrimitiveInt("x"));
+            assertEquals(0, v8ValueObject.getPrimitiveInt("$"));
+            assertFalse(v8ValueObject.getPrimitiveBoolean("x"));
+            assertNull(v8ValueObject.getPrimitiveString("i"));
+            assertNull(v8ValueObject.getPrimitiveString("z"));
+            assertEquals(1, v8Runtime.getReferenceCount());
+            assertEquals(
+                    "{\"x\":\"y\",\"z\":{},\"i\":123,\"d\":1.23,\"b\":true,\"s\":\"測試\"}",
+                    v8ValueObject.toJsonString());
+        }
+        try (V8ValueMap v8ValueMap = v8Runtime.createV8ValueMap()) {
+            assertTrue(v8ValueMap.setInt("a", 1));
+            assertEquals(1, v8ValueMap.getPrimitiveInt("a"));
+            assertEquals(1, v8ValueMap.getSize());
+        }
     }
 
     @Test
@@ -211,6 +307,45 @@ public class TestV8ValueObject extends BaseTestJavetRuntime {
         }
     }
 
+    @Test
+    public void testPropertyKey() throws JavetException {
+        assertEquals(0, v8Runtime.getPropertyKeyCacheSize(), "Property key cache should be opt-in.");
+        assertFalse(v8Runtime.createPropertyKey("a").isInternalized());
+        assertEquals(0, v8Runtime.getPropertyKeyCount());
+        v8Runtime.setPropertyKeyCacheSize(512);
+        try {
+            V8PropertyKey keyA = v8Runtime.createPropertyKey("a");
+            assertTrue(keyA.isInternalized());
+            assertSame(keyA, v8Runtime.createPropertyKey("a"));
+            try (V8ValueObject v8ValueObject = v8Runtime.getExecutor(
+                    "const x = {a: 1, b: 2, f: (v) => v + 1}; x;").execute()) {
+                assertEquals(1, ((V8ValueInteger) v8ValueObject.get(keyA)).getValue());
+                assertTrue(v8ValueObject.set(keyA, new V8ValueInteger(3)));
+                assertEquals(3, v8ValueObject.getInteger("a"));
+                assertTrue(v8ValueObject.hasOwnProperty("a"));
+                assertEquals(2, v8ValueObject.invokeInteger("f", new V8ValueInteger(1)));
+                assertTrue(v8Runtime.getPropertyKeyCount() >= 2);
+                v8Runtime.setPropertyKeyCacheSize(1);
+                assertEquals(1, v8Runtime.getPropertyKeyCount());
+                assertFalse(keyA.isInternalized());
+                assertEquals(3, ((V8ValueInteger) v8ValueObject.get(keyA)).getValue());
+                assertEquals(2, v8ValueObject.getInteger("b"));
+                v8Runtime.setPropertyKeyCacheSize(0);
+                assertEquals(0, v8Runtime.getPropertyKeyCount());
+                assertFalse(v8Runtime.createPropertyKey("b").isInternalized());
+                assertEquals(2, v8ValueObject.getInteger("b"));
+            }
+            v8Runtime.setPropertyKeyCacheSize(512);
+            V8PropertyKey keyC = v8Runtime.createPropertyKey("c");
+            assertTrue(keyC.isInternalized());
+            v8Runtime.resetIsolate();
+            assertFalse(keyC.isInternalized());
+            assertEquals(0, v8Runtime.getPropertyKeyCount());
+        } finally {
+            v8Runtime.setPropertyKeyCacheSize(V8Runtime.DEFAULT_PROPERTY_KEY_CACHE_SIZE);
+        }
+    }
+
     @Test
     public void testSetProperty() throws JavetException {
         ZonedDateTime now = ZonedDateTime.now();